@@ -0,0 +1,383 @@
+package com.example.api.accesslog;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Access log written off the request path.
+ *
+ * <p>Request threads only append a fixed-size record to an {@link AccessLogBuffer}; endpoints and
+ * methods are stored as indexes into tables, so logging a request allocates nothing once its
+ * endpoint has been seen. A single background thread drains the buffer in batches, formats the
+ * records and appends them to {@code access.log} in {@code api.access-log.directory}, rotating it
+ * to {@code access.log.1} and so on once it reaches {@code api.access-log.max-file-size-bytes}
+ * and keeping {@code api.access-log.max-files} files. When the buffer is full, requests either
+ * drop their record ({@code api.access-log.when-full=drop}, counted) or wait for room
+ * ({@code block}). An empty directory disables the log.</p>
+ *
+ * <p>Lines read {@code time client method endpoint status duration}, e.g.
+ * {@code 2024-05-01T12:00:00.123Z 10.0.0.7 GET /api/profile/projects/{id} 200 1.234ms}, where the
+ * endpoint is the matched route pattern, or {@code (unmatched)} if none matched, and the client
+ * is {@code -} for non-IPv4 addresses.</p>
+ */
+@Component
+public class AccessLog implements Closeable {
+
+    /** Name of the active log file. */
+    public static final String FILE_NAME = "access.log";
+
+    /** What a request does when the buffer is full. */
+    public enum WhenFull {
+        DROP, BLOCK
+    }
+
+    static final List<String> METHODS = List.of("OTHER", "GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS",
+            "TRACE");
+    /** Distinct endpoints tracked; later ones are logged as {@link #OTHER_ENDPOINT}. */
+    static final int MAX_ENDPOINTS = 4096;
+    static final String OTHER_ENDPOINT = "(other)";
+    /** Endpoint of requests that matched no route, whose URIs are never added to the table. */
+    static final String UNMATCHED_ENDPOINT = "(unmatched)";
+    private static final int BATCH = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Path directory;
+    private final AccessLogBuffer buffer;
+    private final WhenFull whenFull;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final long flushIntervalNanos;
+    private final Map<String, Integer> endpointIds = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<String> endpointNames = new AtomicReferenceArray<>(MAX_ENDPOINTS);
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final StringBuilder batch = new StringBuilder(BATCH * 96);
+    private final AccessLogBuffer.RecordHandler formatter = this::format;
+    private final Thread writer;
+    private Writer out;
+    /** Size of the current file in encoded bytes. */
+    private long fileSize;
+    private volatile boolean running;
+
+    public AccessLog(@Value("${api.access-log.directory:}") String directory,
+                     @Value("${api.access-log.capacity:8192}") int capacity,
+                     @Value("${api.access-log.when-full:drop}") String whenFull,
+                     @Value("${api.access-log.max-file-size-bytes:10485760}") long maxFileSize,
+                     @Value("${api.access-log.max-files:5}") int maxFiles,
+                     @Value("${api.access-log.flush-interval-ms:1000}") long flushIntervalMillis) throws IOException {
+        this.whenFull = WhenFull.valueOf(whenFull.toUpperCase(Locale.ROOT));
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        endpointNames.set(0, OTHER_ENDPOINT);
+        endpointIds.put(OTHER_ENDPOINT, 0);
+        endpointNames.set(1, UNMATCHED_ENDPOINT);
+        endpointIds.put(UNMATCHED_ENDPOINT, 1);
+        if (directory.isEmpty()) {
+            this.directory = null;
+            this.buffer = null;
+            this.writer = null;
+            return;
+        }
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.buffer = new AccessLogBuffer(capacity);
+        Files.createDirectories(this.directory);
+        openFile();
+        this.running = true;
+        this.writer = new Thread(this::writeLoop, "access-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Check whether requests are being logged.
+     * @return false if no directory is configured
+     */
+    public boolean isEnabled() {
+        return buffer != null;
+    }
+
+    /**
+     * Log one request.
+     * @param timeMillis Request start, epoch milliseconds
+     * @param durationNanos Time to complete the request
+     * @param method HTTP method
+     * @param endpoint Matched route pattern; never a raw request URI, which would fill the endpoint table
+     * @param status HTTP status
+     * @param remoteAddress Client address as reported by the container
+     */
+    public void log(long timeMillis, long durationNanos, String method, String endpoint, int status,
+                    String remoteAddress) {
+        if (buffer == null) {
+            return;
+        }
+        int methodId = Math.max(0, METHODS.indexOf(method));
+        int endpointId = endpointId(endpoint);
+        long address = parseIpv4(remoteAddress);
+        while (!buffer.offer(timeMillis, durationNanos, status, methodId, endpointId, address)) {
+            if (whenFull == WhenFull.DROP || !running) {
+                dropped.increment();
+                return;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Access log counters for monitoring.
+     * @return Map of statistic name to value
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("written", written.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("buffered", buffer != null ? (long) buffer.size() : 0L);
+        return stats;
+    }
+
+    /**
+     * Stop the writer after it has written every buffered record.
+     */
+    @Override
+    public void close() throws IOException {
+        if (writer == null || !running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int endpointId(String endpoint) {
+        Integer id = endpointIds.get(endpoint);
+        if (id != null) {
+            return id;
+        }
+        synchronized (endpointIds) {
+            id = endpointIds.get(endpoint);
+            if (id == null) {
+                int next = endpointIds.size();
+                if (next >= MAX_ENDPOINTS) {
+                    return 0;
+                }
+                id = next;
+                endpointNames.set(next, endpoint);
+                endpointIds.put(endpoint, id);
+            }
+            return id;
+        }
+    }
+
+    private void writeLoop() {
+        long lastFlush = System.nanoTime();
+        boolean dirty = false;
+        while (true) {
+            boolean stopping = !running;
+            int drained = buffer.drain(formatter, BATCH);
+            try {
+                if (drained > 0) {
+                    write();
+                    written.add(drained);
+                    dirty = true;
+                }
+                if (dirty && out != null
+                        && (drained < BATCH || System.nanoTime() - lastFlush >= flushIntervalNanos)) {
+                    out.flush();
+                    lastFlush = System.nanoTime();
+                    dirty = false;
+                }
+            } catch (IOException e) {
+                // Lost lines are preferable to failing requests; the next batch tries again
+                batch.setLength(0);
+            }
+            if (drained == 0) {
+                if (stopping) {
+                    break;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        try {
+            if (out != null) {
+                out.close();
+            }
+        } catch (IOException e) {
+            // Shutting down; nothing left to do with the file
+        }
+    }
+
+    private void format(long timeMillis, long durationNanos, int status, int method, int endpoint, long address) {
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(timeMillis), batch);
+        batch.append(' ');
+        if (address < 0) {
+            batch.append('-');
+        } else {
+            batch.append(address >>> 24).append('.').append(address >>> 16 & 0xFF).append('.')
+                    .append(address >>> 8 & 0xFF).append('.').append(address & 0xFF);
+        }
+        batch.append(' ').append(METHODS.get(method < METHODS.size() ? method : 0))
+                .append(' ').append(endpointNames.get(endpoint))
+                .append(' ').append(status)
+                .append(' ').append(durationNanos / 1_000_000).append('.');
+        long micros = durationNanos / 1_000 % 1_000;
+        if (micros < 100) {
+            batch.append(micros < 10 ? "00" : "0");
+        }
+        batch.append(micros).append("ms\n");
+    }
+
+    private void write() throws IOException {
+        if (out == null) {
+            // A failed rotation or reopen left no file open
+            openFile();
+        }
+        int from = 0;
+        while (from < batch.length()) {
+            // Whole lines that still fit into the current file
+            int end = from;
+            long bytes = 0;
+            while (end < batch.length()) {
+                int next = batch.indexOf("\n", end) + 1;
+                int lineBytes = utf8Length(batch, end, next);
+                if (fileSize + bytes + lineBytes > maxFileSize) {
+                    break;
+                }
+                bytes += lineBytes;
+                end = next;
+            }
+            if (end == from && fileSize > 0) {
+                try {
+                    rotate();
+                    continue;
+                } catch (IOException e) {
+                    if (out == null) {
+                        throw e;
+                    }
+                    // Rotation is retried with the next batch; until then the file grows past its limit
+                    end = batch.length();
+                    bytes = utf8Length(batch, from, end);
+                }
+            } else if (end == from) {
+                // A line longer than the limit gets a file of its own
+                end = batch.indexOf("\n", from) + 1;
+                bytes = utf8Length(batch, from, end);
+            }
+            out.append(batch, from, end);
+            fileSize += bytes;
+            from = end;
+        }
+        batch.setLength(0);
+    }
+
+    private void rotate() throws IOException {
+        Writer current = out;
+        out = null;
+        try {
+            current.close();
+            Files.deleteIfExists(directory.resolve(FILE_NAME + "." + (maxFiles - 1)));
+            for (int i = maxFiles - 2; i >= 1; i--) {
+                Path file = directory.resolve(FILE_NAME + "." + i);
+                if (Files.exists(file)) {
+                    Files.move(file, directory.resolve(FILE_NAME + "." + (i + 1)),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (maxFiles > 1) {
+                Files.move(directory.resolve(FILE_NAME), directory.resolve(FILE_NAME + ".1"),
+                        StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.delete(directory.resolve(FILE_NAME));
+            }
+        } finally {
+            // After a failure this appends to the file that was not rotated
+            openFile();
+        }
+    }
+
+    private void openFile() throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        fileSize = Files.size(file);
+    }
+
+    /** Length of a range of characters in UTF-8, as written to the file. */
+    private static int utf8Length(CharSequence chars, int from, int to) {
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Parse a dotted IPv4 address without allocating.
+     * @return The address as an unsigned 32-bit value, or -1 if it is not IPv4
+     */
+    static long parseIpv4(String address) {
+        if (address == null) {
+            return -1;
+        }
+        long result = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && digits > 0 && dots < 3) {
+                result = result << 8 | octet;
+                octet = 0;
+                digits = 0;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        if (dots != 3 || digits == 0) {
+            return -1;
+        }
+        return result << 8 | octet;
+    }
+}
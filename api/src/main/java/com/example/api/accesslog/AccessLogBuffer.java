@@ -0,0 +1,135 @@
+package com.example.api.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring of fixed-size access log records.
+ *
+ * <p>All storage is allocated up front: a record is {@value #RECORD_LONGS} longs in one flat array.
+ * A producer claims a sequence number with a compare-and-set on the claim counter, writes its slot
+ * and then publishes it by storing the sequence number in the slot's marker; no lock is taken and
+ * nothing is allocated. The consumer reads slots in sequence order, stopping at the first one not
+ * yet published, and frees them by advancing its own counter. A producer that finds every slot
+ * claimed but not yet consumed gets {@code false} from {@link #offer} and decides itself whether to
+ * drop the record or retry.</p>
+ */
+public final class AccessLogBuffer {
+
+    /** Longs per record: time, duration, status/method/endpoint, client address. */
+    static final int RECORD_LONGS = 4;
+
+    /**
+     * Receives drained records.
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+
+        /**
+         * Handle one record.
+         * @param timeMillis Request start, epoch milliseconds
+         * @param durationNanos Time to complete the request
+         * @param status HTTP status
+         * @param method Index of the HTTP method
+         * @param endpoint Index of the endpoint
+         * @param address Client IPv4 address, or -1 if unknown
+         */
+        void handle(long timeMillis, long durationNanos, int status, int method, int endpoint, long address);
+    }
+
+    private final int mask;
+    private final long[] data;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+
+    /**
+     * Create a buffer.
+     * @param capacity Minimum number of records held; rounded up to a power of two
+     */
+    public AccessLogBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 28) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^28: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.data = new long[size * RECORD_LONGS];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Get the number of records the buffer holds.
+     * @return Capacity, a power of two
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Get the number of records written but not yet drained.
+     * @return Records waiting, including ones still being written
+     */
+    public int size() {
+        return (int) (claimed.get() - consumed.get());
+    }
+
+    /**
+     * Append a record if there is room; safe to call from any number of threads.
+     * @param timeMillis Request start, epoch milliseconds
+     * @param durationNanos Time to complete the request
+     * @param status HTTP status, below 65536
+     * @param method Index of the HTTP method, below 256
+     * @param endpoint Index of the endpoint, below 2^24
+     * @param address Client IPv4 address, or -1 if unknown
+     * @return true if appended, false if the buffer is full
+     */
+    public boolean offer(long timeMillis, long durationNanos, int status, int method, int endpoint, long address) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() > mask) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        int slot = (int) sequence & mask;
+        int offset = slot * RECORD_LONGS;
+        data[offset] = timeMillis;
+        data[offset + 1] = durationNanos;
+        data[offset + 2] = (status & 0xFFFFL) | (method & 0xFFL) << 16 | (endpoint & 0xFFFFFFL) << 24;
+        data[offset + 3] = address;
+        // Publishing is a release store: the consumer sees the fields once it sees the sequence
+        published.lazySet(slot, sequence);
+        return true;
+    }
+
+    /**
+     * Hand published records to a handler in order and free their slots; call from one thread only.
+     * @param handler Receives the records
+     * @param limit Maximum number of records to drain
+     * @return Number of records drained
+     */
+    public int drain(RecordHandler handler, int limit) {
+        long sequence = consumed.get();
+        int drained = 0;
+        while (drained < limit) {
+            int slot = (int) sequence & mask;
+            if (published.get(slot) != sequence) {
+                break;
+            }
+            int offset = slot * RECORD_LONGS;
+            long packed = data[offset + 2];
+            handler.handle(data[offset], data[offset + 1], (int) (packed & 0xFFFF), (int) (packed >>> 16 & 0xFF),
+                    (int) (packed >>> 24 & 0xFFFFFF), data[offset + 3]);
+            sequence++;
+            drained++;
+            consumed.lazySet(sequence);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.api.accesslog;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Writes an {@link AccessLog} entry per request.
+ *
+ * <p>Runs right after the Flight Recorder filter so that requests refused by the CORS policy or
+ * shed by the concurrency limit are logged too. Asynchronous requests, such as those handed to a
+ * bulkhead, are logged when they complete.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AccessLog accessLog;
+
+    public AccessLogFilter(ObjectProvider<AccessLog> accessLog) {
+        // Absent in test slices that load filters but not components
+        this.accessLog = accessLog.getIfAvailable();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return accessLog == null || !accessLog.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long timeMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // A later error dispatch replaces the matched pattern with the error page's
+                request.getAsyncContext().addListener(new LogOnComplete(endpoint(request), timeMillis, start));
+            } else {
+                log(request, response, endpoint(request), timeMillis, start);
+            }
+        }
+    }
+
+    /**
+     * Get the route pattern the request matched. Unmatched requests share one placeholder, since
+     * their URIs are unbounded and client-controlled.
+     */
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : AccessLog.UNMATCHED_ENDPOINT;
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, String endpoint, long timeMillis,
+                     long start) {
+        accessLog.log(timeMillis, System.nanoTime() - start, request.getMethod(), endpoint, response.getStatus(),
+                request.getRemoteAddr());
+    }
+
+    /**
+     * Logs an asynchronous request exactly once.
+     */
+    private final class LogOnComplete implements AsyncListener {
+        private final String endpoint;
+        private final long timeMillis;
+        private final long start;
+        private boolean logged;
+
+        private LogOnComplete(String endpoint, long timeMillis, long start) {
+            this.endpoint = endpoint;
+            this.timeMillis = timeMillis;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            log(event);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            log(event);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            log(event);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private synchronized void log(AsyncEvent event) {
+            if (!logged) {
+                logged = true;
+                AccessLogFilter.this.log((HttpServletRequest) event.getSuppliedRequest(),
+                        (HttpServletResponse) event.getSuppliedResponse(), endpoint, timeMillis, start);
+            }
+        }
+    }
+}
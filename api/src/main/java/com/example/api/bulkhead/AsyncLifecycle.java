@@ -0,0 +1,304 @@
+package com.example.api.bulkhead;
+
+import org.springframework.http.HttpStatus;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * Tracks whether the container has finished a request handed to a bulkhead, and keeps the handler
+ * from touching the response afterwards.
+ *
+ * <p>The handler writes through {@link #guard}. Once the request has ended, e.g. by a timeout
+ * while the handler still runs, the container recycles the request and response for another
+ * connection; every later change the handler makes to the guarded response is discarded instead.
+ * A timeout that wins the race answers 503 with {@code Retry-After}; each write holds the same lock
+ * as the timeout, so the two never interleave.</p>
+ */
+final class AsyncLifecycle implements AsyncListener {
+
+    private boolean ended;
+
+    /**
+     * Check whether the container has finished the request.
+     * @return true after completion, timeout or error
+     */
+    synchronized boolean isEnded() {
+        return ended;
+    }
+
+    /**
+     * Wrap the response for the handler.
+     * @param response Response passed to {@code startAsync}
+     * @return Response whose changes are ignored once the request has ended
+     */
+    HttpServletResponse guard(HttpServletResponse response) {
+        return new GuardedResponse(response);
+    }
+
+    /**
+     * Complete the request unless the container already ended it.
+     * @param complete Completes the asynchronous context
+     */
+    void complete(Runnable complete) {
+        synchronized (this) {
+            if (ended) {
+                return;
+            }
+            ended = true;
+        }
+        complete.run();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        end();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        synchronized (this) {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setHeader("Retry-After", "1");
+            }
+        }
+        event.getAsyncContext().complete();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        end();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // Not restarted
+    }
+
+    private synchronized void end() {
+        ended = true;
+    }
+
+    /**
+     * Action on the response that may fail with an I/O error.
+     */
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    private void run(Runnable action) {
+        synchronized (this) {
+            if (!ended) {
+                action.run();
+            }
+        }
+    }
+
+    private void runIo(IoAction action) throws IOException {
+        synchronized (this) {
+            if (!ended) {
+                action.run();
+            }
+        }
+    }
+
+    /**
+     * Response whose status, headers and body are left alone once the request has ended.
+     */
+    private final class GuardedResponse extends HttpServletResponseWrapper {
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private GuardedResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new GuardedOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new GuardedWriter(super.getWriter()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setStatus(int sc) {
+            run(() -> super.setStatus(sc));
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            runIo(() -> super.sendError(sc, msg));
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            runIo(() -> super.sendError(sc));
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            runIo(() -> super.sendRedirect(location));
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            run(() -> super.setHeader(name, value));
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            run(() -> super.addHeader(name, value));
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            run(() -> super.setIntHeader(name, value));
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            run(() -> super.addIntHeader(name, value));
+        }
+
+        @Override
+        public void setDateHeader(String name, long date) {
+            run(() -> super.setDateHeader(name, date));
+        }
+
+        @Override
+        public void addDateHeader(String name, long date) {
+            run(() -> super.addDateHeader(name, date));
+        }
+
+        @Override
+        public void setContentType(String type) {
+            run(() -> super.setContentType(type));
+        }
+
+        @Override
+        public void setCharacterEncoding(String charset) {
+            run(() -> super.setCharacterEncoding(charset));
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            run(() -> super.setContentLength(len));
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            run(() -> super.setContentLengthLong(len));
+        }
+
+        @Override
+        public void setBufferSize(int size) {
+            run(() -> super.setBufferSize(size));
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            runIo(super::flushBuffer);
+        }
+
+        @Override
+        public void reset() {
+            run(super::reset);
+        }
+
+        @Override
+        public void resetBuffer() {
+            run(super::resetBuffer);
+        }
+    }
+
+    /**
+     * Body stream that discards output once the request has ended.
+     */
+    private final class GuardedOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        private GuardedOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            runIo(() -> delegate.write(b));
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            runIo(() -> delegate.write(b, off, len));
+        }
+
+        @Override
+        public void flush() throws IOException {
+            runIo(delegate::flush);
+        }
+
+        @Override
+        public void close() throws IOException {
+            runIo(delegate::close);
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    /**
+     * Body writer that discards output once the request has ended.
+     */
+    private final class GuardedWriter extends Writer {
+        private final PrintWriter delegate;
+
+        private GuardedWriter(PrintWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            run(() -> delegate.write(cbuf, off, len));
+        }
+
+        @Override
+        public void flush() {
+            run(delegate::flush);
+        }
+
+        @Override
+        public void close() {
+            run(delegate::close);
+        }
+    }
+}
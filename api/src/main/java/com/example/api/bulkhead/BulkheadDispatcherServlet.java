@@ -0,0 +1,73 @@
+package com.example.api.bulkhead;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Dispatcher servlet that hands each request to the bulkhead of its {@link EndpointGroup}.
+ *
+ * <p>The container thread starts asynchronous processing and returns to the pool right away; the
+ * handler runs on a thread of the group's bulkhead and completes the request. A saturated group
+ * answers 503 with {@code Retry-After} without touching the other groups, and so does a request
+ * whose handler is still running after {@code api.bulkhead.timeout-ms}. Requests outside the
+ * groups, and handlers that need asynchronous processing themselves, run on the container thread
+ * as usual.</p>
+ */
+public class BulkheadDispatcherServlet extends DispatcherServlet {
+
+    private final transient Bulkheads bulkheads;
+    private final long timeoutMillis;
+
+    public BulkheadDispatcherServlet(Bulkheads bulkheads, long timeoutMillis) {
+        this.bulkheads = bulkheads;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        EndpointGroup group = request.getDispatcherType() == DispatcherType.REQUEST && request.isAsyncSupported()
+                ? EndpointGroup.of(request.getMethod(), request.getRequestURI()) : null;
+        if (group == null) {
+            super.service(request, response);
+            return;
+        }
+        AsyncContext context = request.startAsync(request, response);
+        context.setTimeout(timeoutMillis);
+        AsyncLifecycle lifecycle = new AsyncLifecycle();
+        context.addListener(lifecycle);
+        if (!bulkheads.get(group).submit(() -> dispatch(context, lifecycle))) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            lifecycle.complete(context::complete);
+        }
+    }
+
+    private void dispatch(AsyncContext context, AsyncLifecycle lifecycle) {
+        if (lifecycle.isEnded()) {
+            // Timed out while queued; the container has already answered and recycled the request
+            return;
+        }
+        HttpServletRequest request = (HttpServletRequest) context.getRequest();
+        // Past the timeout the container answers 503 and recycles the response; the handler's
+        // remaining output must not reach whichever request uses it next
+        HttpServletResponse response = lifecycle.guard((HttpServletResponse) context.getResponse());
+        try {
+            super.service(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            }
+        } finally {
+            lifecycle.complete(context::complete);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.api.bulkhead;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@link Bulkhead} per {@link EndpointGroup}, sized from {@code api.bulkhead.<group>.threads}
+ * and {@code api.bulkhead.<group>.queue}.
+ */
+@Component
+public class Bulkheads implements Closeable {
+
+    private final Map<EndpointGroup, Bulkhead> bulkheads = new EnumMap<>(EndpointGroup.class);
+
+    public Bulkheads(Environment environment) {
+        for (EndpointGroup group : EndpointGroup.values()) {
+            String prefix = "api.bulkhead." + group.getName();
+            int threads = environment.getProperty(prefix + ".threads", Integer.class, group.getDefaultThreads());
+            int queue = environment.getProperty(prefix + ".queue", Integer.class, group.getDefaultQueue());
+            bulkheads.put(group, new Bulkhead(group.getName(), threads, queue));
+        }
+    }
+
+    /**
+     * Get the bulkhead of a group.
+     * @param group The endpoint group
+     * @return Its bulkhead
+     */
+    public Bulkhead get(EndpointGroup group) {
+        return bulkheads.get(group);
+    }
+
+    /**
+     * Get all bulkheads, in group order.
+     * @return The bulkheads
+     */
+    public Collection<Bulkhead> all() {
+        return Collections.unmodifiableCollection(bulkheads.values());
+    }
+
+    @Override
+    public void close() {
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            bulkhead.shutdown();
+        }
+    }
+}
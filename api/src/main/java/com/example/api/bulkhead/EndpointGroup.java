@@ -0,0 +1,69 @@
+package com.example.api.bulkhead;
+
+/**
+ * Endpoint groups that run on isolated executors.
+ *
+ * <p>Each group has default pool and queue sizes, overridable with
+ * {@code api.bulkhead.<name>.threads} and {@code api.bulkhead.<name>.queue}.</p>
+ */
+public enum EndpointGroup {
+
+    HEALTH("health", 2, 32),
+    GREETING("greeting", 4, 64),
+    PROFILE_READ("profile-read", 16, 256),
+    SEARCH("search", 4, 64),
+    ADMIN("admin", 2, 32);
+
+    private static final String STREAM_PATH = "/api/profile/changes/stream";
+
+    private final String name;
+    private final int defaultThreads;
+    private final int defaultQueue;
+
+    EndpointGroup(String name, int defaultThreads, int defaultQueue) {
+        this.name = name;
+        this.defaultThreads = defaultThreads;
+        this.defaultQueue = defaultQueue;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDefaultThreads() {
+        return defaultThreads;
+    }
+
+    public int getDefaultQueue() {
+        return defaultQueue;
+    }
+
+    /**
+     * Find the group serving a request. Writes go to {@link #ADMIN} wherever they are mapped.
+     * @param method HTTP method
+     * @param path Request URI
+     * @return The group, or null if the request runs on the container thread
+     */
+    public static EndpointGroup of(String method, String path) {
+        // Event streams are asynchronous themselves and hold no thread while idle; matched by prefix
+        // since MVC also maps variants such as a trailing slash to them
+        if (!path.startsWith("/api/") || path.startsWith(STREAM_PATH)) {
+            return null;
+        }
+        if (path.startsWith("/api/health") || path.startsWith("/api/status")) {
+            return HEALTH;
+        }
+        if (path.startsWith("/api/greeting")) {
+            return GREETING;
+        }
+        boolean read = "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+        if (!read || path.startsWith("/api/admin")) {
+            return ADMIN;
+        }
+        if (path.startsWith("/api/profile/search") || path.startsWith("/api/profile/projects/trending")
+                || path.endsWith("/similar")) {
+            return SEARCH;
+        }
+        return PROFILE_READ;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.api.changes;
+
+import com.example.api.store.ProfileRepository;
+import com.example.api.store.ProfileResource;
+import com.example.api.store.ProfileStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded in-memory history of per-entity changes between published profile versions.
+ *
+ * <p>Every publication records which entities of each changed collection were added, updated or
+ * removed. Snapshots share unchanged entities, so an entity counts as updated when its instance
+ * differs. {@link #since(long)} folds the recorded steps after a version into one delta per
+ * entity; once that version has dropped out of the last {@code profile.changes.history-size}
+ * publications the caller must resync from the full collections instead.</p>
+ */
+@Component
+public class ProfileChangeHistory {
+
+    /**
+     * What happened to an entity over a range of versions.
+     */
+    public enum Kind {
+        ADDED, UPDATED, REMOVED
+    }
+
+    private final int capacity;
+    // Guarded by this; oldest step first
+    private final ArrayDeque<Step> steps = new ArrayDeque<>();
+    private long oldestVersion;
+    private long latestVersion;
+
+    public ProfileChangeHistory(ProfileRepository repository,
+                                @Value("${profile.changes.history-size:1024}") int capacity) {
+        this.capacity = capacity;
+        this.oldestVersion = repository.current().getVersion();
+        this.latestVersion = oldestVersion;
+        repository.addListener(this::published);
+    }
+
+    /**
+     * Get the entities changed after a version.
+     * @param version Version the client holds
+     * @return Changes up to the current version, or a delta marked for resync if the version is
+     * unknown or no longer in the history
+     */
+    public synchronized Delta since(long version) {
+        // The latest recorded step rather than the repository's version, which is published first
+        long current = latestVersion;
+        if (version < oldestVersion || version > current) {
+            return Delta.resync(version, current);
+        }
+        Map<ProfileResource, Map<Integer, Change>> merged = new EnumMap<>(ProfileResource.class);
+        for (Step step : steps) {
+            if (step.toVersion <= version) {
+                continue;
+            }
+            if (step.fromVersion < version) {
+                // Versions inside a group commit were never published
+                return Delta.resync(version, current);
+            }
+            for (Map.Entry<ProfileResource, List<Change>> entry : step.changes.entrySet()) {
+                Map<Integer, Change> byId = merged.computeIfAbsent(entry.getKey(), key -> new LinkedHashMap<>());
+                for (Change change : entry.getValue()) {
+                    Change folded = fold(byId.get(change.id), change);
+                    if (folded == null) {
+                        byId.remove(change.id);
+                    } else {
+                        byId.put(change.id, folded);
+                    }
+                }
+            }
+        }
+        Map<ProfileResource, List<Change>> changes = new EnumMap<>(ProfileResource.class);
+        for (Map.Entry<ProfileResource, Map<Integer, Change>> entry : merged.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                changes.put(entry.getKey(), new ArrayList<>(entry.getValue().values()));
+            }
+        }
+        return new Delta(version, current, false, changes);
+    }
+
+    private void published(ProfileStore previous, ProfileStore current) {
+        Map<ProfileResource, List<Change>> changes = new EnumMap<>(ProfileResource.class);
+        for (ProfileResource resource : ProfileResource.values()) {
+            if (previous.getVersion(resource) != current.getVersion(resource)) {
+                changes.put(resource, diff(resource, resource.entitiesOf(previous), resource.entitiesOf(current)));
+            }
+        }
+        synchronized (this) {
+            if (previous.getVersion() != latestVersion) {
+                // Missed a step, e.g. one published while this history was being created
+                steps.clear();
+                oldestVersion = previous.getVersion();
+            }
+            steps.addLast(new Step(previous.getVersion(), current.getVersion(), changes));
+            latestVersion = current.getVersion();
+            while (steps.size() > capacity) {
+                oldestVersion = steps.removeFirst().toVersion;
+            }
+        }
+    }
+
+    static List<Change> diff(ProfileResource resource, List<?> before, List<?> after) {
+        Map<Integer, Object> previous = new HashMap<>(before.size() * 2);
+        for (Object entity : before) {
+            previous.put(resource.idOf(entity), entity);
+        }
+        List<Change> changes = new ArrayList<>();
+        for (Object entity : after) {
+            int id = resource.idOf(entity);
+            Object old = previous.remove(id);
+            if (old == null) {
+                changes.add(new Change(Kind.ADDED, id, entity));
+            } else if (old != entity) {
+                changes.add(new Change(Kind.UPDATED, id, entity));
+            }
+        }
+        for (Integer id : previous.keySet()) {
+            changes.add(new Change(Kind.REMOVED, id, null));
+        }
+        return changes;
+    }
+
+    private static Change fold(Change earlier, Change later) {
+        if (earlier == null) {
+            return later;
+        }
+        switch (earlier.kind) {
+            case ADDED:
+                return later.kind == Kind.REMOVED ? null : new Change(Kind.ADDED, later.id, later.entity);
+            case REMOVED:
+                return later.kind == Kind.ADDED ? new Change(Kind.UPDATED, later.id, later.entity) : later;
+            default:
+                return later;
+        }
+    }
+
+    /**
+     * A change to one entity; removed entities carry no entity.
+     */
+    public static final class Change {
+        private final Kind kind;
+        private final int id;
+        private final Object entity;
+
+        Change(Kind kind, int id, Object entity) {
+            this.kind = kind;
+            this.id = id;
+            this.entity = entity;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public Object getEntity() {
+            return entity;
+        }
+    }
+
+    /**
+     * Changes between two versions, per collection.
+     */
+    public static final class Delta {
+        private final long since;
+        private final long version;
+        private final boolean resync;
+        private final Map<ProfileResource, List<Change>> changes;
+
+        Delta(long since, long version, boolean resync, Map<ProfileResource, List<Change>> changes) {
+            this.since = since;
+            this.version = version;
+            this.resync = resync;
+            this.changes = changes;
+        }
+
+        static Delta resync(long since, long version) {
+            return new Delta(since, version, true, Map.of());
+        }
+
+        public long getSince() {
+            return since;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Check whether the client must reload the full collections.
+         * @return true if the requested version is not covered by the history
+         */
+        public boolean isResync() {
+            return resync;
+        }
+
+        public Map<ProfileResource, List<Change>> getChanges() {
+            return changes;
+        }
+    }
+
+    private static final class Step {
+        private final long fromVersion;
+        private final long toVersion;
+        private final Map<ProfileResource, List<Change>> changes;
+
+        private Step(long fromVersion, long toVersion, Map<ProfileResource, List<Change>> changes) {
+            this.fromVersion = fromVersion;
+            this.toVersion = toVersion;
+            this.changes = changes;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.api.changes;
+
+import com.example.api.service.ProfileService;
+import com.example.api.store.ProfileRepository;
+import com.example.api.store.ProfileResource;
+import com.example.api.store.ProfileStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Pushes a notification to Server-Sent Events subscribers whenever a profile collection changes.
+ *
+ * <p>Subscribers are asynchronous requests and hold no thread while idle. On subscribing, a client
+ * gets a {@code state} event with the current version and ETag of each collection; afterwards, one
+ * {@code change} event per changed collection. Clients compare the ETag with the one they hold and
+ * re-download only collections that differ, using it in {@code If-None-Match}. A comment line every
+ * {@code profile.changes.heartbeat-ms} keeps proxies from closing idle streams and detects clients
+ * that went away.</p>
+ *
+ * <p>Each subscriber has its own queue of at most {@code profile.changes.queue-size} events, drained
+ * by one of {@code profile.changes.sender-threads} threads, so a client that reads slowly only
+ * delays its own events. A subscriber whose queue overflows, or whose write has been blocked for
+ * longer than {@code profile.changes.write-timeout-ms}, is dropped and its stream completed; a
+ * blocked write holds its thread until the container's socket timeout fails it.</p>
+ */
+@Component
+public class ProfileChangeStream implements Closeable {
+
+    private final ProfileRepository repository;
+    private final long timeoutMillis;
+    private final int queueSize;
+    private final long writeTimeoutNanos;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats;
+
+    public ProfileChangeStream(ProfileRepository repository,
+                               @Value("${profile.changes.timeout-ms:1800000}") long timeoutMillis,
+                               @Value("${profile.changes.heartbeat-ms:30000}") long heartbeatMillis,
+                               @Value("${profile.changes.queue-size:64}") int queueSize,
+                               @Value("${profile.changes.write-timeout-ms:10000}") long writeTimeoutMillis,
+                               @Value("${profile.changes.sender-threads:4}") int senderThreads) {
+        this.repository = repository;
+        this.timeoutMillis = timeoutMillis;
+        this.queueSize = queueSize;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        this.senders = Executors.newFixedThreadPool(senderThreads, daemon("profile-changes"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemon("profile-changes-heartbeat"));
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        repository.addListener(this::published);
+    }
+
+    /**
+     * Open a stream of change notifications.
+     * @return Emitter to return from the handler
+     */
+    public SseEmitter subscribe() {
+        return register(new SseEmitter(timeoutMillis));
+    }
+
+    /**
+     * Get the number of open streams.
+     * @return Subscriber count
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void close() {
+        heartbeats.shutdown();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.drop();
+        }
+        // Lets the senders complete the dropped streams, then stops them
+        senders.shutdown();
+    }
+
+    SseEmitter register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::closed);
+        emitter.onTimeout(subscriber::closed);
+        emitter.onError(error -> subscriber.closed());
+        synchronized (subscribers) {
+            // Under the same lock as publishing, so no change is missed or queued before the state
+            ProfileStore store = repository.current();
+            List<Map<String, Object>> state = new ArrayList<>();
+            for (ProfileResource resource : ProfileResource.values()) {
+                state.add(notification(store, resource));
+            }
+            String id = Long.toString(store.getVersion());
+            subscribers.add(subscriber);
+            subscriber.offer(() -> SseEmitter.event().name("state").id(id).data(state, MediaType.APPLICATION_JSON));
+        }
+        return emitter;
+    }
+
+    /**
+     * Describe the collections that differ between two versions of the data.
+     * @param previous Data before
+     * @param current Data after
+     * @return One notification per changed collection
+     */
+    static List<Map<String, Object>> changes(ProfileStore previous, ProfileStore current) {
+        List<Map<String, Object>> changes = new ArrayList<>();
+        for (ProfileResource resource : ProfileResource.values()) {
+            if (previous.getVersion(resource) != current.getVersion(resource)) {
+                changes.add(notification(current, resource));
+            }
+        }
+        return changes;
+    }
+
+    private void published(ProfileStore previous, ProfileStore current) {
+        List<Map<String, Object>> changes = changes(previous, current);
+        if (changes.isEmpty()) {
+            return;
+        }
+        String id = Long.toString(current.getVersion());
+        synchronized (subscribers) {
+            for (Map<String, Object> change : changes) {
+                Supplier<SseEmitter.SseEventBuilder> event =
+                        () -> SseEmitter.event().name("change").id(id).data(change, MediaType.APPLICATION_JSON);
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.offer(event);
+                }
+            }
+        }
+    }
+
+    private void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.sending && now - subscriber.sendStart > writeTimeoutNanos) {
+                subscriber.drop();
+            } else {
+                subscriber.offer(() -> SseEmitter.event().comment(""));
+            }
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Map<String, Object> notification(ProfileStore store, ProfileResource resource) {
+        Map<String, Object> notification = new LinkedHashMap<>();
+        notification.put("resource", resource.getPath());
+        notification.put("version", store.getVersion(resource));
+        notification.put("etag", ProfileService.etag(store, resource));
+        return notification;
+    }
+
+    /**
+     * One stream with its pending events. At most one sender drains it at a time, and only that
+     * sender touches the emitter, so a write blocked on a slow client never blocks the publisher.
+     */
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final Queue<Supplier<SseEmitter.SseEventBuilder>> queue = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean dropped;
+        private boolean completed;
+        private volatile boolean sending;
+        private volatile long sendStart;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queue an event, dropping the subscriber if it is too far behind.
+         */
+        private void offer(Supplier<SseEmitter.SseEventBuilder> event) {
+            synchronized (this) {
+                if (dropped) {
+                    return;
+                }
+                if (queue.size() < queueSize) {
+                    queue.add(event);
+                    schedule();
+                    return;
+                }
+            }
+            drop();
+        }
+
+        /**
+         * Stop sending to the subscriber and have its sender complete the stream.
+         */
+        private void drop() {
+            subscribers.remove(this);
+            synchronized (this) {
+                if (dropped) {
+                    return;
+                }
+                dropped = true;
+                queue.clear();
+                schedule();
+            }
+        }
+
+        /**
+         * Forget a subscriber whose stream has already ended.
+         */
+        private void closed() {
+            subscribers.remove(this);
+            synchronized (this) {
+                dropped = true;
+                completed = true;
+                queue.clear();
+            }
+        }
+
+        // Called with the monitor held
+        private void schedule() {
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+            try {
+                senders.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                scheduled = false;
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Supplier<SseEmitter.SseEventBuilder> event;
+                boolean complete;
+                synchronized (this) {
+                    event = queue.poll();
+                    complete = event == null && dropped && !completed;
+                    if (event == null) {
+                        scheduled = false;
+                        completed |= complete;
+                    }
+                }
+                if (event == null) {
+                    if (complete) {
+                        try {
+                            emitter.complete();
+                        } catch (IllegalStateException e) {
+                            // Completed by the container in the meantime
+                        }
+                    }
+                    return;
+                }
+                sendStart = System.nanoTime();
+                sending = true;
+                try {
+                    emitter.send(event.get());
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away or the stream completed; the container finishes the request
+                    closed();
+                } finally {
+                    sending = false;
+                }
+            }
+        }
+    }
+}
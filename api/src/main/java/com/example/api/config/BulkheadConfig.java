@@ -0,0 +1,32 @@
+package com.example.api.config;
+
+import com.example.api.bulkhead.BulkheadDispatcherServlet;
+import com.example.api.bulkhead.Bulkheads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * Runs the endpoint groups on their own bulkheads when {@code api.bulkhead.enabled} is set (the
+ * default), replacing Spring Boot's dispatcher servlet. Disabled, every request runs on the
+ * container's worker pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "api.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    /**
+     * Create the dispatcher servlet that hands requests to the bulkheads.
+     * @param bulkheads The bulkheads
+     * @param timeoutMillis Time a request may spend queued and running before it fails
+     * @return Dispatcher servlet
+     */
+    @Bean(name = DispatcherServletAutoConfiguration.DEFAULT_DISPATCHER_SERVLET_BEAN_NAME)
+    public DispatcherServlet dispatcherServlet(Bulkheads bulkheads,
+                                               @Value("${api.bulkhead.timeout-ms:30000}") long timeoutMillis) {
+        return new BulkheadDispatcherServlet(bulkheads, timeoutMillis);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.api.config;
+
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.store.BinaryProfileCompiler;
+import com.example.api.store.JsonProfileLoader;
+import com.example.api.store.MappedProfileStore;
+import com.example.api.store.ProfileDataSource;
+import com.example.api.store.ProfileJournal;
+import com.example.api.store.ProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Selects the storage engine backing the profile endpoints.
+ *
+ * <p>{@code profile.store.type=json} (the default) parses the bundled JSON files once into a
+ * heap snapshot. {@code mapped} memory-maps the binary file at {@code profile.store.binary-file},
+ * compiling it from the JSON files on startup if it is missing or was compiled from other data. Setting
+ * {@code profile.store.data-directory} replaces the bundled JSON with the files in that directory,
+ * e.g. a data set written by {@link com.example.api.dataset.ProfileDatasetGenerator}.</p>
+ *
+ * <p>Setting {@code profile.journal.directory} makes the json engine durable: writes are journaled
+ * there and the data is recovered from it on startup. Without a journal, writes only live in memory;
+ * the mapped engine is read-only.</p>
+ */
+@Configuration
+public class ProfileStoreConfig {
+
+    /**
+     * Create the repository holding the profile data for the configured engine.
+     * @param registry The serialization registry
+     * @param type Storage engine name, {@code json} or {@code mapped}
+     * @param binaryFile Location of the binary file for the mapped engine
+     * @param dataDirectory Directory of the profile JSON files, empty for the bundled ones
+     * @param journalDirectory Journal location for the json engine, empty to keep writes in memory
+     * @param compactEvery Journal entries after which the data is compacted
+     * @param compactIntervalMillis Maximum age of uncompacted journal entries
+     * @return Repository over the loaded data
+     * @throws IOException if the data cannot be loaded
+     */
+    @Bean
+    public ProfileRepository profileRepository(SerializationRegistry registry,
+                                               @Value("${profile.store.type:json}") String type,
+                                               @Value("${profile.store.binary-file:profile-data.bin}")
+                                               String binaryFile,
+                                               @Value("${profile.store.data-directory:}") String dataDirectory,
+                                               @Value("${profile.journal.directory:}") String journalDirectory,
+                                               @Value("${profile.journal.compact-every:1000}") int compactEvery,
+                                               @Value("${profile.journal.compact-interval-ms:60000}")
+                                               long compactIntervalMillis)
+            throws IOException {
+        ProfileDataSource source = dataDirectory.isEmpty()
+                ? ProfileDataSource.classpath("data/") : ProfileDataSource.directory(Paths.get(dataDirectory));
+        switch (type) {
+            case "json":
+                if (journalDirectory.isEmpty()) {
+                    return new ProfileRepository(new JsonProfileLoader(registry, source).load());
+                }
+                Path journal = Paths.get(journalDirectory);
+                return new ProfileRepository(
+                        ProfileJournal.recover(journal, registry, source),
+                        journal, registry, compactEvery, compactIntervalMillis);
+            case "mapped":
+                Path path = Paths.get(binaryFile);
+                long fingerprint = source.fingerprint();
+                if (!MappedProfileStore.isCompiledFrom(path, fingerprint)) {
+                    new BinaryProfileCompiler(registry)
+                            .compile(new JsonProfileLoader(registry, source).load(), fingerprint, path);
+                }
+                return new ProfileRepository(MappedProfileStore.open(path, registry));
+            default:
+                throw new IllegalArgumentException("Unknown profile store type: " + type);
+        }
+    }
+}
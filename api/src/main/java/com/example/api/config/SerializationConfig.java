@@ -0,0 +1,66 @@
+package com.example.api.config;
+
+import com.example.api.model.JsonCodecModule;
+import com.example.api.serialization.RecordingJsonMessageConverter;
+import com.example.api.serialization.SerializationRegistry;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Jackson configuration shared by the profile services and the HTTP message converters.
+ *
+ * <p>The model classes are written and read by codecs generated at build time
+ * ({@link JsonCodecModule}), without bean introspection. Bytecode acceleration for other types is
+ * opt-in through {@code api.serialization.accelerator} ({@code afterburner} or
+ * {@code blackbird}); Spring Boot installs any {@link Module} bean on the auto-configured
+ * ObjectMapper.</p>
+ */
+@Configuration
+public class SerializationConfig {
+
+    /**
+     * Generated codecs for the profile model classes.
+     * @return Jackson module
+     */
+    @Bean
+    public Module jsonCodecModule() {
+        return new JsonCodecModule();
+    }
+
+    /**
+     * Afterburner accelerator, for runtimes where Blackbird's MethodHandles are unavailable.
+     * @return Jackson module
+     */
+    @Bean
+    @ConditionalOnProperty(name = "api.serialization.accelerator", havingValue = "afterburner")
+    public Module afterburnerModule() {
+        return new AfterburnerModule();
+    }
+
+    /**
+     * Blackbird accelerator, the preferred option on Java 11+.
+     * @return Jackson module
+     */
+    @Bean
+    @ConditionalOnProperty(name = "api.serialization.accelerator", havingValue = "blackbird")
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * HTTP message converter backed by the registry's ObjectMapper, so responses and data
+     * loading go through the same tuned mapper. Each body it reads or writes is recorded as a Flight
+     * Recorder event while a recording enables it.
+     * @param registry The serialization registry
+     * @return JSON message converter
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(SerializationRegistry registry) {
+        return new RecordingJsonMessageConverter(registry.getObjectMapper());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.api.controller;
+
+import com.example.api.bulkhead.Bulkhead;
+import com.example.api.bulkhead.Bulkheads;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST Controller reporting the load of each endpoint group's bulkhead.
+ */
+@RestController
+@RequestMapping("/api/status")
+public class BulkheadController {
+
+    @Autowired
+    private Bulkheads bulkheads;
+
+    /**
+     * Get pool and queue usage per endpoint group.
+     * @return Group name to its threads, queue capacity, active and queued tasks, completed and rejected totals
+     */
+    @GetMapping("/bulkheads")
+    public ResponseEntity<Map<String, Map<String, Object>>> getBulkheads() {
+        Map<String, Map<String, Object>> response = new LinkedHashMap<>();
+        for (Bulkhead bulkhead : bulkheads.all()) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("threads", bulkhead.getThreads());
+            stats.put("queueCapacity", bulkhead.getQueueCapacity());
+            stats.put("active", bulkhead.getActive());
+            stats.put("queued", bulkhead.getQueued());
+            stats.put("completed", bulkhead.getCompleted());
+            stats.put("rejected", bulkhead.getRejected());
+            response.put(bulkhead.getName(), stats);
+        }
+        return ResponseEntity.ok(response);
+    }
+}
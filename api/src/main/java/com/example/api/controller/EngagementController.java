@@ -0,0 +1,67 @@
+package com.example.api.controller;
+
+import com.example.api.engagement.EngagementTracker;
+import com.example.api.store.ProfileResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST Controller exposing view totals of profile entities.
+ */
+@RestController
+@RequestMapping("/api/profile/engagement")
+public class EngagementController {
+
+    @Autowired
+    private EngagementTracker engagementTracker;
+
+    /**
+     * Get the most viewed entities of a collection.
+     * @param resource Collection name, e.g. {@code projects}
+     * @param limit Maximum number of entries
+     * @return Entity ID to views, most viewed first, or 404 for an unknown collection
+     */
+    @GetMapping("/{resource}")
+    public ResponseEntity<Map<Integer, Long>> getTopViewed(@PathVariable String resource,
+                                                          @RequestParam(defaultValue = "10") int limit) {
+        ProfileResource profileResource = resolve(resource);
+        if (profileResource == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(engagementTracker.top(profileResource, Math.max(limit, 0)));
+    }
+
+    /**
+     * Get the view total of one entity.
+     * @param resource Collection name, e.g. {@code projects}
+     * @param id Entity ID
+     * @return ID and view count, or 404 for an unknown collection
+     */
+    @GetMapping("/{resource}/{id}")
+    public ResponseEntity<Map<String, Object>> getViews(@PathVariable String resource, @PathVariable int id) {
+        ProfileResource profileResource = resolve(resource);
+        if (profileResource == null) {
+            return ResponseEntity.notFound().build();
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", id);
+        response.put("views", engagementTracker.count(profileResource, id));
+        return ResponseEntity.ok(response);
+    }
+
+    private static ProfileResource resolve(String resource) {
+        try {
+            return ProfileResource.fromPath(resource);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.api.controller;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,6 +16,9 @@ import java.util.Map;
 @RequestMapping("/api")
 public class HealthController {
 
+    @Autowired(required = false)
+    private ApplicationAvailability applicationAvailability;
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> health() {
         Map<String, String> response = new HashMap<>();
@@ -28,4 +35,18 @@ public class HealthController {
         response.put("version", "1.0.0");
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Readiness probe; stays 503 until startup, including the warmup, has finished.
+     * @return Readiness state, 200 when accepting traffic and 503 otherwise
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<Map<String, String>> ready() {
+        ReadinessState state = applicationAvailability != null
+                ? applicationAvailability.getReadinessState() : ReadinessState.ACCEPTING_TRAFFIC;
+        Map<String, String> response = new HashMap<>();
+        response.put("status", state.name());
+        return ResponseEntity.status(state == ReadinessState.ACCEPTING_TRAFFIC
+                ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
 }
@@ -0,0 +1,82 @@
+package com.example.api.controller;
+
+import com.example.api.changes.ProfileChangeHistory;
+import com.example.api.changes.ProfileChangeStream;
+import com.example.api.store.ProfileResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Controller reporting profile changes, as deltas and as a notification stream.
+ */
+@RestController
+@RequestMapping("/api/profile/changes")
+public class ProfileChangeController {
+
+    @Autowired
+    private ProfileChangeStream profileChangeStream;
+
+    @Autowired
+    private ProfileChangeHistory profileChangeHistory;
+
+    /**
+     * Get the entities added, updated or removed after a version, e.g. {@code /changes?since=42}.
+     * @param since Version the client holds
+     * @return Delta up to the current version per changed collection; {@code resync} is true when
+     * the version is too old and the full collections must be reloaded instead
+     */
+    @GetMapping(params = "since")
+    public ResponseEntity<Map<String, Object>> getChanges(@RequestParam long since) {
+        ProfileChangeHistory.Delta delta = profileChangeHistory.since(since);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (Map.Entry<ProfileResource, List<ProfileChangeHistory.Change>> entry : delta.getChanges().entrySet()) {
+            List<Object> added = new ArrayList<>();
+            List<Object> updated = new ArrayList<>();
+            List<Integer> removed = new ArrayList<>();
+            for (ProfileChangeHistory.Change change : entry.getValue()) {
+                switch (change.getKind()) {
+                    case ADDED:
+                        added.add(change.getEntity());
+                        break;
+                    case UPDATED:
+                        updated.add(change.getEntity());
+                        break;
+                    default:
+                        removed.add(change.getId());
+                }
+            }
+            Map<String, Object> resource = new LinkedHashMap<>();
+            resource.put("added", added);
+            resource.put("updated", updated);
+            resource.put("removed", removed);
+            changes.put(entry.getKey().getPath(), resource);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("since", delta.getSince());
+        response.put("version", delta.getVersion());
+        response.put("resync", delta.isResync());
+        response.put("changes", changes);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Subscribe to change notifications as Server-Sent Events: a {@code state} event with the
+     * version and ETag of every collection, then a {@code change} event whenever one changes.
+     * @return Event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return profileChangeStream.subscribe();
+    }
+}
@@ -1,38 +1,87 @@
 package com.example.api.controller;
 
+import com.example.api.engagement.EngagementTracker;
+import com.example.api.model.BatchResult;
 import com.example.api.model.Experience;
 import com.example.api.model.Education;
 import com.example.api.model.Project;
 import com.example.api.model.PersonalInfo;
 import com.example.api.model.Skills;
+import com.example.api.query.QuerySchema;
 import com.example.api.service.ProfileService;
+import com.example.api.store.ProfileResource;
+import com.example.api.trending.TrendingTracker;
+import com.example.api.warmup.WarmupRunner;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST Controller for profile data endpoints.
  */
 @RestController
 @RequestMapping("/api/profile")
-@CrossOrigin(origins = "*", maxAge = 3600)
 public class ProfileController {
 
+    /** Upper bound on ids per batch request. */
+    static final int MAX_BATCH_SIZE = 100;
+
     @Autowired
     private ProfileService profileService;
 
+    @Autowired
+    private EngagementTracker engagementTracker;
+
+    @Autowired
+    private TrendingTracker trendingTracker;
+
     /**
-     * Get all work experiences.
-     * @return List of experiences
+     * Get all work experiences, or those overlapping a date range and/or of one type,
+     * e.g. {@code /experiences?from=2021-01&to=2023-06&type=internship}, or those matching a query,
+     * e.g. {@code /experiences?filter=tech:Java AND end>=2021-01&sort=-start}.
+     * @param from First month as {@code YYYY-MM}, optional
+     * @param to Last month as {@code YYYY-MM}, optional
+     * @param type Experience type, optional
+     * @param filter Query filter, optional; not combined with from, to or type
+     * @param sort Comma-separated sort fields, {@code -} prefixed for descending, optional
+     * @param request The request, for conditional GETs
+     * @return List of experiences, 304 if unchanged since the client's ETag, or 400 for a malformed
+     * range or query
      */
     @GetMapping("/experiences")
-    public ResponseEntity<List<Experience>> getExperiences() {
+    public ResponseEntity<List<Experience>> getExperiences(@RequestParam(required = false) String from,
+                                                           @RequestParam(required = false) String to,
+                                                           @RequestParam(required = false) String type,
+                                                           @RequestParam(required = false) String filter,
+                                                           @RequestParam(required = false) String sort,
+                                                           WebRequest request) {
+        boolean query = filter != null || sort != null;
+        if (query && (from != null || to != null || type != null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (request.checkNotModified(profileService.getETag(ProfileResource.EXPERIENCES))) {
+            return null;
+        }
         try {
-            List<Experience> experiences = profileService.getExperiences();
+            List<Experience> experiences;
+            if (query) {
+                experiences = profileService.query(QuerySchema.EXPERIENCES, filter, sort);
+            } else if (from == null && to == null && type == null) {
+                experiences = profileService.getExperiences();
+            } else {
+                experiences = profileService.findExperiences(from, to, type);
+            }
             return ResponseEntity.ok(experiences);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (IOException e) {
             return ResponseEntity.internalServerError().build();
         }
@@ -48,6 +97,9 @@ public class ProfileController {
         try {
             Experience experience = profileService.getExperienceById(id);
             if (experience != null) {
+                if (!WarmupRunner.isWarmupRequest()) {
+                    engagementTracker.record(ProfileResource.EXPERIENCES, id);
+                }
                 return ResponseEntity.ok(experience);
             } else {
                 return ResponseEntity.notFound().build();
@@ -58,14 +110,92 @@ public class ProfileController {
     }
 
     /**
-     * Get all education entries.
-     * @return List of education entries
+     * Get several experiences by ID, e.g. {@code /experiences?ids=1,4,7}.
+     * @param ids Experience IDs
+     * @return Experiences in request order with explicit misses, or 400 for too many ids
+     */
+    @GetMapping(value = "/experiences", params = "ids")
+    public ResponseEntity<BatchResult<Experience>> getExperiencesByIds(@RequestParam List<Integer> ids) {
+        return batch(ids, profileService::getExperiencesByIds);
+    }
+
+    /**
+     * Get several experiences by ID from a JSON array body.
+     * @param ids Experience IDs
+     * @return Experiences in request order with explicit misses, or 400 for too many ids
+     */
+    @PostMapping("/experiences/batch")
+    public ResponseEntity<BatchResult<Experience>> postExperiencesBatch(@RequestBody List<Integer> ids) {
+        return batch(ids, profileService::getExperiencesByIds);
+    }
+
+    /**
+     * Add an experience. An id of 0 or less is replaced with the next free id.
+     * @param experience The new experience
+     * @return 201 with the stored experience, 409 if the id is taken, 405 if the store is read-only
+     */
+    @PostMapping("/experiences")
+    public ResponseEntity<Experience> createExperience(@RequestBody Experience experience) {
+        return create(ProfileResource.EXPERIENCES, experience);
+    }
+
+    /**
+     * Insert or replace an experience by ID.
+     * @param id Experience ID
+     * @param experience The new state; its id is ignored in favor of the path
+     * @return The stored experience, 400 for an id of 0 or less, or 405 if the store is read-only
+     */
+    @PutMapping("/experiences/{id}")
+    public ResponseEntity<Experience> updateExperience(@PathVariable int id, @RequestBody Experience experience) {
+        return update(ProfileResource.EXPERIENCES, id, experience);
+    }
+
+    /**
+     * Delete an experience by ID.
+     * @param id Experience ID
+     * @return 204, 404 if not found, or 405 if the store is read-only
+     */
+    @DeleteMapping("/experiences/{id}")
+    public ResponseEntity<Void> deleteExperience(@PathVariable int id) {
+        return delete(ProfileResource.EXPERIENCES, id);
+    }
+
+    /**
+     * Get all education entries, or those overlapping a date range,
+     * e.g. {@code /education?from=2020-01&to=2022-12}.
+     * @param from First month as {@code YYYY-MM}, optional
+     * @param to Last month as {@code YYYY-MM}, optional
+     * @param filter Query filter, e.g. {@code course:Algorithms}, optional; not combined with from or to
+     * @param sort Comma-separated sort fields, {@code -} prefixed for descending, optional
+     * @param request The request, for conditional GETs
+     * @return List of education entries, 304 if unchanged since the client's ETag, or 400 for a malformed
+     * range or query
      */
     @GetMapping("/education")
-    public ResponseEntity<List<Education>> getEducation() {
+    public ResponseEntity<List<Education>> getEducation(@RequestParam(required = false) String from,
+                                                        @RequestParam(required = false) String to,
+                                                        @RequestParam(required = false) String filter,
+                                                        @RequestParam(required = false) String sort,
+                                                        WebRequest request) {
+        boolean query = filter != null || sort != null;
+        if (query && (from != null || to != null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (request.checkNotModified(profileService.getETag(ProfileResource.EDUCATION))) {
+            return null;
+        }
         try {
-            List<Education> education = profileService.getEducation();
+            List<Education> education;
+            if (query) {
+                education = profileService.query(QuerySchema.EDUCATION, filter, sort);
+            } else if (from == null && to == null) {
+                education = profileService.getEducation();
+            } else {
+                education = profileService.findEducation(from, to);
+            }
             return ResponseEntity.ok(education);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (IOException e) {
             return ResponseEntity.internalServerError().build();
         }
@@ -91,14 +221,78 @@ public class ProfileController {
     }
 
     /**
-     * Get all projects.
-     * @return List of projects
+     * Get several education entries by ID, e.g. {@code /education?ids=1,2}.
+     * @param ids Education IDs
+     * @return Education entries in request order with explicit misses, or 400 for too many ids
+     */
+    @GetMapping(value = "/education", params = "ids")
+    public ResponseEntity<BatchResult<Education>> getEducationByIds(@RequestParam List<Integer> ids) {
+        return batch(ids, profileService::getEducationByIds);
+    }
+
+    /**
+     * Get several education entries by ID from a JSON array body.
+     * @param ids Education IDs
+     * @return Education entries in request order with explicit misses, or 400 for too many ids
+     */
+    @PostMapping("/education/batch")
+    public ResponseEntity<BatchResult<Education>> postEducationBatch(@RequestBody List<Integer> ids) {
+        return batch(ids, profileService::getEducationByIds);
+    }
+
+    /**
+     * Add an education entry. An id of 0 or less is replaced with the next free id.
+     * @param education The new education entry
+     * @return 201 with the stored education entry, 409 if the id is taken, 405 if the store is read-only
+     */
+    @PostMapping("/education")
+    public ResponseEntity<Education> createEducation(@RequestBody Education education) {
+        return create(ProfileResource.EDUCATION, education);
+    }
+
+    /**
+     * Insert or replace an education entry by ID.
+     * @param id Education ID
+     * @param education The new state; its id is ignored in favor of the path
+     * @return The stored education entry, 400 for an id of 0 or less, or 405 if the store is read-only
+     */
+    @PutMapping("/education/{id}")
+    public ResponseEntity<Education> updateEducation(@PathVariable int id, @RequestBody Education education) {
+        return update(ProfileResource.EDUCATION, id, education);
+    }
+
+    /**
+     * Delete an education entry by ID.
+     * @param id Education ID
+     * @return 204, 404 if not found, or 405 if the store is read-only
+     */
+    @DeleteMapping("/education/{id}")
+    public ResponseEntity<Void> deleteEducation(@PathVariable int id) {
+        return delete(ProfileResource.EDUCATION, id);
+    }
+
+    /**
+     * Get all projects, or those matching a query,
+     * e.g. {@code /projects?filter=featured:true AND tech:Java&sort=title}.
+     * @param filter Query filter, optional
+     * @param sort Comma-separated sort fields, {@code -} prefixed for descending, optional
+     * @param request The request, for conditional GETs
+     * @return List of projects, 304 if unchanged since the client's ETag, or 400 for a malformed query
      */
     @GetMapping("/projects")
-    public ResponseEntity<List<Project>> getProjects() {
+    public ResponseEntity<List<Project>> getProjects(@RequestParam(required = false) String filter,
+                                                     @RequestParam(required = false) String sort,
+                                                     WebRequest request) {
+        if (request.checkNotModified(profileService.getETag(ProfileResource.PROJECTS))) {
+            return null;
+        }
         try {
-            List<Project> projects = profileService.getProjects();
+            List<Project> projects = filter == null && sort == null
+                    ? profileService.getProjects()
+                    : profileService.query(QuerySchema.PROJECTS, filter, sort);
             return ResponseEntity.ok(projects);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (IOException e) {
             return ResponseEntity.internalServerError().build();
         }
@@ -118,6 +312,44 @@ public class ProfileController {
         }
     }
 
+    /**
+     * Get the most requested projects and search terms over a recent window.
+     * @param limit Maximum number of projects and of terms
+     * @param minutes Window length; defaults to the longest tracked window
+     * @return Ranked projects and search terms with their estimated request counts
+     */
+    @GetMapping("/projects/trending")
+    public ResponseEntity<Map<String, Object>> getTrendingProjects(@RequestParam(defaultValue = "10") int limit,
+                                                                   @RequestParam(required = false) Long minutes) {
+        long window = minutes != null ? minutes : trendingTracker.windowMinutes();
+        try {
+            List<Map<String, Object>> projects = new ArrayList<>();
+            for (Map.Entry<Integer, Long> entry : trendingTracker.topProjects(limit, window).entrySet()) {
+                Project project = profileService.getProjectById(entry.getKey());
+                if (project != null) {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("project", project);
+                    item.put("requests", entry.getValue());
+                    projects.add(item);
+                }
+            }
+            List<Map<String, Object>> searchTerms = new ArrayList<>();
+            for (Map.Entry<String, Long> entry : trendingTracker.topSearchTerms(limit, window).entrySet()) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("term", entry.getKey());
+                item.put("searches", entry.getValue());
+                searchTerms.add(item);
+            }
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("windowMinutes", window);
+            response.put("projects", projects);
+            response.put("searchTerms", searchTerms);
+            return ResponseEntity.ok(response);
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * Get project by ID.
      * @param id Project ID
@@ -128,6 +360,10 @@ public class ProfileController {
         try {
             Project project = profileService.getProjectById(id);
             if (project != null) {
+                if (!WarmupRunner.isWarmupRequest()) {
+                    engagementTracker.record(ProfileResource.PROJECTS, id);
+                    trendingTracker.recordProject(id);
+                }
                 return ResponseEntity.ok(project);
             } else {
                 return ResponseEntity.notFound().build();
@@ -137,6 +373,78 @@ public class ProfileController {
         }
     }
 
+    /**
+     * Get several projects by ID, e.g. {@code /projects?ids=1,4,7}.
+     * @param ids Project IDs
+     * @return Projects in request order with explicit misses, or 400 for too many ids
+     */
+    @GetMapping(value = "/projects", params = "ids")
+    public ResponseEntity<BatchResult<Project>> getProjectsByIds(@RequestParam List<Integer> ids) {
+        return batch(ids, profileService::getProjectsByIds);
+    }
+
+    /**
+     * Get several projects by ID from a JSON array body.
+     * @param ids Project IDs
+     * @return Projects in request order with explicit misses, or 400 for too many ids
+     */
+    @PostMapping("/projects/batch")
+    public ResponseEntity<BatchResult<Project>> postProjectsBatch(@RequestBody List<Integer> ids) {
+        return batch(ids, profileService::getProjectsByIds);
+    }
+
+    /**
+     * Add a project. An id of 0 or less is replaced with the next free id.
+     * @param project The new project
+     * @return 201 with the stored project, 409 if the id is taken, 405 if the store is read-only
+     */
+    @PostMapping("/projects")
+    public ResponseEntity<Project> createProject(@RequestBody Project project) {
+        return create(ProfileResource.PROJECTS, project);
+    }
+
+    /**
+     * Insert or replace a project by ID.
+     * @param id Project ID
+     * @param project The new state; its id is ignored in favor of the path
+     * @return The stored project, 400 for an id of 0 or less, or 405 if the store is read-only
+     */
+    @PutMapping("/projects/{id}")
+    public ResponseEntity<Project> updateProject(@PathVariable int id, @RequestBody Project project) {
+        return update(ProfileResource.PROJECTS, id, project);
+    }
+
+    /**
+     * Delete a project by ID.
+     * @param id Project ID
+     * @return 204, 404 if not found, or 405 if the store is read-only
+     */
+    @DeleteMapping("/projects/{id}")
+    public ResponseEntity<Void> deleteProject(@PathVariable int id) {
+        return delete(ProfileResource.PROJECTS, id);
+    }
+
+    /**
+     * Search projects by words in their title, description or technologies.
+     * @param q Search query
+     * @return Matching projects, or 400 for a blank query
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<Project>> search(@RequestParam String q) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            List<Project> projects = profileService.searchProjects(q);
+            if (!WarmupRunner.isWarmupRequest()) {
+                trendingTracker.recordSearch(q);
+            }
+            return ResponseEntity.ok(projects);
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * Get personal information and contact details.
      * @return Personal information object
@@ -178,4 +486,65 @@ public class ProfileController {
             return ResponseEntity.internalServerError().build();
         }
     }
-}
\ No newline at end of file
+
+    private static <T> ResponseEntity<BatchResult<T>> batch(List<Integer> ids, BatchLookup<T> lookup) {
+        if (ids.size() > MAX_BATCH_SIZE || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(lookup.apply(ids));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    private <T> ResponseEntity<T> create(ProfileResource resource, T entity) {
+        try {
+            T created = profileService.create(resource, entity);
+            if (created != null) {
+                return ResponseEntity.status(HttpStatus.CREATED).body(created);
+            } else {
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            }
+        } catch (UnsupportedOperationException e) {
+            return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).build();
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    private <T> ResponseEntity<T> update(ProfileResource resource, int id, T entity) {
+        try {
+            return ResponseEntity.ok(profileService.update(resource, id, entity));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (UnsupportedOperationException e) {
+            return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).build();
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    private ResponseEntity<Void> delete(ProfileResource resource, int id) {
+        try {
+            if (profileService.delete(resource, id)) {
+                return ResponseEntity.noContent().build();
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (UnsupportedOperationException e) {
+            return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).build();
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Batch lookup function of {@link ProfileService}.
+     * @param <T> Entity type
+     */
+    @FunctionalInterface
+    private interface BatchLookup<T> {
+        BatchResult<T> apply(List<Integer> ids) throws IOException;
+    }
+}
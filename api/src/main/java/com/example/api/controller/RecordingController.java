@@ -0,0 +1,91 @@
+package com.example.api.controller;
+
+import com.example.api.diagnostics.DiagnosticRecorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST Controller starting, dumping and stopping the API's Flight Recorder recording.
+ *
+ * <p>Under {@code /api/admin}, so every request needs the admin token.</p>
+ */
+@RestController
+@RequestMapping("/api/admin/recording")
+public class RecordingController {
+
+    @Autowired
+    private DiagnosticRecorder diagnosticRecorder;
+
+    /**
+     * Get the state of the recording.
+     * @return Whether it runs, and its start time, bounds and size if so
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getRecording() {
+        return ResponseEntity.ok(diagnosticRecorder.status());
+    }
+
+    /**
+     * Start recording, optionally with tighter bounds than the configured ones; larger values are
+     * lowered to the configured bounds.
+     * @param maxAgeMs Age after which data is discarded, in milliseconds
+     * @param maxSizeBytes Size after which the oldest data is discarded, in bytes
+     * @return The recording's state, or 409 if one is already running
+     */
+    @PostMapping("/start")
+    public ResponseEntity<Map<String, Object>> start(@RequestParam(required = false) Long maxAgeMs,
+                                                     @RequestParam(required = false) Long maxSizeBytes) {
+        if ((maxAgeMs != null && maxAgeMs <= 0) || (maxSizeBytes != null && maxSizeBytes <= 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Duration maxAge = maxAgeMs != null ? Duration.ofMillis(maxAgeMs) : diagnosticRecorder.getMaxAge();
+        long maxSize = maxSizeBytes != null ? maxSizeBytes : diagnosticRecorder.getMaxSize();
+        if (!diagnosticRecorder.start(maxAge, maxSize)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(diagnosticRecorder.status());
+        }
+        return ResponseEntity.ok(diagnosticRecorder.status());
+    }
+
+    /**
+     * Write the recorded data to a file on the server, leaving the recording running. Only the
+     * newest dumps are kept.
+     * @return Path and size of the file, or 409 if no recording is running
+     * @throws IOException if the file cannot be written
+     */
+    @PostMapping("/dump")
+    public ResponseEntity<Map<String, Object>> dump() throws IOException {
+        Path file = diagnosticRecorder.dump();
+        if (file == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("file", file.toString());
+        response.put("sizeBytes", Files.size(file));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Stop and discard the recording.
+     * @return The recorder's state, or 409 if no recording is running
+     */
+    @PostMapping("/stop")
+    public ResponseEntity<Map<String, Object>> stop() {
+        if (!diagnosticRecorder.stop()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(diagnosticRecorder.status());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.api.controller;
+
+import com.example.api.model.Project;
+import com.example.api.recommend.SimilarProjectsIndex;
+import com.example.api.recommend.SimilarProjectsService;
+import com.example.api.service.ProfileService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Controller for project recommendations.
+ */
+@RestController
+@RequestMapping("/api/profile/projects")
+public class SimilarProjectsController {
+
+    @Autowired
+    private SimilarProjectsService similarProjectsService;
+
+    @Autowired
+    private ProfileService profileService;
+
+    /**
+     * Get the projects sharing the most technologies with a project.
+     * @param id Project ID
+     * @param limit Maximum number of projects
+     * @return Similar projects with their Jaccard similarity, most similar first, or 404 if not found
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<Map<String, Object>>> getSimilarProjects(@PathVariable int id,
+                                                                        @RequestParam(defaultValue = "5") int limit) {
+        List<SimilarProjectsIndex.Neighbour> neighbours = similarProjectsService.getSimilar(id, limit);
+        if (neighbours == null) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            List<Map<String, Object>> response = new ArrayList<>(neighbours.size());
+            for (SimilarProjectsIndex.Neighbour neighbour : neighbours) {
+                Project project = profileService.getProjectById(neighbour.getId());
+                if (project != null) {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("project", project);
+                    item.put("score", neighbour.getScore());
+                    response.add(item);
+                }
+            }
+            return ResponseEntity.ok(response);
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.api.controller;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.PersonalInfo;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+import com.example.api.service.ProfileService;
+import com.example.api.tenant.TenantStoreRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * REST Controller for tenant-scoped profile data, mirroring the read endpoints of
+ * {@link ProfileController} under {@code /api/{tenant}/profile}.
+ */
+@RestController
+@RequestMapping("/api/{tenant}/profile")
+public class TenantProfileController {
+
+    @Autowired
+    private TenantStoreRegistry tenantStoreRegistry;
+
+    /**
+     * Get all work experiences of a tenant.
+     * @param tenant Tenant ID
+     * @return List of experiences or 404 if the tenant does not exist
+     */
+    @GetMapping("/experiences")
+    public ResponseEntity<List<Experience>> getExperiences(@PathVariable String tenant) {
+        return withTenant(tenant, ProfileService::getExperiences);
+    }
+
+    /**
+     * Get experience by ID.
+     * @param tenant Tenant ID
+     * @param id Experience ID
+     * @return Experience object or 404 if not found
+     */
+    @GetMapping("/experiences/{id}")
+    public ResponseEntity<Experience> getExperienceById(@PathVariable String tenant, @PathVariable int id) {
+        return withTenant(tenant, service -> service.getExperienceById(id));
+    }
+
+    /**
+     * Get all education entries of a tenant.
+     * @param tenant Tenant ID
+     * @return List of education entries or 404 if the tenant does not exist
+     */
+    @GetMapping("/education")
+    public ResponseEntity<List<Education>> getEducation(@PathVariable String tenant) {
+        return withTenant(tenant, ProfileService::getEducation);
+    }
+
+    /**
+     * Get education by ID.
+     * @param tenant Tenant ID
+     * @param id Education ID
+     * @return Education object or 404 if not found
+     */
+    @GetMapping("/education/{id}")
+    public ResponseEntity<Education> getEducationById(@PathVariable String tenant, @PathVariable int id) {
+        return withTenant(tenant, service -> service.getEducationById(id));
+    }
+
+    /**
+     * Get all projects of a tenant.
+     * @param tenant Tenant ID
+     * @return List of projects or 404 if the tenant does not exist
+     */
+    @GetMapping("/projects")
+    public ResponseEntity<List<Project>> getProjects(@PathVariable String tenant) {
+        return withTenant(tenant, ProfileService::getProjects);
+    }
+
+    /**
+     * Get only featured projects of a tenant.
+     * @param tenant Tenant ID
+     * @return List of featured projects or 404 if the tenant does not exist
+     */
+    @GetMapping("/projects/featured")
+    public ResponseEntity<List<Project>> getFeaturedProjects(@PathVariable String tenant) {
+        return withTenant(tenant, ProfileService::getFeaturedProjects);
+    }
+
+    /**
+     * Get project by ID.
+     * @param tenant Tenant ID
+     * @param id Project ID
+     * @return Project object or 404 if not found
+     */
+    @GetMapping("/projects/{id}")
+    public ResponseEntity<Project> getProjectById(@PathVariable String tenant, @PathVariable int id) {
+        return withTenant(tenant, service -> service.getProjectById(id));
+    }
+
+    /**
+     * Get personal information of a tenant.
+     * @param tenant Tenant ID
+     * @return Personal information object or 404 if the tenant does not exist
+     */
+    @GetMapping("/info")
+    public ResponseEntity<PersonalInfo> getPersonalInfo(@PathVariable String tenant) {
+        return withTenant(tenant, ProfileService::getPersonalInfo);
+    }
+
+    /**
+     * Get skills of a tenant.
+     * @param tenant Tenant ID
+     * @return Skills object or 404 if the tenant does not exist
+     */
+    @GetMapping("/skills")
+    public ResponseEntity<Skills> getSkills(@PathVariable String tenant) {
+        return withTenant(tenant, ProfileService::getSkills);
+    }
+
+    private <T> ResponseEntity<T> withTenant(String tenant, TenantQuery<T> query) {
+        try {
+            ProfileService service = tenantStoreRegistry.get(tenant);
+            T result = service == null ? null : query.apply(service);
+            return result != null ? ResponseEntity.ok(result) : ResponseEntity.notFound().build();
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Read against one tenant's profile service.
+     * @param <T> Result type
+     */
+    @FunctionalInterface
+    private interface TenantQuery<T> {
+        T apply(ProfileService service) throws IOException;
+    }
+}
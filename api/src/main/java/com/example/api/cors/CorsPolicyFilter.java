@@ -0,0 +1,164 @@
+package com.example.api.cors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Applies the cross-origin policy of the whole API in one place.
+ *
+ * <p>Paths matching {@code api.cors.public-paths} may be read ({@code GET} and {@code HEAD}) from
+ * any origin, paths matching {@code api.cors.paths} only from {@code api.cors.allowed-origins};
+ * other paths get no CORS headers. The {@code api.cors.allowed-methods}, writes included, are only
+ * granted to the allowed origins, on public paths too, so that no other site can make a browser
+ * send writes. Preflight requests are answered here from header values computed at startup and never
+ * reach Spring MVC, with a long {@code Access-Control-Max-Age} so that browsers repeat them
+ * rarely. Requests from origins, methods or headers outside the policy are refused with 403, as
+ * Spring's own CORS processing does.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "api.cors.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class CorsPolicyFilter extends OncePerRequestFilter {
+
+    private static final String VARY = String.join(", ", HttpHeaders.ORIGIN,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+
+    private static final Set<String> PUBLIC_METHODS = Set.of("GET", "HEAD");
+    private static final String PUBLIC_METHODS_VALUE = "GET,HEAD";
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Set<String> allowedOrigins;
+    private final Set<String> allowedMethods;
+    private final Set<String> allowedHeaders = new HashSet<>();
+    private final String allowMethodsValue;
+    private final String allowHeadersValue;
+    private final String exposeHeadersValue;
+    private final String maxAgeValue;
+
+    public CorsPolicyFilter(@Value("${api.cors.public-paths:/api/profile/**,/api/*/profile/**}")
+                            List<String> publicPaths,
+                            @Value("${api.cors.paths:/api/greeting}") List<String> paths,
+                            @Value("${api.cors.allowed-origins:http://localhost:3000}") List<String> allowedOrigins,
+                            @Value("${api.cors.allowed-methods:GET,HEAD,POST,PUT,PATCH,DELETE}")
+                            List<String> allowedMethods,
+                            @Value("${api.cors.allowed-headers:Authorization,Content-Type,If-Match,If-None-Match,"
+                                    + "Last-Event-ID}")
+                            List<String> allowedHeaders,
+                            @Value("${api.cors.exposed-headers:ETag}") List<String> exposedHeaders,
+                            @Value("${api.cors.max-age-seconds:86400}") long maxAgeSeconds) {
+        publicPaths.forEach(path -> rules.add(new Rule(path, true)));
+        paths.forEach(path -> rules.add(new Rule(path, false)));
+        this.allowedOrigins = Set.copyOf(allowedOrigins);
+        this.allowedMethods = Set.copyOf(allowedMethods);
+        allowedHeaders.forEach(header -> this.allowedHeaders.add(header.toLowerCase(Locale.ROOT)));
+        this.allowMethodsValue = String.join(",", allowedMethods);
+        this.allowHeadersValue = String.join(",", allowedHeaders);
+        this.exposeHeadersValue = exposedHeaders.isEmpty() ? null : String.join(",", exposedHeaders);
+        this.maxAgeValue = Long.toString(maxAgeSeconds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !CorsUtils.isCorsRequest(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Rule rule = ruleFor(request.getRequestURI());
+        if (rule == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        response.setHeader(HttpHeaders.VARY, VARY);
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        boolean trusted = allowedOrigins.contains(origin);
+        if (!rule.anyOrigin && !trusted) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        String allowOrigin = trusted ? origin : "*";
+        Set<String> methods = trusted ? allowedMethods : PUBLIC_METHODS;
+        if (CorsUtils.isPreFlightRequest(request)) {
+            if (!methods.contains(request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD))
+                    || !headersAllowed(request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS))) {
+                response.setStatus(HttpStatus.FORBIDDEN.value());
+                return;
+            }
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, allowOrigin);
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS,
+                    trusted ? allowMethodsValue : PUBLIC_METHODS_VALUE);
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, allowHeadersValue);
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE, maxAgeValue);
+            response.setStatus(HttpStatus.OK.value());
+            return;
+        }
+        // Requests a browser sends without a preflight, e.g. form posts, must not get through either
+        if (!methods.contains(request.getMethod())) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, allowOrigin);
+        if (exposeHeadersValue != null) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, exposeHeadersValue);
+        }
+        chain.doFilter(request, response);
+    }
+
+    private Rule ruleFor(String uri) {
+        PathContainer path = PathContainer.parsePath(uri);
+        for (Rule rule : rules) {
+            if (rule.pattern.matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private boolean headersAllowed(String requestHeaders) {
+        if (requestHeaders == null) {
+            return true;
+        }
+        for (String header : requestHeaders.split(",")) {
+            String name = header.trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty() && !allowedHeaders.contains(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A path pattern and whether it is open to every origin.
+     */
+    private static final class Rule {
+        private final PathPattern pattern;
+        private final boolean anyOrigin;
+
+        private Rule(String path, boolean anyOrigin) {
+            this.pattern = PathPatternParser.defaultInstance.parse(path);
+            this.anyOrigin = anyOrigin;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.api.dataset;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.JsonCodecModule;
+import com.example.api.model.PersonalInfo;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.store.ProfileDataSource;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Writes synthetic profile data sets for scale testing, from thousands up to millions of entities.
+ *
+ * <p>The output is the five profile JSON files, written with the application's own model classes
+ * and serializers, so any {@link ProfileDataSource#directory directory} source can load it; point
+ * the service at it with {@code profile.store.data-directory}. Technologies are drawn from a
+ * Zipf-distributed vocabulary, as in real portfolios a few tags are everywhere and most are rare.
+ * The same seed and sizes always produce byte-identical files, and each file has its own random
+ * stream, so resizing one collection leaves the others unchanged.</p>
+ *
+ * <p>Run from the api module with
+ * {@code mvn compile exec:java -Dexec.mainClass=com.example.api.dataset.ProfileDatasetGenerator
+ * -Dexec.args="<directory> <size> [seed]"}.</p>
+ */
+public final class ProfileDatasetGenerator {
+
+    /** Zipf exponent of technology popularity. */
+    private static final double TAG_SKEW = 1.1;
+    private static final int VOCABULARY_SIZE = 400;
+
+    private static final List<String> TECHNOLOGIES = List.of(
+            "Java", "Python", "JavaScript", "TypeScript", "React", "Spring Boot", "SQL", "Git", "Docker",
+            "AWS", "Node.js", "Kubernetes", "PostgreSQL", "REST APIs", "C++", "Go", "Maven", "Linux",
+            "CI/CD", "HTML", "CSS", "Redis", "Kafka", "GraphQL", "MongoDB", "Terraform", "Jenkins", "Rust",
+            "C#", ".NET", "Angular", "Vue.js", "Kotlin", "Swift", "Gradle", "TensorFlow", "PyTorch",
+            "Pandas", "NumPy", "Scala", "Spark", "Elasticsearch", "RabbitMQ", "gRPC", "Azure", "GCP",
+            "OpenShift", "Ansible", "Prometheus", "Grafana", "Jest", "JUnit", "Selenium", "Material-UI",
+            "Next.js", "Flask", "Django", "FastAPI", "Hibernate", "MySQL", "SQLite", "Cassandra", "Groovy",
+            "Bash", "Nginx", "WebSockets", "OAuth", "Figma", "Unity", "OpenCV");
+    private static final String[] COMPANIES = {
+        "Northwind Systems", "Blue Harbor Labs", "Maplebyte", "Quantum Ledger", "Cedar Health",
+        "Polar Analytics", "Helix Robotics", "Summit Insurance", "Lumen Retail", "Orbit Logistics",
+        "Granite Bank", "Aurora Media", "Vertex Energy", "Pinecone Games", "Harborview Telecom"};
+    private static final String[] POSITIONS = {
+        "Software Engineer", "SWE Intern", "Backend Developer", "Full Stack Developer", "DevOps Engineer",
+        "Data Engineer", "Machine Learning Intern", "Site Reliability Engineer", "QA Automation Intern",
+        "Frontend Developer"};
+    private static final String[] LOCATIONS = {
+        "Montreal, Quebec, Canada", "Toronto, Ontario, Canada", "Vancouver, British Columbia, Canada",
+        "Ottawa, Ontario, Canada", "Waterloo, Ontario, Canada", "Calgary, Alberta, Canada",
+        "New York, New York, USA", "San Francisco, California, USA", "Seattle, Washington, USA", "Remote"};
+    private static final String[] INSTITUTIONS = {
+        "McGill University", "University of Toronto", "University of Waterloo", "Concordia University",
+        "University of British Columbia", "Queen's University", "McMaster University", "Dawson College"};
+    private static final String[] DEGREES = {
+        "Bachelor of Science", "Bachelor of Engineering", "Master of Science", "Diploma of College Studies"};
+    private static final String[] FIELDS = {
+        "Software Engineering", "Computer Science", "Computer Engineering", "Mathematics",
+        "Data Science", "Electrical Engineering"};
+    private static final String[] COURSES = {
+        "Data Structures and Algorithms", "Object-Oriented Programming", "Operating Systems", "Databases",
+        "Computer Networks", "Artificial Intelligence", "Machine Learning", "Software Design",
+        "Compiler Design", "Distributed Systems", "Linear Algebra", "Probability and Statistics",
+        "Computer Architecture", "Human-Computer Interaction", "Computer Graphics"};
+    private static final String[] ACHIEVEMENTS = {
+        "Dean's List", "Hackathon finalist", "Entrance scholarship", "Teaching assistant",
+        "Research assistant", "Robotics team lead", "Programming contest medalist"};
+    private static final String[] VERBS = {
+        "Built", "Designed", "Migrated", "Optimized", "Automated", "Maintained", "Implemented", "Refactored",
+        "Scaled", "Tested"};
+    private static final String[] OBJECTS = {
+        "internal dashboards", "REST services", "the deployment pipeline", "data ingestion jobs",
+        "customer-facing features", "monitoring and alerting", "a search index", "payment integrations",
+        "reporting tools", "the mobile backend"};
+    private static final String[] PROJECT_KINDS = {
+        "Tracker", "Visualizer", "Engine", "Bot", "Dashboard", "Compiler", "Simulator", "Scheduler",
+        "Portfolio", "Game"};
+    private static final String[] PROJECT_TOPICS = {
+        "Budget", "Weather", "Chess", "Habit", "Stock", "Recipe", "Transit", "Music", "Fitness", "Study",
+        "Graph", "Search", "Chat", "Image", "Ray"};
+
+    private final SerializationRegistry serializationRegistry;
+    private final long seed;
+    private final String[] vocabulary;
+    private final double[] cumulativeWeights;
+
+    public ProfileDatasetGenerator(SerializationRegistry serializationRegistry, long seed) {
+        this.serializationRegistry = serializationRegistry;
+        this.seed = seed;
+        this.vocabulary = new String[VOCABULARY_SIZE];
+        this.cumulativeWeights = new double[VOCABULARY_SIZE];
+        double total = 0;
+        for (int rank = 0; rank < VOCABULARY_SIZE; rank++) {
+            vocabulary[rank] = rank < TECHNOLOGIES.size() ? TECHNOLOGIES.get(rank) : "Library " + rank;
+            total += 1 / Math.pow(rank + 1, TAG_SKEW);
+            cumulativeWeights[rank] = total;
+        }
+    }
+
+    /**
+     * Write a data set with {@code size} experiences and projects and a tenth as many education entries.
+     * @param directory Target directory, created if missing; existing data files are replaced
+     * @param size Number of experiences and of projects
+     * @throws IOException if a file cannot be written
+     */
+    public void generate(Path directory, int size) throws IOException {
+        generate(directory, size, Math.max(1, size / 10), size);
+    }
+
+    /**
+     * Write a data set.
+     * @param directory Target directory, created if missing; existing data files are replaced
+     * @param experiences Number of experiences
+     * @param education Number of education entries
+     * @param projects Number of projects
+     * @throws IOException if a file cannot be written
+     */
+    public void generate(Path directory, int experiences, int education, int projects) throws IOException {
+        Files.createDirectories(directory);
+        Random random = new Random(seed);
+        writeArray(directory.resolve("experiences.json"), Experience.class, experiences,
+                new Random(random.nextLong()), this::experience);
+        writeArray(directory.resolve("education.json"), Education.class, education,
+                new Random(random.nextLong()), this::education);
+        writeArray(directory.resolve("projects.json"), Project.class, projects,
+                new Random(random.nextLong()), this::project);
+        write(directory.resolve("skills.json"), Skills.class, skills());
+        write(directory.resolve("personal-info.json"), PersonalInfo.class, personalInfo());
+    }
+
+    /**
+     * Command line entry point.
+     * @param args Target directory, size, and optionally the seed (default 42)
+     * @throws IOException if a file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            throw new IllegalArgumentException("Usage: ProfileDatasetGenerator <directory> <size> [seed]");
+        }
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JsonCodecModule());
+        long seed = args.length == 3 ? Long.parseLong(args[2]) : 42;
+        new ProfileDatasetGenerator(new SerializationRegistry(objectMapper), seed)
+                .generate(Paths.get(args[0]), Integer.parseInt(args[1]));
+    }
+
+    private Experience experience(int id, Random random) {
+        int start = month(random, 2000, 2025);
+        boolean current = random.nextInt(20) == 0;
+        List<String> description = new ArrayList<>();
+        for (int i = 1 + random.nextInt(4); i > 0; i--) {
+            description.add(pick(random, VERBS) + " " + pick(random, OBJECTS));
+        }
+        return new Experience(id, pick(random, COMPANIES), pick(random, POSITIONS), pick(random, LOCATIONS),
+                formatMonth(start), current ? "" : formatMonth(start + 1 + random.nextInt(48)), current,
+                description, technologies(random, 2, 8), random.nextInt(3) == 0 ? "internship" : "work");
+    }
+
+    private Education education(int id, Random random) {
+        int start = month(random, 1995, 2025);
+        String field = pick(random, FIELDS);
+        List<String> courses = new ArrayList<>();
+        for (int i = 3 + random.nextInt(5); i > 0; i--) {
+            String course = pick(random, COURSES);
+            if (!courses.contains(course)) {
+                courses.add(course);
+            }
+        }
+        List<String> achievements = new ArrayList<>();
+        for (int i = random.nextInt(3); i > 0; i--) {
+            achievements.add(pick(random, ACHIEVEMENTS));
+        }
+        String gpa = String.format(Locale.ROOT, "%d.%d", 2 + random.nextInt(2), random.nextInt(10));
+        return new Education(id, pick(random, INSTITUTIONS), pick(random, DEGREES), field, pick(random, LOCATIONS),
+                formatMonth(start), formatMonth(start + 12 + random.nextInt(48)),
+                "Program in " + field + " with a focus on " + pick(random, COURSES).toLowerCase(Locale.ROOT) + ".",
+                courses, achievements, gpa);
+    }
+
+    private Project project(int id, Random random) {
+        String title = pick(random, PROJECT_TOPICS) + " " + pick(random, PROJECT_KINDS) + " " + id;
+        List<String> technologies = technologies(random, 2, 8);
+        String slug = title.toLowerCase(Locale.ROOT).replace(' ', '-');
+        return new Project(id, title, "A " + pick(random, PROJECT_KINDS).toLowerCase(Locale.ROOT) + " built with "
+                + String.join(", ", technologies) + ".", technologies, "https://github.com/example/" + slug,
+                random.nextInt(4) == 0 ? "https://" + slug + ".example.com" : null, random.nextInt(50) == 0);
+    }
+
+    private Skills skills() {
+        List<String> technical = Arrays.asList(vocabulary).subList(0, 40);
+        Map<String, List<String>> categories = new LinkedHashMap<>();
+        categories.put("Languages", List.of("Java", "Python", "JavaScript", "TypeScript", "C++", "Go", "Rust"));
+        categories.put("Frameworks", List.of("React", "Spring Boot", "Node.js", "Angular", "Django", "Flask"));
+        categories.put("Data", List.of("SQL", "PostgreSQL", "Redis", "Kafka", "MongoDB", "Elasticsearch"));
+        categories.put("Cloud & DevOps", List.of("AWS", "Docker", "Kubernetes", "Terraform", "CI/CD", "Jenkins"));
+        Map<String, List<String>> levels = new LinkedHashMap<>();
+        levels.put("Expert", technical.subList(0, 5));
+        levels.put("Advanced", technical.subList(5, 15));
+        levels.put("Intermediate", technical.subList(15, 30));
+        levels.put("Beginner", technical.subList(30, 40));
+        return new Skills(technical, categories, levels);
+    }
+
+    private PersonalInfo personalInfo() throws IOException {
+        try (InputStream inputStream = ProfileDataSource.classpath("data/").open("personal-info.json")) {
+            return serializationRegistry.readerFor(PersonalInfo.class).readValue(inputStream);
+        }
+    }
+
+    /**
+     * Draw distinct technologies, popular ones far more often than rare ones.
+     */
+    private List<String> technologies(Random random, int min, int max) {
+        int count = min + random.nextInt(max - min + 1);
+        List<String> technologies = new ArrayList<>(count);
+        double total = cumulativeWeights[VOCABULARY_SIZE - 1];
+        while (technologies.size() < count) {
+            int rank = Arrays.binarySearch(cumulativeWeights, random.nextDouble() * total);
+            String technology = vocabulary[rank >= 0 ? rank : -rank - 1];
+            if (!technologies.contains(technology)) {
+                technologies.add(technology);
+            }
+        }
+        return technologies;
+    }
+
+    private <T> void writeArray(Path file, Class<T> type, int count, Random random, EntityFactory<T> factory)
+            throws IOException {
+        // One array element at a time, so a million entities never sit on the heap together
+        ObjectWriter writer = serializationRegistry.writerFor(type)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16);
+             JsonGenerator generator = serializationRegistry.getObjectMapper().getFactory()
+                     .createGenerator(outputStream)) {
+            generator.writeStartArray();
+            for (int id = 1; id <= count; id++) {
+                writer.writeValue(generator, factory.create(id, random));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private void write(Path file, Class<?> type, Object value) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+            serializationRegistry.writerFor(type).writeValue(outputStream, value);
+        }
+    }
+
+    private static int month(Random random, int fromYear, int toYear) {
+        return fromYear * 12 + random.nextInt((toYear - fromYear + 1) * 12);
+    }
+
+    private static String formatMonth(int month) {
+        return String.format(Locale.ROOT, "%04d-%02d", month / 12, month % 12 + 1);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    @FunctionalInterface
+    private interface EntityFactory<T> {
+        T create(int id, Random random);
+    }
+}
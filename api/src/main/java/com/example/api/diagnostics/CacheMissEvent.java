@@ -0,0 +1,42 @@
+package com.example.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a cache miss, lasting as long as the missing value took to load.
+ */
+@Name("com.example.api.CacheMiss")
+@Label("Cache Miss")
+@Category({"Profile API", "Cache"})
+@Description("A lookup that had to load its value")
+public class CacheMissEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Key")
+    String key;
+
+    @Label("Loaded")
+    @Description("Whether the value was loaded, as opposed to the load failing")
+    boolean loaded;
+
+    /**
+     * Fill in the miss and commit, if the event passes its threshold.
+     * @param cacheName Name of the cache
+     * @param missingKey The missing key
+     * @param succeeded Whether the load succeeded
+     */
+    public void end(String cacheName, String missingKey, boolean succeeded) {
+        if (shouldCommit()) {
+            this.cache = cacheName;
+            this.key = missingKey;
+            this.loaded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.api.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Controls the on-demand Flight Recorder recording of the API.
+ *
+ * <p>At most one recording runs at a time. It uses the JDK's {@code default} settings, which
+ * include the API's own events, and keeps no more than {@code api.diagnostics.recording.max-age-ms}
+ * and {@code api.diagnostics.recording.max-size-bytes} of data, discarding the oldest chunks
+ * first; callers may ask for tighter bounds but not for looser ones. Dumps are written to
+ * {@code api.diagnostics.recording.directory}, which keeps the newest
+ * {@code api.diagnostics.recording.max-dumps} of them.</p>
+ */
+@Component
+public class DiagnosticRecorder implements Closeable {
+
+    private static final DateTimeFormatter DUMP_NAME = DateTimeFormatter.ofPattern("'api-'yyyyMMdd'T'HHmmss.SSS'.jfr'")
+            .withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final Duration defaultMaxAge;
+    private final long defaultMaxSize;
+    private final int maxDumps;
+    private Recording recording;
+
+    public DiagnosticRecorder(@Value("${api.diagnostics.recording.directory:diagnostics}") String directory,
+                              @Value("${api.diagnostics.recording.max-age-ms:600000}") long maxAgeMillis,
+                              @Value("${api.diagnostics.recording.max-size-bytes:104857600}") long maxSizeBytes,
+                              @Value("${api.diagnostics.recording.max-dumps:5}") int maxDumps) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.defaultMaxAge = Duration.ofMillis(maxAgeMillis);
+        this.defaultMaxSize = maxSizeBytes;
+        this.maxDumps = Math.max(1, maxDumps);
+    }
+
+    /**
+     * Get the configured age bound, which is also the largest one a caller may ask for.
+     * @return Age after which recorded data is discarded
+     */
+    public Duration getMaxAge() {
+        return defaultMaxAge;
+    }
+
+    /**
+     * Get the configured size bound, which is also the largest one a caller may ask for.
+     * @return Size after which the oldest recorded data is discarded, in bytes
+     */
+    public long getMaxSize() {
+        return defaultMaxSize;
+    }
+
+    /**
+     * Start recording with the configured bounds.
+     * @return true if started, false if a recording is already running
+     */
+    public boolean start() {
+        return start(defaultMaxAge, defaultMaxSize);
+    }
+
+    /**
+     * Start recording. Bounds above the configured ones are lowered to them.
+     * @param maxAge Age after which recorded data is discarded
+     * @param maxSize Size after which the oldest recorded data is discarded, in bytes
+     * @return true if started, false if a recording is already running
+     */
+    public synchronized boolean start(Duration maxAge, long maxSize) {
+        if (recording != null) {
+            return false;
+        }
+        Recording started;
+        try {
+            started = new Recording(Configuration.getConfiguration("default"));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot read the default recording settings", e);
+        }
+        started.setName("api");
+        started.setToDisk(true);
+        started.setMaxAge(maxAge.compareTo(defaultMaxAge) < 0 ? maxAge : defaultMaxAge);
+        started.setMaxSize(Math.min(maxSize, defaultMaxSize));
+        started.start();
+        recording = started;
+        return true;
+    }
+
+    /**
+     * Write what the running recording holds to a new file, leaving it running, and delete the
+     * oldest dumps beyond {@code api.diagnostics.recording.max-dumps}.
+     * @return The written file, or null if no recording is running
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized Path dump() throws IOException {
+        if (recording == null) {
+            return null;
+        }
+        Files.createDirectories(directory);
+        Path file = directory.resolve(DUMP_NAME.format(Instant.now()));
+        recording.dump(file);
+        deleteOldDumps();
+        return file;
+    }
+
+    private void deleteOldDumps() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            // Dump names start with their UTC timestamp, so name order is age order
+            dumps = files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith("api-") && name.endsWith(".jfr");
+            }).sorted().collect(Collectors.toList());
+        }
+        for (int i = 0; i < dumps.size() - maxDumps; i++) {
+            Files.deleteIfExists(dumps.get(i));
+        }
+    }
+
+    /**
+     * Stop and discard the running recording; dump it first to keep its data.
+     * @return true if a recording was stopped
+     */
+    public synchronized boolean stop() {
+        if (recording == null) {
+            return false;
+        }
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+        } finally {
+            recording.close();
+            recording = null;
+        }
+        return true;
+    }
+
+    /**
+     * Describe the running recording.
+     * @return Map of state, start time, bounds and current size
+     */
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("recording", recording != null);
+        if (recording != null) {
+            status.put("state", recording.getState().name());
+            status.put("startTime", String.valueOf(recording.getStartTime()));
+            status.put("maxAgeMs", recording.getMaxAge().toMillis());
+            status.put("maxSizeBytes", recording.getMaxSize());
+            status.put("sizeBytes", recording.getSize());
+        }
+        status.put("directory", directory.toString());
+        return status;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for loading a profile data set into a store, at startup or on a reload.
+ */
+@Name("com.example.api.ProfileLoad")
+@Label("Profile Load")
+@Category({"Profile API", "Data"})
+@Description("Profile data parsed or mapped into a store")
+public class ProfileLoadEvent extends Event {
+
+    @Label("Engine")
+    @Description("Storage engine, json or mapped")
+    String engine;
+
+    @Label("Version")
+    long version;
+
+    @Label("Experiences")
+    int experiences;
+
+    @Label("Education")
+    int education;
+
+    @Label("Projects")
+    int projects;
+
+    /**
+     * Fill in what was loaded and commit, if the event passes its threshold.
+     * @param engineName Storage engine name
+     * @param dataVersion Version of the loaded data
+     * @param experienceCount Number of experiences
+     * @param educationCount Number of education entries
+     * @param projectCount Number of projects
+     */
+    public void end(String engineName, long dataVersion, int experienceCount, int educationCount, int projectCount) {
+        if (shouldCommit()) {
+            this.engine = engineName;
+            this.version = dataVersion;
+            this.experiences = experienceCount;
+            this.education = educationCount;
+            this.projects = projectCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one HTTP request, from the first filter until the response is complete.
+ */
+@Name("com.example.api.Request")
+@Label("HTTP Request")
+@Category({"Profile API", "HTTP"})
+@Description("An HTTP request served by the API")
+public class RequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("Matched handler pattern, or the request path when no handler matched")
+    String endpoint;
+
+    @Label("Status")
+    int status;
+
+    @Label("Bytes")
+    @Description("Response body bytes written through the servlet output stream")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Fill in the outcome and commit, if the event passes its threshold.
+     * @param requestMethod HTTP method
+     * @param handlerEndpoint Handler pattern or path
+     * @param responseStatus Response status
+     * @param responseBytes Response body bytes
+     */
+    void end(String requestMethod, String handlerEndpoint, int responseStatus, long responseBytes) {
+        if (shouldCommit()) {
+            this.method = requestMethod;
+            this.endpoint = handlerEndpoint;
+            this.status = responseStatus;
+            this.bytes = responseBytes;
+            commit();
+        }
+    }
+}
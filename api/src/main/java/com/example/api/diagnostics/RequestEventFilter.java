@@ -0,0 +1,158 @@
+package com.example.api.diagnostics;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+
+/**
+ * Records a {@link RequestEvent} per request while a Flight Recorder recording enables it.
+ *
+ * <p>Runs first so that requests shed by the concurrency limit are recorded too. Without an active
+ * recording the filter only checks that the event is disabled. Asynchronous requests, such as
+ * those handed to a bulkhead, are recorded when they complete.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestEventFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestEvent event = new RequestEvent();
+        if (!event.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        event.begin();
+        CountingResponse counting = new CountingResponse(response);
+        try {
+            chain.doFilter(request, counting);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new EndOnComplete(event, counting));
+            } else {
+                end(event, request, counting);
+            }
+        }
+    }
+
+    private static void end(RequestEvent event, HttpServletRequest request, CountingResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : request.getRequestURI();
+        event.end(request.getMethod(), endpoint, response.getStatus(), response.bytes);
+    }
+
+    /**
+     * Ends the event of an asynchronous request exactly once.
+     */
+    private static final class EndOnComplete implements AsyncListener {
+        private final RequestEvent event;
+        private final CountingResponse response;
+        private boolean ended;
+
+        private EndOnComplete(RequestEvent event, CountingResponse response) {
+            this.event = event;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent asyncEvent) {
+            end(asyncEvent);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent asyncEvent) {
+            end(asyncEvent);
+        }
+
+        @Override
+        public void onError(AsyncEvent asyncEvent) {
+            end(asyncEvent);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent asyncEvent) {
+            asyncEvent.getAsyncContext().addListener(this);
+        }
+
+        private synchronized void end(AsyncEvent asyncEvent) {
+            if (!ended) {
+                ended = true;
+                RequestEventFilter.end(event, (HttpServletRequest) asyncEvent.getSuppliedRequest(), response);
+            }
+        }
+    }
+
+    /**
+     * Response that counts the bytes written through its output stream.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+        private volatile long bytes;
+        private ServletOutputStream outputStream;
+
+        private CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        private final class CountingOutputStream extends ServletOutputStream {
+            private final ServletOutputStream delegate;
+
+            private CountingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                bytes++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                bytes += len;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for reading or writing one HTTP message body as JSON.
+ */
+@Name("com.example.api.Serialization")
+@Label("JSON Serialization")
+@Category({"Profile API", "Serialization"})
+@Description("A request body read or a response body written as JSON")
+public class SerializationEvent extends Event {
+
+    @Label("Operation")
+    @Description("read or write")
+    String operation;
+
+    @Label("Type")
+    String type;
+
+    @Label("Elements")
+    @Description("Number of elements of a collection, or -1 for a single value")
+    int elements;
+
+    /**
+     * Fill in what was serialized and commit, if the event passes its threshold.
+     * @param kind {@code read} or {@code write}
+     * @param bodyType Declared type of the body
+     * @param size Collection size, or -1
+     */
+    public void end(String kind, String bodyType, int size) {
+        if (shouldCommit()) {
+            this.operation = kind;
+            this.type = bodyType;
+            this.elements = size;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.api.engagement;
+
+import com.example.api.store.ProfileResource;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * View counters per profile entity.
+ *
+ * <p>Each entity gets its own {@link LongAdder}, whose internal cells spread concurrent increments
+ * across cache lines, so recording a view is a map lookup plus an uncontended add and never takes a
+ * lock on the request path. A background thread writes the totals to {@code profile.engagement.file}
+ * every {@code profile.engagement.flush-interval-ms}; totals found there are restored on startup.</p>
+ */
+@Component
+public class EngagementTracker implements Closeable {
+
+    private static final TypeReference<Map<String, Map<Integer, Long>>> FILE_TYPE = new TypeReference<>() {
+    };
+
+    private final Map<ProfileResource, ConcurrentHashMap<Integer, LongAdder>> counters =
+            new EnumMap<>(ProfileResource.class);
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final ScheduledExecutorService flusher;
+
+    public EngagementTracker(ObjectMapper objectMapper,
+                             @Value("${profile.engagement.file:}") String file,
+                             @Value("${profile.engagement.flush-interval-ms:30000}") long flushIntervalMillis)
+            throws IOException {
+        this.objectMapper = objectMapper;
+        for (ProfileResource resource : ProfileResource.values()) {
+            counters.put(resource, new ConcurrentHashMap<>());
+        }
+        if (file.isEmpty()) {
+            this.file = null;
+            this.flusher = null;
+            return;
+        }
+        this.file = Paths.get(file);
+        restore();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "engagement-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Count one view of an entity.
+     * @param resource Collection of the entity
+     * @param id Entity ID
+     */
+    public void record(ProfileResource resource, int id) {
+        ConcurrentHashMap<Integer, LongAdder> byId = counters.get(resource);
+        LongAdder adder = byId.get(id);
+        if (adder == null) {
+            adder = byId.computeIfAbsent(id, key -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * Get the view total of an entity.
+     * @param resource Collection of the entity
+     * @param id Entity ID
+     * @return Views so far, 0 if never viewed
+     */
+    public long count(ProfileResource resource, int id) {
+        LongAdder adder = counters.get(resource).get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Get view totals of a collection, most viewed first.
+     * @param resource The collection
+     * @param limit Maximum number of entries
+     * @return Entity ID to views, in descending order of views
+     */
+    public Map<Integer, Long> top(ProfileResource resource, int limit) {
+        List<Map.Entry<Integer, Long>> totals = new ArrayList<>(totals(resource).entrySet());
+        totals.sort(Map.Entry.<Integer, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Long> entry : totals.subList(0, Math.min(limit, totals.size()))) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Write the current totals to the engagement file.
+     * @throws IOException if the file cannot be written
+     */
+    public void flush() throws IOException {
+        if (file == null) {
+            return;
+        }
+        Map<String, Map<Integer, Long>> snapshot = new LinkedHashMap<>();
+        for (ProfileResource resource : ProfileResource.values()) {
+            snapshot.put(resource.getPath(), totals(resource));
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            objectMapper.writeValue(temp.toFile(), snapshot);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Stop the background flush and write the final totals.
+     */
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private Map<Integer, Long> totals(ProfileResource resource) {
+        Map<Integer, Long> totals = new LinkedHashMap<>();
+        counters.get(resource).forEach((id, adder) -> totals.put(id, adder.sum()));
+        return totals;
+    }
+
+    private void restore() throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Map<String, Map<Integer, Long>> saved = objectMapper.readValue(file.toFile(), FILE_TYPE);
+        for (Map.Entry<String, Map<Integer, Long>> section : saved.entrySet()) {
+            ConcurrentHashMap<Integer, LongAdder> byId = counters.get(ProfileResource.fromPath(section.getKey()));
+            section.getValue().forEach((id, views) -> byId.computeIfAbsent(id, key -> new LongAdder()).add(views));
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            // Counters stay in memory; the next run retries
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.api.limit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sheds load beyond the adaptive concurrency limit with an immediate 503.
+ *
+ * <p>Requests to {@code api.limit.priority-paths} (health and status probes and the long-lived
+ * change stream by default) bypass the limit and are never shed. Asynchronous requests, such as
+ * those handed to a bulkhead, hold their slot until they complete; only requests that complete
+ * normally with a status below 500 adjust the limit, so that fast rejections such as a saturated
+ * bulkhead's 503 do not read as spare capacity.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final VegasLimit limit;
+    private final List<String> priorityPaths;
+    private final boolean enabled;
+
+    public ConcurrencyLimitFilter(@Value("${api.limit.enabled:true}") boolean enabled,
+                                  @Value("${api.limit.initial:20}") int initialLimit,
+                                  @Value("${api.limit.min:4}") int minLimit,
+                                  @Value("${api.limit.max:200}") int maxLimit,
+                                  @Value("${api.limit.priority-paths:/api/health,/api/health/ready,/api/status,"
+                                          + "/api/profile/changes/stream}")
+                                  List<String> priorityPaths) {
+        this.enabled = enabled;
+        this.limit = new VegasLimit(initialLimit, minLimit, maxLimit);
+        this.priorityPaths = List.copyOf(priorityPaths);
+    }
+
+    /**
+     * Get the limiter, e.g. for reporting.
+     * @return The adaptive limit
+     */
+    public VegasLimit getLimit() {
+        return limit;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || priorityPaths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!limit.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            return;
+        }
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(start, response));
+            } else {
+                limit.release(System.nanoTime() - start, completed && isSample(response));
+            }
+        }
+    }
+
+    private static boolean isSample(HttpServletResponse response) {
+        return response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    /**
+     * Releases the slot of an asynchronous request exactly once.
+     */
+    private final class ReleaseOnComplete implements AsyncListener {
+        private final long start;
+        private final HttpServletResponse response;
+        private boolean released;
+
+        private ReleaseOnComplete(long start, HttpServletResponse response) {
+            this.start = start;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(isSample(response));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private synchronized void release(boolean sample) {
+            if (!released) {
+                released = true;
+                limit.release(System.nanoTime() - start, sample);
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.api.limit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency limit in the style of TCP Vegas.
+ *
+ * <p>The limit is the number of requests allowed in flight. The lowest latency seen approximates
+ * the no-load latency; from a sample's latency the limiter estimates how many requests are queued
+ * rather than being worked on, {@code limit * (1 - noLoad / sample)}. A small queue grows the
+ * limit, a large one shrinks it, so the limit settles where latency starts to rise. The no-load
+ * baseline is periodically reset so it can follow changes in the service's speed.</p>
+ *
+ * <p>Completions only add their latency to the current window using atomics. The limit is
+ * recomputed once per window of {@code limit} samples, roughly one round trip of the requests in
+ * flight, by the completion that closes it, from the window's average and lowest latency.</p>
+ */
+public final class VegasLimit {
+
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder sampleCount = new LongAdder();
+    private volatile int limit;
+
+    // Current window
+    private final AtomicInteger windowSamples = new AtomicInteger();
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final AtomicLong windowMinNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final AtomicBoolean closingWindow = new AtomicBoolean();
+
+    // Only touched by the completion closing a window
+    private long noLoadNanos;
+    private long probeCount;
+
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit <= 0 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Require 0 < minLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Take an in-flight slot if the limit allows it.
+     * @return true if the request may proceed; it must then call {@link #release}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Return a slot taken by {@link #tryAcquire()}.
+     * @param latencyNanos Time the request took
+     * @param sample Whether the latency reflects normal processing and should adjust the limit
+     */
+    public void release(long latencyNanos, boolean sample) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (sample && latencyNanos > 0) {
+            sampleCount.increment();
+            update(latencyNanos, inFlightBefore);
+        }
+    }
+
+    /**
+     * Get the current limit.
+     * @return Requests allowed in flight
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Get the requests currently in flight.
+     * @return In-flight count
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get the number of completions that have adjusted the limit.
+     * @return Sample count
+     */
+    public long getSamples() {
+        return sampleCount.sum();
+    }
+
+    private void update(long latencyNanos, int inFlightBefore) {
+        windowLatencyNanos.add(latencyNanos);
+        long min = windowMinNanos.get();
+        while (latencyNanos < min && !windowMinNanos.compareAndSet(min, latencyNanos)) {
+            min = windowMinNanos.get();
+        }
+        int max = windowMaxInFlight.get();
+        while (inFlightBefore > max && !windowMaxInFlight.compareAndSet(max, inFlightBefore)) {
+            max = windowMaxInFlight.get();
+        }
+        if (windowSamples.incrementAndGet() >= limit && closingWindow.compareAndSet(false, true)) {
+            try {
+                closeWindow();
+            } finally {
+                closingWindow.set(false);
+            }
+        }
+    }
+
+    private void closeWindow() {
+        // Samples racing with the reset may count towards either window, which is fine for an estimate
+        int samples = windowSamples.getAndSet(0);
+        if (samples == 0) {
+            return;
+        }
+        long averageNanos = windowLatencyNanos.sumThenReset() / samples;
+        long minNanos = windowMinNanos.getAndSet(Long.MAX_VALUE);
+        int maxInFlight = windowMaxInFlight.getAndSet(0);
+
+        int current = limit;
+        probeCount += samples;
+        if (probeCount >= (long) PROBE_MULTIPLIER * current) {
+            probeCount = 0;
+            noLoadNanos = averageNanos;
+            return;
+        }
+        if (noLoadNanos == 0) {
+            noLoadNanos = minNanos;
+            return;
+        }
+        noLoadNanos = Math.min(noLoadNanos, minNanos);
+        double log = Math.max(1, Math.log10(current));
+        int queue = (int) Math.ceil(current * (1 - (double) noLoadNanos / averageNanos));
+        // Only grow when the limit is actually being used
+        boolean utilized = maxInFlight * 2 >= current;
+        double next;
+        if (queue > 6 * log) {
+            next = current - log;
+        } else if (!utilized || queue >= 3 * log) {
+            return;
+        } else if (queue <= log) {
+            next = current + 6 * log;
+        } else {
+            next = current + log;
+        }
+        limit = (int) Math.max(minLimit, Math.min(maxLimit, Math.round(next)));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.api.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a batch lookup by id.
+ *
+ * <p>{@code results} follows the order of the requested ids and holds {@code null} where an id
+ * was not found; {@code missing} lists those ids explicitly.</p>
+ *
+ * @param <T> Entity type
+ */
+public final class BatchResult<T> {
+    private final List<T> results;
+    private final List<Integer> missing;
+
+    public BatchResult(List<T> results, List<Integer> missing) {
+        this.results = Collections.unmodifiableList(new ArrayList<>(results));
+        this.missing = List.copyOf(missing);
+    }
+
+    // Getters
+    public List<T> getResults() {
+        return results;
+    }
+
+    public List<Integer> getMissing() {
+        return missing;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.api.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable string-keyed map stored as parallel arrays.
+ *
+ * <p>Iteration follows the insertion order of the source map, so serialized output keeps the
+ * order of the data file; lookups binary-search a key permutation sorted once at construction.
+ * Compared with a {@code HashMap} there are no per-entry node objects.</p>
+ *
+ * @param <V> Value type
+ */
+public final class CompactMap<V> extends AbstractMap<String, V> {
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int[] sorted;
+
+    private CompactMap(String[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> keys[i]));
+        this.sorted = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            this.sorted[i] = order[i];
+        }
+    }
+
+    /**
+     * Copy a map, transforming each value.
+     * @param source Source map; keys must be non-null
+     * @param valueMapper Function applied to each value
+     * @param <S> Source value type
+     * @param <V> Target value type
+     * @return Immutable compact copy
+     */
+    public static <S, V> CompactMap<V> copyOf(Map<String, ? extends S> source, Function<? super S, V> valueMapper) {
+        String[] keys = new String[source.size()];
+        Object[] values = new Object[source.size()];
+        int i = 0;
+        for (Map.Entry<String, ? extends S> entry : source.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new NullPointerException("CompactMap does not support null keys");
+            }
+            keys[i] = entry.getKey();
+            values[i] = valueMapper.apply(entry.getValue());
+            i++;
+        }
+        return new CompactMap<>(keys, values);
+    }
+
+    @Override
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : value(index);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, V> next() {
+                        if (next >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, V> entry = new SimpleImmutableEntry<>(keys[next], value(next));
+                        next++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = keys[sorted[mid]].compareTo((String) key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return sorted[mid];
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int index) {
+        return (V) values[index];
+    }
+}
@@ -1,30 +1,41 @@
 package com.example.api.model;
 
+import com.example.codegen.GenerateJsonCodec;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
 
 /**
- * Model class representing an education entry.
+ * Immutable model class representing an education entry.
  */
-public class Education {
-    private int id;
-    private String institution;
-    private String degree;
-    private String field;
-    private String location;
-    private String startDate;
-    private String endDate;
-    private String description;
-    private List<String> relevantCourses;
-    private List<String> achievements;
-    private String gpa;
-
-    // Default constructor
-    public Education() {}
-
-    // Constructor with all fields
-    public Education(int id, String institution, String degree, String field,
-                    String location, String startDate, String endDate,
-                    String description, List<String> relevantCourses, List<String> achievements, String gpa) {
+@GenerateJsonCodec
+public final class Education {
+    private final int id;
+    private final String institution;
+    private final String degree;
+    private final String field;
+    private final String location;
+    private final String startDate;
+    private final String endDate;
+    private final String description;
+    private final List<String> relevantCourses;
+    private final List<String> achievements;
+    private final String gpa;
+
+    // Constructor with all fields, also used by Jackson
+    @JsonCreator
+    public Education(@JsonProperty("id") int id,
+                     @JsonProperty("institution") String institution,
+                     @JsonProperty("degree") String degree,
+                     @JsonProperty("field") String field,
+                     @JsonProperty("location") String location,
+                     @JsonProperty("startDate") String startDate,
+                     @JsonProperty("endDate") String endDate,
+                     @JsonProperty("description") String description,
+                     @JsonProperty("relevantCourses") List<String> relevantCourses,
+                     @JsonProperty("achievements") List<String> achievements,
+                     @JsonProperty("gpa") String gpa) {
         this.id = id;
         this.institution = institution;
         this.degree = degree;
@@ -33,97 +44,63 @@ public class Education {
         this.startDate = startDate;
         this.endDate = endDate;
         this.description = description;
-        this.relevantCourses = relevantCourses;
-        this.achievements = achievements;
+        this.relevantCourses = ModelCollections.list(relevantCourses);
+        this.achievements = ModelCollections.list(achievements);
         this.gpa = gpa;
     }
 
-    // Getters and setters
-    public int getId() {
-        return id;
+    /**
+     * Copy of this education entry under a different ID.
+     * @param newId The ID of the copy
+     * @return Education with the same fields and the new ID
+     */
+    public Education withId(int newId) {
+        return new Education(newId, institution, degree, field, location, startDate, endDate, description,
+                relevantCourses, achievements, gpa);
     }
 
-    public void setId(int id) {
-        this.id = id;
+    // Getters
+    public int getId() {
+        return id;
     }
 
     public String getInstitution() {
         return institution;
     }
 
-    public void setInstitution(String institution) {
-        this.institution = institution;
-    }
-
     public String getDegree() {
         return degree;
     }
 
-    public void setDegree(String degree) {
-        this.degree = degree;
-    }
-
     public String getField() {
         return field;
     }
 
-    public void setField(String field) {
-        this.field = field;
-    }
-
     public String getLocation() {
         return location;
     }
 
-    public void setLocation(String location) {
-        this.location = location;
-    }
-
     public String getStartDate() {
         return startDate;
     }
 
-    public void setStartDate(String startDate) {
-        this.startDate = startDate;
-    }
-
     public String getEndDate() {
         return endDate;
     }
 
-    public void setEndDate(String endDate) {
-        this.endDate = endDate;
-    }
-
     public String getDescription() {
         return description;
     }
 
-    public void setDescription(String description) {
-        this.description = description;
-    }
-
     public List<String> getRelevantCourses() {
         return relevantCourses;
     }
 
-    public void setRelevantCourses(List<String> relevantCourses) {
-        this.relevantCourses = relevantCourses;
-    }
-
     public List<String> getAchievements() {
         return achievements;
     }
 
-    public void setAchievements(List<String> achievements) {
-        this.achievements = achievements;
-    }
-
     public String getGpa() {
         return gpa;
     }
-
-    public void setGpa(String gpa) {
-        this.gpa = gpa;
-    }
-}
\ No newline at end of file
+}
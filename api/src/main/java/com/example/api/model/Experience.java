@@ -1,29 +1,39 @@
 package com.example.api.model;
 
+import com.example.codegen.GenerateJsonCodec;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
 
 /**
- * Model class representing a work experience entry.
+ * Immutable model class representing a work experience entry.
  */
-public class Experience {
-    private int id;
-    private String company;
-    private String position;
-    private String location;
-    private String startDate;
-    private String endDate;
-    private boolean current;
-    private List<String> description;
-    private List<String> technologies;
-    private String type;
-
-    // Default constructor
-    public Experience() {}
-
-    // Constructor with all fields
-    public Experience(int id, String company, String position, String location,
-                     String startDate, String endDate, boolean current,
-                     List<String> description, List<String> technologies, String type) {
+@GenerateJsonCodec
+public final class Experience {
+    private final int id;
+    private final String company;
+    private final String position;
+    private final String location;
+    private final String startDate;
+    private final String endDate;
+    private final boolean current;
+    private final List<String> description;
+    private final List<String> technologies;
+    private final String type;
+
+    // Constructor with all fields, also used by Jackson
+    @JsonCreator
+    public Experience(@JsonProperty("id") int id,
+                      @JsonProperty("company") String company,
+                      @JsonProperty("position") String position,
+                      @JsonProperty("location") String location,
+                      @JsonProperty("startDate") String startDate,
+                      @JsonProperty("endDate") String endDate,
+                      @JsonProperty("current") boolean current,
+                      @JsonProperty("description") List<String> description,
+                      @JsonProperty("technologies") List<String> technologies,
+                      @JsonProperty("type") String type) {
         this.id = id;
         this.company = company;
         this.position = position;
@@ -31,89 +41,59 @@ public class Experience {
         this.startDate = startDate;
         this.endDate = endDate;
         this.current = current;
-        this.description = description;
-        this.technologies = technologies;
+        this.description = ModelCollections.list(description);
+        this.technologies = ModelCollections.list(technologies);
         this.type = type;
     }
 
-    // Getters and setters
-    public int getId() {
-        return id;
+    /**
+     * Copy of this experience under a different ID.
+     * @param newId The ID of the copy
+     * @return Experience with the same fields and the new ID
+     */
+    public Experience withId(int newId) {
+        return new Experience(newId, company, position, location, startDate, endDate, current, description,
+                technologies, type);
     }
 
-    public void setId(int id) {
-        this.id = id;
+    // Getters
+    public int getId() {
+        return id;
     }
 
     public String getCompany() {
         return company;
     }
 
-    public void setCompany(String company) {
-        this.company = company;
-    }
-
     public String getPosition() {
         return position;
     }
 
-    public void setPosition(String position) {
-        this.position = position;
-    }
-
     public String getLocation() {
         return location;
     }
 
-    public void setLocation(String location) {
-        this.location = location;
-    }
-
     public String getStartDate() {
         return startDate;
     }
 
-    public void setStartDate(String startDate) {
-        this.startDate = startDate;
-    }
-
     public String getEndDate() {
         return endDate;
     }
 
-    public void setEndDate(String endDate) {
-        this.endDate = endDate;
-    }
-
     public boolean isCurrent() {
         return current;
     }
 
-    public void setCurrent(boolean current) {
-        this.current = current;
-    }
-
     public List<String> getDescription() {
         return description;
     }
 
-    public void setDescription(List<String> description) {
-        this.description = description;
-    }
-
     public List<String> getTechnologies() {
         return technologies;
     }
 
-    public void setTechnologies(List<String> technologies) {
-        this.technologies = technologies;
-    }
-
     public String getType() {
         return type;
     }
-
-    public void setType(String type) {
-        this.type = type;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.example.api.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers producing the compact, unmodifiable collections held by the model classes.
+ */
+final class ModelCollections {
+
+    private ModelCollections() {
+    }
+
+    /**
+     * Copy a list, leaving out null elements, which {@link List#copyOf} rejects and no model list
+     * gives a meaning to, e.g. {@code "technologies": ["Java", null]}.
+     */
+    static <T> List<T> list(List<? extends T> values) {
+        if (values == null) {
+            return null;
+        }
+        for (T value : values) {
+            if (value == null) {
+                List<T> present = new ArrayList<>(values.size());
+                for (T element : values) {
+                    if (element != null) {
+                        present.add(element);
+                    }
+                }
+                return List.copyOf(present);
+            }
+        }
+        return List.copyOf(values);
+    }
+
+    static CompactMap<List<String>> groups(Map<String, ? extends List<String>> groups) {
+        return groups == null ? null : CompactMap.copyOf(groups, ModelCollections::list);
+    }
+}
@@ -1,43 +1,51 @@
 package com.example.api.model;
 
+import com.example.codegen.GenerateJsonCodec;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
-import java.util.Map;
 
 /**
- * Model class representing personal information and contact details.
+ * Immutable model class representing personal information and contact details.
  */
-public class PersonalInfo {
-    private String name;
-    private String title;
-    private String location;
-    private String bio;
-    private String description;
-    private List<Language> languages;
-    private Contact contact;
-
-    // Default constructor
-    public PersonalInfo() {}
-
-    // Constructor with all fields
-    public PersonalInfo(String name, String title, String location, String bio,
-                       String description, List<Language> languages, Contact contact) {
+@GenerateJsonCodec
+public final class PersonalInfo {
+    private final String name;
+    private final String title;
+    private final String location;
+    private final String bio;
+    private final String description;
+    private final List<Language> languages;
+    private final Contact contact;
+
+    // Constructor with all fields, also used by Jackson
+    @JsonCreator
+    public PersonalInfo(@JsonProperty("name") String name,
+                        @JsonProperty("title") String title,
+                        @JsonProperty("location") String location,
+                        @JsonProperty("bio") String bio,
+                        @JsonProperty("description") String description,
+                        @JsonProperty("languages") List<Language> languages,
+                        @JsonProperty("contact") Contact contact) {
         this.name = name;
         this.title = title;
         this.location = location;
         this.bio = bio;
         this.description = description;
-        this.languages = languages;
+        this.languages = ModelCollections.list(languages);
         this.contact = contact;
     }
 
     // Inner class for Language
-    public static class Language {
-        private String language;
-        private String proficiency;
-
-        public Language() {}
-
-        public Language(String language, String proficiency) {
+    @GenerateJsonCodec
+    public static final class Language {
+        private final String language;
+        private final String proficiency;
+
+        @JsonCreator
+        public Language(@JsonProperty("language") String language,
+                        @JsonProperty("proficiency") String proficiency) {
             this.language = language;
             this.proficiency = proficiency;
         }
@@ -46,30 +54,26 @@ public class PersonalInfo {
             return language;
         }
 
-        public void setLanguage(String language) {
-            this.language = language;
-        }
-
         public String getProficiency() {
             return proficiency;
         }
-
-        public void setProficiency(String proficiency) {
-            this.proficiency = proficiency;
-        }
     }
 
     // Inner class for Contact
-    public static class Contact {
-        private String email;
-        private String mcgillEmail;
-        private String linkedin;
-        private String github;
-        private String location;
-
-        public Contact() {}
-
-        public Contact(String email, String mcgillEmail, String linkedin, String github, String location) {
+    @GenerateJsonCodec
+    public static final class Contact {
+        private final String email;
+        private final String mcgillEmail;
+        private final String linkedin;
+        private final String github;
+        private final String location;
+
+        @JsonCreator
+        public Contact(@JsonProperty("email") String email,
+                       @JsonProperty("mcgillEmail") String mcgillEmail,
+                       @JsonProperty("linkedin") String linkedin,
+                       @JsonProperty("github") String github,
+                       @JsonProperty("location") String location) {
             this.email = email;
             this.mcgillEmail = mcgillEmail;
             this.linkedin = linkedin;
@@ -81,97 +85,49 @@ public class PersonalInfo {
             return email;
         }
 
-        public void setEmail(String email) {
-            this.email = email;
-        }
-
         public String getMcgillEmail() {
             return mcgillEmail;
         }
 
-        public void setMcgillEmail(String mcgillEmail) {
-            this.mcgillEmail = mcgillEmail;
-        }
-
         public String getLinkedin() {
             return linkedin;
         }
 
-        public void setLinkedin(String linkedin) {
-            this.linkedin = linkedin;
-        }
-
         public String getGithub() {
             return github;
         }
 
-        public void setGithub(String github) {
-            this.github = github;
-        }
-
         public String getLocation() {
             return location;
         }
-
-        public void setLocation(String location) {
-            this.location = location;
-        }
     }
 
-    // Getters and setters
+    // Getters
     public String getName() {
         return name;
     }
 
-    public void setName(String name) {
-        this.name = name;
-    }
-
     public String getTitle() {
         return title;
     }
 
-    public void setTitle(String title) {
-        this.title = title;
-    }
-
     public String getLocation() {
         return location;
     }
 
-    public void setLocation(String location) {
-        this.location = location;
-    }
-
     public String getBio() {
         return bio;
     }
 
-    public void setBio(String bio) {
-        this.bio = bio;
-    }
-
     public String getDescription() {
         return description;
     }
 
-    public void setDescription(String description) {
-        this.description = description;
-    }
-
     public List<Language> getLanguages() {
         return languages;
     }
 
-    public void setLanguages(List<Language> languages) {
-        this.languages = languages;
-    }
-
     public Contact getContact() {
         return contact;
     }
-
-    public void setContact(Contact contact) {
-        this.contact = contact;
-    }
-}
\ No newline at end of file
+}
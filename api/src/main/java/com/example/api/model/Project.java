@@ -1,88 +1,77 @@
 package com.example.api.model;
 
+import com.example.codegen.GenerateJsonCodec;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
 
 /**
- * Model class representing a project entry.
+ * Immutable model class representing a project entry.
  */
-public class Project {
-    private int id;
-    private String title;
-    private String description;
-    private List<String> technologies;
-    private String githubUrl;
-    private String liveUrl;
-    private boolean featured;
-
-    // Default constructor
-    public Project() {}
-
-    // Constructor with all fields
-    public Project(int id, String title, String description, List<String> technologies,
-                  String githubUrl, String liveUrl, boolean featured) {
+@GenerateJsonCodec
+public final class Project {
+    private final int id;
+    private final String title;
+    private final String description;
+    private final List<String> technologies;
+    private final String githubUrl;
+    private final String liveUrl;
+    private final boolean featured;
+
+    // Constructor with all fields, also used by Jackson
+    @JsonCreator
+    public Project(@JsonProperty("id") int id,
+                   @JsonProperty("title") String title,
+                   @JsonProperty("description") String description,
+                   @JsonProperty("technologies") List<String> technologies,
+                   @JsonProperty("githubUrl") String githubUrl,
+                   @JsonProperty("liveUrl") String liveUrl,
+                   @JsonProperty("featured") boolean featured) {
         this.id = id;
         this.title = title;
         this.description = description;
-        this.technologies = technologies;
+        this.technologies = ModelCollections.list(technologies);
         this.githubUrl = githubUrl;
         this.liveUrl = liveUrl;
         this.featured = featured;
     }
 
-    // Getters and setters
-    public int getId() {
-        return id;
+    /**
+     * Copy of this project under a different ID.
+     * @param newId The ID of the copy
+     * @return Project with the same fields and the new ID
+     */
+    public Project withId(int newId) {
+        return new Project(newId, title, description, technologies, githubUrl, liveUrl, featured);
     }
 
-    public void setId(int id) {
-        this.id = id;
+    // Getters
+    public int getId() {
+        return id;
     }
 
     public String getTitle() {
         return title;
     }
 
-    public void setTitle(String title) {
-        this.title = title;
-    }
-
     public String getDescription() {
         return description;
     }
 
-    public void setDescription(String description) {
-        this.description = description;
-    }
-
     public List<String> getTechnologies() {
         return technologies;
     }
 
-    public void setTechnologies(List<String> technologies) {
-        this.technologies = technologies;
-    }
-
     public String getGithubUrl() {
         return githubUrl;
     }
 
-    public void setGithubUrl(String githubUrl) {
-        this.githubUrl = githubUrl;
-    }
-
     public String getLiveUrl() {
         return liveUrl;
     }
 
-    public void setLiveUrl(String liveUrl) {
-        this.liveUrl = liveUrl;
-    }
-
     public boolean isFeatured() {
         return featured;
     }
-
-    public void setFeatured(boolean featured) {
-        this.featured = featured;
-    }
-}
\ No newline at end of file
+}
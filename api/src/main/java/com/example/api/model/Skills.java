@@ -1,49 +1,41 @@
 package com.example.api.model;
 
+import com.example.codegen.GenerateJsonCodec;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
 import java.util.Map;
 
 /**
- * Model class representing technical skills and proficiency levels.
+ * Immutable model class representing technical skills and proficiency levels.
  */
-public class Skills {
-    private List<String> technicalSkills;
-    private Map<String, List<String>> categories;
-    private Map<String, List<String>> proficiencyLevels;
-
-    // Default constructor
-    public Skills() {}
-
-    // Constructor with all fields
-    public Skills(List<String> technicalSkills, Map<String, List<String>> categories,
-                 Map<String, List<String>> proficiencyLevels) {
-        this.technicalSkills = technicalSkills;
-        this.categories = categories;
-        this.proficiencyLevels = proficiencyLevels;
+@GenerateJsonCodec
+public final class Skills {
+    private final List<String> technicalSkills;
+    private final CompactMap<List<String>> categories;
+    private final CompactMap<List<String>> proficiencyLevels;
+
+    // Constructor with all fields, also used by Jackson
+    @JsonCreator
+    public Skills(@JsonProperty("technicalSkills") List<String> technicalSkills,
+                  @JsonProperty("categories") Map<String, List<String>> categories,
+                  @JsonProperty("proficiencyLevels") Map<String, List<String>> proficiencyLevels) {
+        this.technicalSkills = ModelCollections.list(technicalSkills);
+        this.categories = ModelCollections.groups(categories);
+        this.proficiencyLevels = ModelCollections.groups(proficiencyLevels);
     }
 
-    // Getters and setters
+    // Getters
     public List<String> getTechnicalSkills() {
         return technicalSkills;
     }
 
-    public void setTechnicalSkills(List<String> technicalSkills) {
-        this.technicalSkills = technicalSkills;
-    }
-
     public Map<String, List<String>> getCategories() {
         return categories;
     }
 
-    public void setCategories(Map<String, List<String>> categories) {
-        this.categories = categories;
-    }
-
     public Map<String, List<String>> getProficiencyLevels() {
         return proficiencyLevels;
     }
-
-    public void setProficiencyLevels(Map<String, List<String>> proficiencyLevels) {
-        this.proficiencyLevels = proficiencyLevels;
-    }
-}
\ No newline at end of file
+}
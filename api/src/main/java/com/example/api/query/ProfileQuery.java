@@ -0,0 +1,52 @@
+package com.example.api.query;
+
+import com.example.api.store.ProfileStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A compiled filter and sort over one profile collection, reusable across stores and threads.
+ *
+ * <p>Running it fetches candidates from the store (an id lookup, an interval index query or the
+ * whole collection, chosen at compile time), keeps those the predicate accepts and sorts them.</p>
+ *
+ * @param <T> Entity type
+ */
+public final class ProfileQuery<T> {
+
+    private final Function<ProfileStore, List<T>> candidates;
+    private final Predicate<T> predicate;
+    private final Comparator<T> comparator;
+
+    ProfileQuery(Function<ProfileStore, List<T>> candidates, Predicate<T> predicate, Comparator<T> comparator) {
+        this.candidates = candidates;
+        this.predicate = predicate;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Run the query.
+     * @param store The profile data
+     * @return Matching entities, sorted, or in their original order when no sort was given
+     */
+    public List<T> run(ProfileStore store) {
+        List<T> source = candidates.apply(store);
+        if (predicate == null && comparator == null) {
+            return source;
+        }
+        List<T> results = new ArrayList<>(predicate == null ? source.size() : Math.min(source.size(), 16));
+        for (T entity : source) {
+            if (predicate == null || predicate.test(entity)) {
+                results.add(entity);
+            }
+        }
+        if (comparator != null) {
+            results.sort(comparator);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.api.query;
+
+import com.example.api.diagnostics.CacheMissEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compiles profile queries and caches them by their text.
+ *
+ * <p>Filters use the grammar of {@link QueryParser}, e.g. {@code featured:true AND tech:Java} or
+ * {@code (type:internship OR type:co-op) AND end>=2021-01}; sorts are comma-separated field names,
+ * each prefixed with {@code -} for descending order, e.g. {@code -start,company}. A query seen
+ * before costs one map lookup; a new one is parsed and compiled once. At most
+ * {@code api.query.cache-size} queries are kept, and an arbitrary one is evicted to make room.</p>
+ */
+@Component
+public class QueryCompiler {
+
+    /** Cache size used when none is configured. */
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    private final int maxSize;
+    private final ConcurrentHashMap<Key, ProfileQuery<?>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong compiles = new AtomicLong();
+
+    public QueryCompiler(@Value("${api.query.cache-size:512}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the compiled form of a query.
+     * @param schema Collection to query
+     * @param filter Filter expression, or null or blank for all entities
+     * @param sort Sort specification, or null or blank for the original order
+     * @param <T> Entity type
+     * @return Compiled query
+     * @throws IllegalArgumentException if the filter or sort is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ProfileQuery<T> compile(QuerySchema<T> schema, String filter, String sort) {
+        Key key = new Key(schema, filter == null || filter.isBlank() ? null : filter,
+                sort == null || sort.isBlank() ? null : sort);
+        ProfileQuery<?> query = cache.get(key);
+        if (query != null) {
+            hits.incrementAndGet();
+            return (ProfileQuery<T>) query;
+        }
+        CacheMissEvent event = new CacheMissEvent();
+        event.begin();
+        ProfileQuery<T> compiled;
+        try {
+            compiled = schema.compile(key.filter == null ? null : QueryParser.parse(key.filter), key.sort);
+        } catch (IllegalArgumentException e) {
+            // Invalid queries are not cached: they fail fast and would only crowd out valid ones
+            event.end("queries", schema.getResource().getPath(), false);
+            throw e;
+        }
+        compiles.incrementAndGet();
+        event.end("queries", schema.getResource().getPath(), true);
+        if (cache.size() >= maxSize) {
+            Iterator<Key> keys = cache.keySet().iterator();
+            if (keys.hasNext()) {
+                cache.remove(keys.next());
+            }
+        }
+        cache.putIfAbsent(key, compiled);
+        return compiled;
+    }
+
+    /**
+     * Cache counters for monitoring.
+     * @return Map of statistic name to value
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("cached", (long) cache.size());
+        stats.put("hits", hits.get());
+        stats.put("compiles", compiles.get());
+        return stats;
+    }
+
+    private static final class Key {
+        private final QuerySchema<?> schema;
+        private final String filter;
+        private final String sort;
+        private final int hash;
+
+        private Key(QuerySchema<?> schema, String filter, String sort) {
+            this.schema = schema;
+            this.filter = filter;
+            this.sort = sort;
+            this.hash = Objects.hash(schema.getResource(), filter, sort);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return schema == key.schema && Objects.equals(filter, key.filter) && Objects.equals(sort, key.sort);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
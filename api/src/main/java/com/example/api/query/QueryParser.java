@@ -0,0 +1,260 @@
+package com.example.api.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive-descent parser for profile filter expressions.
+ *
+ * <pre>
+ * expression := or
+ * or         := and ("OR" and)*
+ * and        := unary (["AND"] unary)*
+ * unary      := "NOT" unary | "(" expression ")" | term
+ * term       := field (":" | "=" | "&lt;" | "&lt;=" | "&gt;" | "&gt;=") value
+ * value      := word | "quoted text"
+ * </pre>
+ *
+ * <p>Keywords are case-insensitive; adjacent terms without an operator are joined with AND.
+ * Expressions longer than {@value #MAX_LENGTH} characters or nesting parentheses and {@code NOT}
+ * deeper than {@value #MAX_DEPTH} levels are rejected, since each level recurses on the parser's
+ * and later the compiler's stack.</p>
+ */
+final class QueryParser {
+
+    static final int MAX_LENGTH = 1024;
+    static final int MAX_DEPTH = 32;
+
+    /** Comparison in a term. */
+    enum Op {
+        EQ, LT, LE, GT, GE
+    }
+
+    /** Node of a parsed expression. */
+    abstract static class Node {
+    }
+
+    /** {@code field op value}. */
+    static final class Term extends Node {
+        final String field;
+        final Op op;
+        final String value;
+        final int position;
+
+        Term(String field, Op op, String value, int position) {
+            this.field = field;
+            this.op = op;
+            this.value = value;
+            this.position = position;
+        }
+    }
+
+    /** Conjunction of two or more nodes. */
+    static final class And extends Node {
+        final List<Node> operands;
+
+        And(List<Node> operands) {
+            this.operands = operands;
+        }
+    }
+
+    /** Disjunction of two or more nodes. */
+    static final class Or extends Node {
+        final List<Node> operands;
+
+        Or(List<Node> operands) {
+            this.operands = operands;
+        }
+    }
+
+    /** Negation. */
+    static final class Not extends Node {
+        final Node operand;
+
+        Not(Node operand) {
+            this.operand = operand;
+        }
+    }
+
+    private final String text;
+    private int position;
+    private int depth;
+
+    private QueryParser(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parse an expression.
+     * @param text Expression text
+     * @return Root node
+     * @throws IllegalArgumentException if the text is not a valid expression or exceeds the limits
+     */
+    static Node parse(String text) {
+        if (text.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Filter longer than " + MAX_LENGTH + " characters");
+        }
+        QueryParser parser = new QueryParser(text);
+        Node node = parser.or();
+        parser.skipSpaces();
+        if (parser.position < text.length()) {
+            throw parser.error("Unexpected '" + text.charAt(parser.position) + "'");
+        }
+        return node;
+    }
+
+    private Node or() {
+        List<Node> operands = new ArrayList<>();
+        operands.add(and());
+        while (keyword("OR")) {
+            operands.add(and());
+        }
+        return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    private Node and() {
+        List<Node> operands = new ArrayList<>();
+        operands.add(unary());
+        while (true) {
+            if (keyword("AND")) {
+                operands.add(unary());
+            } else if (startsUnary()) {
+                operands.add(unary());
+            } else {
+                break;
+            }
+        }
+        return operands.size() == 1 ? operands.get(0) : new And(operands);
+    }
+
+    private Node unary() {
+        if (keyword("NOT")) {
+            enter();
+            Node operand = unary();
+            depth--;
+            return new Not(operand);
+        }
+        skipSpaces();
+        if (peek() == '(') {
+            enter();
+            position++;
+            Node node = or();
+            skipSpaces();
+            if (peek() != ')') {
+                throw error("Expected ')'");
+            }
+            position++;
+            depth--;
+            return node;
+        }
+        return term();
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw error("Nested deeper than " + MAX_DEPTH + " levels");
+        }
+    }
+
+    private Term term() {
+        skipSpaces();
+        int start = position;
+        String field = word();
+        if (field.isEmpty()) {
+            throw error(position < text.length() ? "Unexpected '" + text.charAt(position) + "'" : "Expected a term");
+        }
+        Op op = op();
+        skipSpaces();
+        String value = peek() == '"' ? quoted() : word();
+        if (value.isEmpty()) {
+            throw error("Expected a value for " + field);
+        }
+        return new Term(field, op, value, start);
+    }
+
+    private Op op() {
+        char c = peek();
+        if (c == ':' || c == '=') {
+            position++;
+            return Op.EQ;
+        }
+        if (c == '<' || c == '>') {
+            position++;
+            boolean orEqual = peek() == '=';
+            if (orEqual) {
+                position++;
+            }
+            if (c == '<') {
+                return orEqual ? Op.LE : Op.LT;
+            }
+            return orEqual ? Op.GE : Op.GT;
+        }
+        throw error("Expected ':', '<', '<=', '>' or '>='");
+    }
+
+    private String word() {
+        int start = position;
+        while (position < text.length() && isWordChar(text.charAt(position))) {
+            position++;
+        }
+        return text.substring(start, position);
+    }
+
+    private String quoted() {
+        int start = position++;
+        StringBuilder value = new StringBuilder();
+        while (position < text.length()) {
+            char c = text.charAt(position++);
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c == '\\' && position < text.length()) {
+                c = text.charAt(position++);
+            }
+            value.append(c);
+        }
+        position = start;
+        throw error("Unterminated quote");
+    }
+
+    private boolean keyword(String keyword) {
+        skipSpaces();
+        int end = position + keyword.length();
+        if (end <= text.length() && text.regionMatches(true, position, keyword, 0, keyword.length())
+                && (end == text.length() || !isWordChar(text.charAt(end)))) {
+            position = end;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean startsUnary() {
+        skipSpaces();
+        if (position >= text.length() || !(peek() == '(' || isWordChar(peek()))) {
+            return false;
+        }
+        int start = position;
+        boolean or = keyword("OR");
+        position = start;
+        return !or;
+    }
+
+    private char peek() {
+        return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    private void skipSpaces() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isWordChar(char c) {
+        return !Character.isWhitespace(c) && c != '(' && c != ')' && c != ':' && c != '=' && c != '<'
+                && c != '>' && c != '"';
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + position);
+    }
+}
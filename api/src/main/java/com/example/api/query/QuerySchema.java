@@ -0,0 +1,369 @@
+package com.example.api.query;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.Project;
+import com.example.api.store.IntervalIndex;
+import com.example.api.store.ProfileResource;
+import com.example.api.store.ProfileStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Queryable fields of one profile collection and how to fetch candidates for a query from a store.
+ *
+ * <p>Text and list fields compare ignoring case and support {@code :} only. Month fields take
+ * {@code YYYY-MM} values, number fields decimal values; both support every comparison. Months are
+ * read as the store's interval index reads them: an unparseable start is open, and an ongoing or
+ * unparseable end is open.</p>
+ *
+ * @param <T> Entity type
+ */
+public final class QuerySchema<T> {
+
+    /** Fields and candidate lookups of {@link ProfileResource#EXPERIENCES}. */
+    public static final QuerySchema<Experience> EXPERIENCES = new QuerySchema<>(ProfileResource.EXPERIENCES,
+            ProfileStore::getExperiences, ProfileStore::getExperience, ProfileStore::findExperiences, List.of(
+            Field.number("id", Experience::getId),
+            Field.text("company", Experience::getCompany),
+            Field.text("position", Experience::getPosition),
+            Field.text("location", Experience::getLocation),
+            Field.text("type", Experience::getType),
+            Field.flag("current", Experience::isCurrent),
+            Field.list("tech", Experience::getTechnologies, "technologies"),
+            Field.month("start", experience -> IntervalIndex.startMonth(experience.getStartDate()), "startDate"),
+            Field.month("end", experience -> IntervalIndex.endMonth(experience.getEndDate(), experience.isCurrent()),
+                    "endDate")));
+
+    /** Fields and candidate lookups of {@link ProfileResource#EDUCATION}. */
+    public static final QuerySchema<Education> EDUCATION = new QuerySchema<>(ProfileResource.EDUCATION,
+            ProfileStore::getEducation, ProfileStore::getEducation,
+            (store, from, to, type) -> store.findEducation(from, to), List.of(
+            Field.number("id", Education::getId),
+            Field.text("institution", Education::getInstitution),
+            Field.text("degree", Education::getDegree),
+            Field.text("field", Education::getField),
+            Field.text("location", Education::getLocation),
+            Field.list("course", Education::getRelevantCourses, "relevantCourses"),
+            Field.number("gpa", education -> parseGpa(education.getGpa())),
+            Field.month("start", education -> IntervalIndex.startMonth(education.getStartDate()), "startDate"),
+            Field.month("end", education -> IntervalIndex.endMonth(education.getEndDate(), false), "endDate")));
+
+    /** Fields and candidate lookups of {@link ProfileResource#PROJECTS}. */
+    public static final QuerySchema<Project> PROJECTS = new QuerySchema<>(ProfileResource.PROJECTS,
+            ProfileStore::getProjects, ProfileStore::getProject, null, List.of(
+            Field.number("id", Project::getId),
+            Field.text("title", Project::getTitle),
+            Field.flag("featured", Project::isFeatured),
+            Field.list("tech", Project::getTechnologies, "technologies")));
+
+    /**
+     * Date range lookup of a store, as {@link ProfileStore#findExperiences}.
+     * @param <T> Entity type
+     */
+    @FunctionalInterface
+    interface RangeLookup<T> {
+        List<T> find(ProfileStore store, int fromMonth, int toMonth, String type);
+    }
+
+    /**
+     * Id lookup of a store, as {@link ProfileStore#getExperience}.
+     * @param <T> Entity type
+     */
+    @FunctionalInterface
+    interface IdLookup<T> {
+        T find(ProfileStore store, int id);
+    }
+
+    private final ProfileResource resource;
+    private final Function<ProfileStore, List<T>> all;
+    private final IdLookup<T> byId;
+    private final RangeLookup<T> byRange;
+    private final Map<String, Field<T>> fields = new HashMap<>();
+
+    private QuerySchema(ProfileResource resource, Function<ProfileStore, List<T>> all, IdLookup<T> byId,
+                        RangeLookup<T> byRange, List<Field<T>> fieldList) {
+        this.resource = resource;
+        this.all = all;
+        this.byId = byId;
+        this.byRange = byRange;
+        for (Field<T> field : fieldList) {
+            fields.put(field.name.toLowerCase(Locale.ROOT), field);
+            if (field.alias != null) {
+                fields.put(field.alias.toLowerCase(Locale.ROOT), field);
+            }
+        }
+    }
+
+    /**
+     * Get the collection this schema describes.
+     * @return The collection
+     */
+    public ProfileResource getResource() {
+        return resource;
+    }
+
+    /**
+     * Compile a parsed filter and a sort specification into a query.
+     */
+    ProfileQuery<T> compile(QueryParser.Node filter, String sort) {
+        Predicate<T> predicate = filter == null ? null : predicate(filter);
+        Plan plan = new Plan();
+        if (filter != null) {
+            for (QueryParser.Node conjunct : filter instanceof QueryParser.And
+                    ? ((QueryParser.And) filter).operands : List.of(filter)) {
+                if (conjunct instanceof QueryParser.Term) {
+                    plan.add((QueryParser.Term) conjunct);
+                }
+            }
+        }
+        return new ProfileQuery<>(candidates(plan), predicate, comparator(sort));
+    }
+
+    private Predicate<T> predicate(QueryParser.Node node) {
+        if (node instanceof QueryParser.Term) {
+            QueryParser.Term term = (QueryParser.Term) node;
+            return field(term.field).predicate(term.op, term.value);
+        }
+        if (node instanceof QueryParser.Not) {
+            return predicate(((QueryParser.Not) node).operand).negate();
+        }
+        boolean and = node instanceof QueryParser.And;
+        List<QueryParser.Node> operands = and ? ((QueryParser.And) node).operands : ((QueryParser.Or) node).operands;
+        List<Predicate<T>> predicates = new ArrayList<>(operands.size());
+        for (QueryParser.Node operand : operands) {
+            predicates.add(predicate(operand));
+        }
+        if (and) {
+            return entity -> {
+                for (Predicate<T> predicate : predicates) {
+                    if (!predicate.test(entity)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+        return entity -> {
+            for (Predicate<T> predicate : predicates) {
+                if (predicate.test(entity)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private Comparator<T> comparator(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return null;
+        }
+        Comparator<T> comparator = null;
+        for (String part : sort.split(",")) {
+            String key = part.trim();
+            boolean descending = key.startsWith("-");
+            Comparator<T> next = field(descending || key.startsWith("+") ? key.substring(1) : key).comparator();
+            if (descending) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private Function<ProfileStore, List<T>> candidates(Plan plan) {
+        if (plan.id != null) {
+            int id = plan.id;
+            return store -> {
+                T entity = byId.find(store, id);
+                return entity == null ? List.of() : List.of(entity);
+            };
+        }
+        if (byRange != null && (plan.from != IntervalIndex.OPEN_START || plan.to != IntervalIndex.OPEN_END
+                || plan.type != null)) {
+            if (plan.from > plan.to) {
+                return store -> List.of();
+            }
+            int from = plan.from;
+            int to = plan.to;
+            String type = plan.type;
+            return store -> byRange.find(store, from, to, type);
+        }
+        return all;
+    }
+
+    private Field<T> field(String name) {
+        Field<T> field = fields.get(name.toLowerCase(Locale.ROOT));
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown field '" + name + "' for " + resource.getPath());
+        }
+        return field;
+    }
+
+    private static double parseGpa(String value) {
+        try {
+            return value == null ? Double.NaN : Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Index lookups implied by the top-level conjuncts of a filter. Every entity the filter accepts
+     * is among the candidates; the filter itself still runs over them.
+     */
+    private final class Plan {
+        private Integer id;
+        private int from = IntervalIndex.OPEN_START;
+        private int to = IntervalIndex.OPEN_END;
+        private String type;
+
+        private void add(QueryParser.Term term) {
+            String name = field(term.field).name;
+            if (name.equals("id") && term.op == QueryParser.Op.EQ) {
+                id = (int) Field.parseNumber(term.value);
+            } else if (name.equals("type") && term.op == QueryParser.Op.EQ) {
+                type = term.value;
+            } else if (name.equals("start") && term.op != QueryParser.Op.GT && term.op != QueryParser.Op.GE) {
+                // Overlapping entries start no later than the end of the range
+                int month = IntervalIndex.parseMonth(term.value);
+                to = Math.min(to, term.op == QueryParser.Op.LT ? month - 1 : month);
+            } else if (name.equals("end") && term.op != QueryParser.Op.LT && term.op != QueryParser.Op.LE) {
+                // and end no earlier than its start
+                int month = IntervalIndex.parseMonth(term.value);
+                from = Math.max(from, term.op == QueryParser.Op.GT ? month + 1 : month);
+            }
+        }
+    }
+
+    /**
+     * A queryable field.
+     * @param <T> Entity type
+     */
+    private static final class Field<T> {
+        private final String name;
+        private final String alias;
+        private final Function<T, String> text;
+        private final Function<T, List<String>> list;
+        private final Predicate<T> flag;
+        private final ToIntFunction<T> month;
+        private final ToDoubleFunction<T> number;
+
+        private Field(String name, String alias, Function<T, String> text, Function<T, List<String>> list,
+                      Predicate<T> flag, ToIntFunction<T> month, ToDoubleFunction<T> number) {
+            this.name = name;
+            this.alias = alias;
+            this.text = text;
+            this.list = list;
+            this.flag = flag;
+            this.month = month;
+            this.number = number;
+        }
+
+        static <T> Field<T> text(String name, Function<T, String> text) {
+            return new Field<>(name, null, text, null, null, null, null);
+        }
+
+        static <T> Field<T> list(String name, Function<T, List<String>> list, String alias) {
+            return new Field<>(name, alias, null, list, null, null, null);
+        }
+
+        static <T> Field<T> flag(String name, Predicate<T> flag) {
+            return new Field<>(name, null, null, null, flag, null, null);
+        }
+
+        static <T> Field<T> month(String name, ToIntFunction<T> month, String alias) {
+            return new Field<>(name, alias, null, null, null, month, null);
+        }
+
+        static <T> Field<T> number(String name, ToDoubleFunction<T> number) {
+            return new Field<>(name, null, null, null, null, null, number);
+        }
+
+        Predicate<T> predicate(QueryParser.Op op, String value) {
+            if (month != null) {
+                int bound = IntervalIndex.parseMonth(value);
+                return entity -> compare(Integer.compare(month.applyAsInt(entity), bound), op);
+            }
+            if (number != null) {
+                double bound = parseNumber(value);
+                return entity -> {
+                    double actual = number.applyAsDouble(entity);
+                    return !Double.isNaN(actual) && compare(Double.compare(actual, bound), op);
+                };
+            }
+            if (op != QueryParser.Op.EQ) {
+                throw new IllegalArgumentException("Field '" + name + "' only supports ':'");
+            }
+            if (flag != null) {
+                if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                    throw new IllegalArgumentException("Expected true or false for " + name + ": " + value);
+                }
+                boolean expected = Boolean.parseBoolean(value);
+                return entity -> flag.test(entity) == expected;
+            }
+            if (list != null) {
+                return entity -> {
+                    List<String> values = list.apply(entity);
+                    if (values != null) {
+                        for (String candidate : values) {
+                            if (value.equalsIgnoreCase(candidate)) {
+                                return true;
+                            }
+                        }
+                    }
+                    return false;
+                };
+            }
+            return entity -> value.equalsIgnoreCase(text.apply(entity));
+        }
+
+        Comparator<T> comparator() {
+            if (month != null) {
+                return Comparator.comparingInt(month);
+            }
+            if (number != null) {
+                return Comparator.comparingDouble(number);
+            }
+            if (flag != null) {
+                return (a, b) -> Boolean.compare(flag.test(a), flag.test(b));
+            }
+            if (text != null) {
+                return Comparator.comparing(text, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+            }
+            throw new IllegalArgumentException("Cannot sort by list field '" + name + "'");
+        }
+
+        private static boolean compare(int comparison, QueryParser.Op op) {
+            switch (op) {
+                case LT:
+                    return comparison < 0;
+                case LE:
+                    return comparison <= 0;
+                case GT:
+                    return comparison > 0;
+                case GE:
+                    return comparison >= 0;
+                default:
+                    return comparison == 0;
+            }
+        }
+
+        private static double parseNumber(String value) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Expected a number: " + value, e);
+            }
+        }
+    }
+}
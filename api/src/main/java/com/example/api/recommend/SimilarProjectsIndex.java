@@ -0,0 +1,317 @@
+package com.example.api.recommend;
+
+import com.example.api.model.Project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Precomputed top-K most similar projects per project, by Jaccard similarity of their technologies.
+ *
+ * <p>Technologies are numbered in a shared vocabulary and each project's set is a {@code long[]}
+ * bitset, so one comparison is a few AND/OR popcounts. Building the index compares every pair;
+ * catalogs larger than {@link #PARALLEL_THRESHOLD} projects split the rows across the fork-join
+ * pool. The index is immutable: {@link #update(List)} derives a new one that rescans only the rows
+ * a change can affect and reuses the bitsets and neighbour lists of the others.</p>
+ */
+public final class SimilarProjectsIndex {
+
+    /** Catalog size from which rows are computed in parallel. */
+    static final int PARALLEL_THRESHOLD = 512;
+    private static final int ROWS_PER_TASK = 64;
+
+    private final int k;
+    private final Map<String, Integer> vocabulary;
+    private final Map<Integer, Row> rows;
+
+    private SimilarProjectsIndex(int k, Map<String, Integer> vocabulary, Map<Integer, Row> rows) {
+        this.k = k;
+        this.vocabulary = vocabulary;
+        this.rows = rows;
+    }
+
+    /**
+     * Compute the neighbours of every project.
+     * @param projects The catalog
+     * @param k Neighbours kept per project
+     * @return Index over the catalog
+     */
+    public static SimilarProjectsIndex build(List<Project> projects, int k) {
+        Map<String, Integer> vocabulary = new HashMap<>();
+        Map<Integer, Row> rows = new HashMap<>(projects.size() * 2);
+        for (Project project : projects) {
+            rows.putIfAbsent(project.getId(), new Row(project.getTechnologies(), bits(project, vocabulary)));
+        }
+        List<Integer> all = new ArrayList<>(rows.keySet());
+        computeNeighbours(rows, all, all, k);
+        return new SimilarProjectsIndex(k, vocabulary, rows);
+    }
+
+    /**
+     * Derive the index of a changed catalog.
+     *
+     * <p>Projects whose technologies changed, and new projects, get their neighbours recomputed.
+     * Every other project keeps its list, merged with its similarity to the changed projects,
+     * unless the list referenced a changed or removed project, in which case it is recomputed.
+     * When most of the catalog changed a full rebuild is cheaper and is done instead.</p>
+     * @param projects The changed catalog
+     * @return Index over the changed catalog
+     */
+    public SimilarProjectsIndex update(List<Project> projects) {
+        Map<String, Integer> nextVocabulary = new HashMap<>(vocabulary);
+        Map<Integer, Row> next = new HashMap<>(projects.size() * 2);
+        Set<Integer> changed = new HashSet<>();
+        for (Project project : projects) {
+            if (next.containsKey(project.getId())) {
+                continue;
+            }
+            Row row = rows.get(project.getId());
+            if (row != null && Objects.equals(row.technologies, project.getTechnologies())) {
+                next.put(project.getId(), row);
+            } else {
+                next.put(project.getId(), new Row(project.getTechnologies(), bits(project, nextVocabulary)));
+                changed.add(project.getId());
+            }
+        }
+        Set<Integer> stale = new HashSet<>(changed);
+        for (Integer id : rows.keySet()) {
+            if (!next.containsKey(id)) {
+                stale.add(id);
+            }
+        }
+        if (stale.isEmpty()) {
+            return this;
+        }
+        if (changed.size() * 4 > next.size()) {
+            return build(projects, k);
+        }
+
+        List<Integer> recompute = new ArrayList<>(changed);
+        List<Integer> merge = new ArrayList<>();
+        for (Map.Entry<Integer, Row> entry : next.entrySet()) {
+            if (changed.contains(entry.getKey())) {
+                continue;
+            }
+            boolean affected = false;
+            for (Neighbour neighbour : entry.getValue().neighbours) {
+                if (stale.contains(neighbour.getId())) {
+                    affected = true;
+                    break;
+                }
+            }
+            if (affected) {
+                recompute.add(entry.getKey());
+            } else {
+                merge.add(entry.getKey());
+            }
+        }
+        // Rows are shared with the previous index, so changed neighbour lists go into new rows
+        for (Integer id : recompute) {
+            Row row = next.get(id);
+            next.put(id, new Row(row.technologies, row.bits));
+        }
+        for (Integer id : merge) {
+            Row row = next.get(id);
+            next.put(id, new Row(row.technologies, row.bits));
+        }
+        computeNeighbours(next, recompute, new ArrayList<>(next.keySet()), k);
+        List<Integer> changedIds = new ArrayList<>(changed);
+        Map<Integer, Row> previous = rows;
+        runRows(merge, id -> {
+            Row row = next.get(id);
+            TopK top = new TopK(k);
+            for (Neighbour neighbour : previous.get(id).neighbours) {
+                top.offer(neighbour.getId(), neighbour.getScore());
+            }
+            for (Integer other : changedIds) {
+                top.offer(other, jaccard(row.bits, next.get(other).bits));
+            }
+            row.neighbours = top.toArray();
+        });
+        return new SimilarProjectsIndex(k, nextVocabulary, next);
+    }
+
+    /**
+     * Get the most similar projects of a project.
+     * @param id Project ID
+     * @return Neighbours, most similar first, or null if the project is not indexed
+     */
+    public List<Neighbour> similar(int id) {
+        Row row = rows.get(id);
+        return row == null ? null : Arrays.asList(row.neighbours);
+    }
+
+    private static void computeNeighbours(Map<Integer, Row> rows, List<Integer> targets, List<Integer> candidates,
+                                          int k) {
+        int[] candidateIds = candidates.stream().mapToInt(Integer::intValue).toArray();
+        long[][] candidateBits = new long[candidateIds.length][];
+        for (int i = 0; i < candidateIds.length; i++) {
+            candidateBits[i] = rows.get(candidateIds[i]).bits;
+        }
+        runRows(targets, id -> {
+            Row row = rows.get(id);
+            TopK top = new TopK(k);
+            for (int i = 0; i < candidateIds.length; i++) {
+                if (candidateIds[i] != id) {
+                    top.offer(candidateIds[i], jaccard(row.bits, candidateBits[i]));
+                }
+            }
+            row.neighbours = top.toArray();
+        });
+    }
+
+    private static void runRows(List<Integer> ids, RowTask task) {
+        if (ids.size() < PARALLEL_THRESHOLD) {
+            for (Integer id : ids) {
+                task.compute(id);
+            }
+        } else {
+            ForkJoinPool.commonPool().invoke(new RowRange(ids, 0, ids.size(), task));
+        }
+    }
+
+    static double jaccard(long[] a, long[] b) {
+        int intersection = 0;
+        int union = 0;
+        int common = Math.min(a.length, b.length);
+        for (int i = 0; i < common; i++) {
+            intersection += Long.bitCount(a[i] & b[i]);
+            union += Long.bitCount(a[i] | b[i]);
+        }
+        for (int i = common; i < a.length; i++) {
+            union += Long.bitCount(a[i]);
+        }
+        for (int i = common; i < b.length; i++) {
+            union += Long.bitCount(b[i]);
+        }
+        return union == 0 ? 0 : (double) intersection / union;
+    }
+
+    private static long[] bits(Project project, Map<String, Integer> vocabulary) {
+        if (project.getTechnologies() == null || project.getTechnologies().isEmpty()) {
+            return new long[0];
+        }
+        int max = -1;
+        int[] indexes = new int[project.getTechnologies().size()];
+        for (int i = 0; i < indexes.length; i++) {
+            String technology = project.getTechnologies().get(i);
+            indexes[i] = vocabulary.computeIfAbsent(technology, key -> vocabulary.size());
+            max = Math.max(max, indexes[i]);
+        }
+        long[] bits = new long[(max >>> 6) + 1];
+        for (int index : indexes) {
+            bits[index >>> 6] |= 1L << index;
+        }
+        return bits;
+    }
+
+    /**
+     * A similar project and its similarity in {@code (0, 1]}.
+     */
+    public static final class Neighbour {
+        private final int id;
+        private final double score;
+
+        Neighbour(int id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    private static final class Row {
+        private final List<String> technologies;
+        private final long[] bits;
+        // Written once by the task computing the row, before the index is published
+        private Neighbour[] neighbours = new Neighbour[0];
+
+        private Row(List<String> technologies, long[] bits) {
+            this.technologies = technologies;
+            this.bits = bits;
+        }
+    }
+
+    /**
+     * Bounded selection of the best scores; ties prefer the lower id.
+     */
+    private static final class TopK {
+        private final int k;
+        private final PriorityQueue<Neighbour> heap;
+
+        private TopK(int k) {
+            this.k = k;
+            this.heap = new PriorityQueue<>(k + 1, TopK::worseFirst);
+        }
+
+        private void offer(int id, double score) {
+            if (score <= 0 || k == 0) {
+                return;
+            }
+            Neighbour candidate = new Neighbour(id, score);
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (worseFirst(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        private Neighbour[] toArray() {
+            Neighbour[] result = heap.toArray(new Neighbour[0]);
+            Arrays.sort(result, (a, b) -> worseFirst(b, a));
+            return result;
+        }
+
+        private static int worseFirst(Neighbour a, Neighbour b) {
+            int byScore = Double.compare(a.score, b.score);
+            return byScore != 0 ? byScore : Integer.compare(b.id, a.id);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowTask {
+        void compute(int id);
+    }
+
+    private static final class RowRange extends RecursiveAction {
+        private final List<Integer> ids;
+        private final int from;
+        private final int to;
+        private final RowTask task;
+
+        private RowRange(List<Integer> ids, int from, int to, RowTask task) {
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    task.compute(ids.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowRange(ids, from, middle, task), new RowRange(ids, middle, to, task));
+        }
+    }
+}
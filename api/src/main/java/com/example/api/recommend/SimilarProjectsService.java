@@ -0,0 +1,67 @@
+package com.example.api.recommend;
+
+import com.example.api.store.ProfileRepository;
+import com.example.api.store.ProfileStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps a {@link SimilarProjectsIndex} in step with the published profile data.
+ *
+ * <p>The index is built when the service starts. After a write, the repository's listener schedules
+ * one background refresh; writes arriving while it runs are folded into the next one. Lookups read
+ * the latest index and never wait for a refresh.</p>
+ */
+@Service
+public class SimilarProjectsService {
+
+    private final ProfileRepository profileRepository;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private volatile SimilarProjectsIndex index;
+    private long indexedVersion;
+
+    public SimilarProjectsService(ProfileRepository profileRepository,
+                                  @Value("${profile.similar.neighbours:10}") int neighbours) {
+        this.profileRepository = profileRepository;
+        ProfileStore store = profileRepository.current();
+        this.index = SimilarProjectsIndex.build(store.getProjects(), neighbours);
+        this.indexedVersion = store.getVersion();
+        profileRepository.addListener((previous, current) -> scheduleRefresh());
+    }
+
+    /**
+     * Get the most similar projects of a project.
+     * @param id Project ID
+     * @param limit Maximum number of neighbours
+     * @return Neighbours, most similar first, or null if the project is unknown
+     */
+    public List<SimilarProjectsIndex.Neighbour> getSimilar(int id, int limit) {
+        List<SimilarProjectsIndex.Neighbour> neighbours = index.similar(id);
+        if (neighbours == null) {
+            return null;
+        }
+        return neighbours.subList(0, Math.min(Math.max(limit, 0), neighbours.size()));
+    }
+
+    /**
+     * Bring the index up to the repository's current data.
+     */
+    synchronized void refresh() {
+        refreshPending.set(false);
+        ProfileStore store = profileRepository.current();
+        if (store.getVersion() != indexedVersion) {
+            index = index.update(store.getProjects());
+            indexedVersion = store.getVersion();
+        }
+    }
+
+    private void scheduleRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::refresh);
+        }
+    }
+}
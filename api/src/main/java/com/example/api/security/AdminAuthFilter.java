@@ -0,0 +1,92 @@
+package com.example.api.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Set;
+
+/**
+ * Restricts administrative requests to callers presenting the admin token.
+ *
+ * <p>Administrative requests are every request under {@code /api/admin} and every write to the
+ * profile collections ({@code POST}, {@code PUT}, {@code PATCH} or {@code DELETE} under
+ * {@code /api/profile/experiences}, {@code /education} or {@code /projects}, except the read-only
+ * {@code /batch} lookups). They must carry {@code Authorization: Bearer <api.admin.token>};
+ * otherwise they are refused with 401. While no token is configured, the default, administrative
+ * requests are refused with 403, so the profile can only be changed once an operator sets one.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 7)
+public class AdminAuthFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final PathPattern ADMIN_PATHS = PathPatternParser.defaultInstance.parse("/api/admin/**");
+    private static final PathPattern COLLECTION_PATHS =
+            PathPatternParser.defaultInstance.parse("/api/profile/{collection:experiences|education|projects}/**");
+    private static final PathPattern BATCH_PATHS = PathPatternParser.defaultInstance.parse("/api/profile/*/batch");
+
+    private final byte[] token;
+
+    public AdminAuthFilter(@Value("${api.admin.token:}") String token) {
+        this.token = token.isEmpty() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Check whether a request needs the admin token.
+     * @param method HTTP method
+     * @param uri Request URI
+     * @return true for requests under {@code /api/admin} and writes to the profile collections
+     */
+    public static boolean isAdminRequest(String method, String uri) {
+        PathContainer path = PathContainer.parsePath(uri);
+        if (ADMIN_PATHS.matches(path)) {
+            return true;
+        }
+        return WRITE_METHODS.contains(method) && COLLECTION_PATHS.matches(path) && !BATCH_PATHS.matches(path);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !isAdminRequest(request.getMethod(), request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (token == null) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        if (!authorized(request.getHeader(HttpHeaders.AUTHORIZATION))) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private boolean authorized(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            return false;
+        }
+        byte[] presented = authorization.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8);
+        // Constant-time, so the token cannot be guessed byte by byte from response times
+        return MessageDigest.isEqual(token, presented);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.api.serialization;
+
+import com.example.api.diagnostics.SerializationEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * JSON message converter that records a {@link SerializationEvent} per body it reads or writes.
+ */
+public class RecordingJsonMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public RecordingJsonMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        Object value = super.read(type, contextClass, inputMessage);
+        event.end("read", type.getTypeName(), elements(value));
+        return value;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        Object value = super.readInternal(clazz, inputMessage);
+        event.end("read", clazz.getName(), elements(value));
+        return value;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        super.writeInternal(object, type, outputMessage);
+        event.end("write", type != null ? type.getTypeName() : object.getClass().getName(), elements(object));
+    }
+
+    private static int elements(Object value) {
+        return value instanceof Collection ? ((Collection<?>) value).size() : -1;
+    }
+}
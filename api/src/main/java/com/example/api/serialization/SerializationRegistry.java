@@ -0,0 +1,108 @@
+package com.example.api.serialization;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.PersonalInfo;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Central registry of pre-built Jackson readers and writers for the profile model types.
+ *
+ * <p>Readers and writers are immutable and thread-safe, so they are created once from the
+ * application {@link ObjectMapper} (the same instance used by the HTTP message converters)
+ * and shared by every service that needs to parse or render profile data.</p>
+ */
+@Component
+public class SerializationRegistry {
+
+    private static final List<Class<?>> MODEL_TYPES = List.of(
+            Experience.class, Education.class, Project.class, PersonalInfo.class, Skills.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers;
+    private final Map<Class<?>, ObjectReader> listReaders;
+    private final Map<Class<?>, ObjectWriter> writers;
+    private final Map<Class<?>, ObjectWriter> listWriters;
+
+    public SerializationRegistry(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+
+        Map<Class<?>, ObjectReader> readerMap = new HashMap<>();
+        Map<Class<?>, ObjectReader> listReaderMap = new HashMap<>();
+        Map<Class<?>, ObjectWriter> writerMap = new HashMap<>();
+        Map<Class<?>, ObjectWriter> listWriterMap = new HashMap<>();
+        for (Class<?> type : MODEL_TYPES) {
+            JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, type);
+            readerMap.put(type, objectMapper.readerFor(type));
+            listReaderMap.put(type, objectMapper.readerFor(listType));
+            writerMap.put(type, objectMapper.writerFor(type));
+            listWriterMap.put(type, objectMapper.writerFor(listType));
+        }
+        this.readers = Map.copyOf(readerMap);
+        this.listReaders = Map.copyOf(listReaderMap);
+        this.writers = Map.copyOf(writerMap);
+        this.listWriters = Map.copyOf(listWriterMap);
+    }
+
+    /**
+     * Get the shared object mapper backing this registry.
+     * @return ObjectMapper instance
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Get the reader for a single model object.
+     * @param type The model class
+     * @return Pre-built ObjectReader
+     */
+    public ObjectReader readerFor(Class<?> type) {
+        return lookup(readers, type);
+    }
+
+    /**
+     * Get the reader for a JSON array of model objects.
+     * @param type The model class
+     * @return Pre-built ObjectReader producing a List of the given type
+     */
+    public ObjectReader listReaderFor(Class<?> type) {
+        return lookup(listReaders, type);
+    }
+
+    /**
+     * Get the writer for a single model object.
+     * @param type The model class
+     * @return Pre-built ObjectWriter
+     */
+    public ObjectWriter writerFor(Class<?> type) {
+        return lookup(writers, type);
+    }
+
+    /**
+     * Get the writer for a list of model objects.
+     * @param type The model class
+     * @return Pre-built ObjectWriter for a List of the given type
+     */
+    public ObjectWriter listWriterFor(Class<?> type) {
+        return lookup(listWriters, type);
+    }
+
+    private static <T> T lookup(Map<Class<?>, T> map, Class<?> type) {
+        T value = map.get(type);
+        if (value == null) {
+            throw new IllegalArgumentException("Unregistered model type: " + type.getName());
+        }
+        return value;
+    }
+}
@@ -1,127 +1,198 @@
 package com.example.api.service;
 
+import com.example.api.model.BatchResult;
 import com.example.api.model.Experience;
 import com.example.api.model.Education;
 import com.example.api.model.Project;
 import com.example.api.model.PersonalInfo;
 import com.example.api.model.Skills;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.core.io.ClassPathResource;
+import com.example.api.query.QueryCompiler;
+import com.example.api.query.QuerySchema;
+import com.example.api.store.IntervalIndex;
+import com.example.api.store.ProfileRepository;
+import com.example.api.store.ProfileResource;
+import com.example.api.store.ProfileStore;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
 
 /**
- * Service class for loading profile data from JSON files.
+ * Service class for reading and writing profile data held by a {@link ProfileRepository}.
+ *
+ * <p>Each read works against the repository's current {@link ProfileStore}, so it never observes a
+ * write half-applied.</p>
  */
 @Service
 public class ProfileService {
 
-    private final ObjectMapper objectMapper;
+    /** Distinguishes entity tags of this process from those of earlier runs, whose versions restart. */
+    private static final String ETAG_EPOCH = Long.toString(System.currentTimeMillis(), 36);
 
-    public ProfileService() {
-        this.objectMapper = new ObjectMapper();
+    private final ProfileRepository profileRepository;
+    private final QueryCompiler queryCompiler;
+
+    @Autowired
+    public ProfileService(ProfileRepository profileRepository, QueryCompiler queryCompiler) {
+        this.profileRepository = profileRepository;
+        this.queryCompiler = queryCompiler;
+    }
+
+    public ProfileService(ProfileStore profileStore) {
+        this(new ProfileRepository(profileStore), new QueryCompiler(QueryCompiler.DEFAULT_CACHE_SIZE));
+    }
+
+    /**
+     * Get the entity tag of a collection, which changes whenever the collection does. Read it
+     * before the collection itself so that a concurrent write can only make the tag older than
+     * the data, never newer.
+     * @param resource The collection
+     * @return Quoted entity tag
+     */
+    public String getETag(ProfileResource resource) {
+        return etag(profileRepository.current(), resource);
     }
 
     /**
-     * Load all work experiences from JSON file.
+     * Get the entity tag of a collection in a given store.
+     * @param store The profile data
+     * @param resource The collection
+     * @return Quoted entity tag
+     */
+    public static String etag(ProfileStore store, ProfileResource resource) {
+        return "\"" + ETAG_EPOCH + "-" + resource.getPath() + "-" + store.getVersion(resource) + "\"";
+    }
+
+    /**
+     * Get all work experiences.
      * @return List of Experience objects
-     * @throws IOException if the file cannot be read
+     * @throws IOException if the data cannot be read
      */
     public List<Experience> getExperiences() throws IOException {
-        InputStream inputStream = new ClassPathResource("data/experiences.json").getInputStream();
-        return objectMapper.readValue(inputStream, new TypeReference<List<Experience>>() {});
+        return profileRepository.current().getExperiences();
     }
 
     /**
-     * Load all education entries from JSON file.
+     * Get all education entries.
      * @return List of Education objects
-     * @throws IOException if the file cannot be read
+     * @throws IOException if the data cannot be read
      */
     public List<Education> getEducation() throws IOException {
-        InputStream inputStream = new ClassPathResource("data/education.json").getInputStream();
-        return objectMapper.readValue(inputStream, new TypeReference<List<Education>>() {});
+        return profileRepository.current().getEducation();
     }
 
     /**
-     * Load all projects from JSON file.
+     * Get all projects.
      * @return List of Project objects
-     * @throws IOException if the file cannot be read
+     * @throws IOException if the data cannot be read
      */
     public List<Project> getProjects() throws IOException {
-        InputStream inputStream = new ClassPathResource("data/projects.json").getInputStream();
-        return objectMapper.readValue(inputStream, new TypeReference<List<Project>>() {});
+        return profileRepository.current().getProjects();
+    }
+
+    /**
+     * Find experiences overlapping a month range, optionally of one type.
+     * @param from First month as {@code YYYY-MM}, or null for no lower bound
+     * @param to Last month as {@code YYYY-MM}, or null for no upper bound
+     * @param type Experience type such as {@code internship}, or null for all types
+     * @return Matching experiences in their original order
+     * @throws IOException if the data cannot be read
+     * @throws IllegalArgumentException if a month is malformed or the range is reversed
+     */
+    public List<Experience> findExperiences(String from, String to, String type) throws IOException {
+        int fromMonth = from == null ? IntervalIndex.OPEN_START : IntervalIndex.parseMonth(from);
+        int toMonth = to == null ? IntervalIndex.OPEN_END : IntervalIndex.parseMonth(to);
+        checkRange(fromMonth, toMonth);
+        return profileRepository.current().findExperiences(fromMonth, toMonth, type);
     }
 
     /**
-     * Load personal information from JSON file.
+     * Find education entries overlapping a month range.
+     * @param from First month as {@code YYYY-MM}, or null for no lower bound
+     * @param to Last month as {@code YYYY-MM}, or null for no upper bound
+     * @return Matching education entries in their original order
+     * @throws IOException if the data cannot be read
+     * @throws IllegalArgumentException if a month is malformed or the range is reversed
+     */
+    public List<Education> findEducation(String from, String to) throws IOException {
+        int fromMonth = from == null ? IntervalIndex.OPEN_START : IntervalIndex.parseMonth(from);
+        int toMonth = to == null ? IntervalIndex.OPEN_END : IntervalIndex.parseMonth(to);
+        checkRange(fromMonth, toMonth);
+        return profileRepository.current().findEducation(fromMonth, toMonth);
+    }
+
+    /**
+     * Filter and sort a collection with the query language of {@link QueryCompiler}, e.g.
+     * {@code featured:true AND tech:Java} sorted by {@code -id}.
+     * @param schema Collection to query, such as {@link QuerySchema#PROJECTS}
+     * @param filter Filter expression, or null for all entities
+     * @param sort Comma-separated sort fields, {@code -} prefixed for descending, or null
+     * @param <T> Entity type
+     * @return Matching entities
+     * @throws IOException if the data cannot be read
+     * @throws IllegalArgumentException if the filter or sort is invalid
+     */
+    public <T> List<T> query(QuerySchema<T> schema, String filter, String sort) throws IOException {
+        return queryCompiler.compile(schema, filter, sort).run(profileRepository.current());
+    }
+
+    /**
+     * Get personal information.
      * @return PersonalInfo object
-     * @throws IOException if the file cannot be read
+     * @throws IOException if the data cannot be read
      */
     public PersonalInfo getPersonalInfo() throws IOException {
-        InputStream inputStream = new ClassPathResource("data/personal-info.json").getInputStream();
-        return objectMapper.readValue(inputStream, PersonalInfo.class);
+        return profileRepository.current().getPersonalInfo();
     }
 
     /**
-     * Load skills information from JSON file.
+     * Get skills information.
      * @return Skills object
-     * @throws IOException if the file cannot be read
+     * @throws IOException if the data cannot be read
      */
     public Skills getSkills() throws IOException {
-        InputStream inputStream = new ClassPathResource("data/skills.json").getInputStream();
-        return objectMapper.readValue(inputStream, Skills.class);
+        return profileRepository.current().getSkills();
     }
 
     /**
      * Get experience by ID.
      * @param id The experience ID
      * @return Experience object or null if not found
-     * @throws IOException if the file cannot be read
+     * @throws IOException if the data cannot be read
      */
     public Experience getExperienceById(int id) throws IOException {
-        List<Experience> experiences = getExperiences();
-        return experiences.stream()
-                .filter(exp -> exp.getId() == id)
-                .findFirst()
-                .orElse(null);
+        return profileRepository.current().getExperience(id);
     }
 
     /**
      * Get education by ID.
      * @param id The education ID
      * @return Education object or null if not found
-     * @throws IOException if the file cannot be read
+     * @throws IOException if the data cannot be read
      */
     public Education getEducationById(int id) throws IOException {
-        List<Education> education = getEducation();
-        return education.stream()
-                .filter(edu -> edu.getId() == id)
-                .findFirst()
-                .orElse(null);
+        return profileRepository.current().getEducation(id);
     }
 
     /**
      * Get project by ID.
      * @param id The project ID
      * @return Project object or null if not found
-     * @throws IOException if the file cannot be read
+     * @throws IOException if the data cannot be read
      */
     public Project getProjectById(int id) throws IOException {
-        List<Project> projects = getProjects();
-        return projects.stream()
-                .filter(proj -> proj.getId() == id)
-                .findFirst()
-                .orElse(null);
+        return profileRepository.current().getProject(id);
     }
 
     /**
      * Get only featured projects.
      * @return List of featured Project objects
-     * @throws IOException if the file cannot be read
+     * @throws IOException if the data cannot be read
      */
     public List<Project> getFeaturedProjects() throws IOException {
         List<Project> projects = getProjects();
@@ -129,4 +200,121 @@ public class ProfileService {
                 .filter(Project::isFeatured)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * Find projects whose title, description or technologies contain every word of a query,
+     * ignoring case.
+     * @param query Words to look for
+     * @return Matching projects in their original order
+     * @throws IOException if the data cannot be read
+     */
+    public List<Project> searchProjects(String query) throws IOException {
+        String[] terms = query.toLowerCase(Locale.ROOT).trim().split("\\s+");
+        return getProjects().stream()
+                .filter(project -> {
+                    String text = searchText(project);
+                    return Arrays.stream(terms).allMatch(text::contains);
+                })
+                .toList();
+    }
+
+    /**
+     * Get several experiences by ID in one pass.
+     * @param ids The experience IDs, in the order results should be returned
+     * @return Experiences in request order with explicit misses
+     * @throws IOException if the data cannot be read
+     */
+    public BatchResult<Experience> getExperiencesByIds(List<Integer> ids) throws IOException {
+        return resolve(ids, profileRepository.current()::getExperience);
+    }
+
+    /**
+     * Get several education entries by ID in one pass.
+     * @param ids The education IDs, in the order results should be returned
+     * @return Education entries in request order with explicit misses
+     * @throws IOException if the data cannot be read
+     */
+    public BatchResult<Education> getEducationByIds(List<Integer> ids) throws IOException {
+        return resolve(ids, profileRepository.current()::getEducation);
+    }
+
+    /**
+     * Get several projects by ID in one pass.
+     * @param ids The project IDs, in the order results should be returned
+     * @return Projects in request order with explicit misses
+     * @throws IOException if the data cannot be read
+     */
+    public BatchResult<Project> getProjectsByIds(List<Integer> ids) throws IOException {
+        return resolve(ids, profileRepository.current()::getProject);
+    }
+
+    /**
+     * Add a new entity. An id of 0 or less is replaced with the next free id.
+     * @param resource The collection to add to
+     * @param entity The entity
+     * @param <T> Entity type
+     * @return The stored entity, or null if its id is already taken
+     * @throws IOException if the change cannot be made durable
+     * @throws UnsupportedOperationException if the configured store is read-only
+     */
+    public <T> T create(ProfileResource resource, T entity) throws IOException {
+        return profileRepository.create(resource, entity);
+    }
+
+    /**
+     * Insert or replace the entity with the given ID.
+     * @param resource The collection to write to
+     * @param id The entity ID
+     * @param entity The entity
+     * @param <T> Entity type
+     * @return The stored entity
+     * @throws IOException if the change cannot be made durable
+     * @throws UnsupportedOperationException if the configured store is read-only
+     * @throws IllegalArgumentException if the id is 0 or less
+     */
+    public <T> T update(ProfileResource resource, int id, T entity) throws IOException {
+        return profileRepository.put(resource, id, entity);
+    }
+
+    /**
+     * Remove an entity.
+     * @param resource The collection to remove from
+     * @param id The entity ID
+     * @return true if the entity existed
+     * @throws IOException if the change cannot be made durable
+     * @throws UnsupportedOperationException if the configured store is read-only
+     */
+    public boolean delete(ProfileResource resource, int id) throws IOException {
+        return profileRepository.delete(resource, id);
+    }
+
+    private static void checkRange(int fromMonth, int toMonth) {
+        if (fromMonth > toMonth) {
+            throw new IllegalArgumentException("Range starts after it ends");
+        }
+    }
+
+    private static String searchText(Project project) {
+        StringBuilder text = new StringBuilder();
+        text.append(project.getTitle()).append(' ').append(project.getDescription());
+        if (project.getTechnologies() != null) {
+            for (String technology : project.getTechnologies()) {
+                text.append(' ').append(technology);
+            }
+        }
+        return text.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> BatchResult<T> resolve(List<Integer> ids, IntFunction<T> lookup) {
+        List<T> results = new ArrayList<>(ids.size());
+        List<Integer> missing = new ArrayList<>();
+        for (int id : ids) {
+            T entity = lookup.apply(id);
+            results.add(entity);
+            if (entity == null) {
+                missing.add(id);
+            }
+        }
+        return new BatchResult<>(results, missing);
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.api.store;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.PersonalInfo;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+import com.example.api.serialization.SerializationRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_ACHIEVEMENTS;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_COURSES;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_DEGREE;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_DESCRIPTION;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_END_DATE;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_FIELD;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_GPA;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_ID;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_INSTITUTION;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_LOCATION;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_SLOTS;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_START_DATE;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_COMPANY;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_CURRENT;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_DESCRIPTION;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_END_DATE;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_ID;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_LOCATION;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_POSITION;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_SLOTS;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_START_DATE;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_TECHNOLOGIES;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_TYPE;
+import static com.example.api.store.BinaryProfileFormat.HEADER_SIZE;
+import static com.example.api.store.BinaryProfileFormat.MAGIC;
+import static com.example.api.store.BinaryProfileFormat.NULL_REF;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_DESCRIPTION;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_FEATURED;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_GITHUB_URL;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_ID;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_LIVE_URL;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_SLOTS;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_TECHNOLOGIES;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_TITLE;
+import static com.example.api.store.BinaryProfileFormat.VERSION;
+
+/**
+ * Compiles profile data into the compact binary format read by {@link MappedProfileStore}.
+ */
+public class BinaryProfileCompiler {
+
+    private final SerializationRegistry serializationRegistry;
+
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final List<byte[]> strings = new ArrayList<>();
+    private final ByteArrayOutputStream lists = new ByteArrayOutputStream();
+    private int listInts;
+
+    public BinaryProfileCompiler(SerializationRegistry serializationRegistry) {
+        this.serializationRegistry = serializationRegistry;
+    }
+
+    /**
+     * Compile the data of a store and atomically replace the target file.
+     * @param source Store providing the data
+     * @param target Destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void compile(ProfileStore source, Path target) throws IOException {
+        compile(source, 0, target);
+    }
+
+    /**
+     * Compile the data of a store and atomically replace the target file.
+     * @param source Store providing the data
+     * @param sourceFingerprint {@link ProfileDataSource#fingerprint()} of the files the data was loaded from
+     * @param target Destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void compile(ProfileStore source, long sourceFingerprint, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(compile(source, sourceFingerprint));
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Compile the data of a store into an in-memory image of the binary file.
+     * @param source Store providing the data
+     * @return File contents
+     * @throws IOException if the embedded documents cannot be serialized
+     */
+    public byte[] compile(ProfileStore source) throws IOException {
+        return compile(source, 0);
+    }
+
+    /**
+     * Compile the data of a store into an in-memory image of the binary file.
+     * @param source Store providing the data
+     * @param sourceFingerprint {@link ProfileDataSource#fingerprint()} of the files the data was loaded from
+     * @return File contents
+     * @throws IOException if the embedded documents cannot be serialized
+     */
+    public synchronized byte[] compile(ProfileStore source, long sourceFingerprint) throws IOException {
+        stringIds.clear();
+        strings.clear();
+        lists.reset();
+        listInts = 0;
+
+        List<int[]> experiences = new ArrayList<>();
+        for (Experience experience : source.getExperiences()) {
+            experiences.add(experienceRecord(experience));
+        }
+        List<int[]> education = new ArrayList<>();
+        for (Education entry : source.getEducation()) {
+            education.add(educationRecord(entry));
+        }
+        List<int[]> projects = new ArrayList<>();
+        for (Project project : source.getProjects()) {
+            projects.add(projectRecord(project));
+        }
+        byte[] info = serializationRegistry.writerFor(PersonalInfo.class).writeValueAsBytes(source.getPersonalInfo());
+        byte[] skills = serializationRegistry.writerFor(Skills.class).writeValueAsBytes(source.getSkills());
+
+        int stringDataSize = 0;
+        for (byte[] string : strings) {
+            stringDataSize += string.length;
+        }
+        int stringOffsetsPos = HEADER_SIZE;
+        int stringDataPos = stringOffsetsPos + (strings.size() + 1) * Integer.BYTES;
+        int listsPos = stringDataPos + stringDataSize;
+        int experiencesPos = listsPos + lists.size();
+        int educationPos = experiencesPos + sectionSize(experiences, EXPERIENCE_SLOTS);
+        int projectsPos = educationPos + sectionSize(education, EDUCATION_SLOTS);
+        int infoPos = projectsPos + sectionSize(projects, PROJECT_SLOTS);
+        int skillsPos = infoPos + info.length;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(skillsPos + skills.length);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(strings.size());
+        out.writeInt(stringOffsetsPos);
+        out.writeInt(stringDataPos);
+        out.writeInt(listsPos);
+        writeSectionHeader(out, experiences, experiencesPos, EXPERIENCE_SLOTS);
+        writeSectionHeader(out, education, educationPos, EDUCATION_SLOTS);
+        writeSectionHeader(out, projects, projectsPos, PROJECT_SLOTS);
+        out.writeInt(infoPos);
+        out.writeInt(info.length);
+        out.writeInt(skillsPos);
+        out.writeInt(skills.length);
+        out.writeLong(sourceFingerprint);
+
+        int offset = 0;
+        for (byte[] string : strings) {
+            out.writeInt(offset);
+            offset += string.length;
+        }
+        out.writeInt(offset);
+        for (byte[] string : strings) {
+            out.write(string);
+        }
+        lists.writeTo(out);
+        writeSection(out, experiences);
+        writeSection(out, education);
+        writeSection(out, projects);
+        out.write(info);
+        out.write(skills);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private int[] experienceRecord(Experience experience) {
+        int[] record = new int[EXPERIENCE_SLOTS];
+        record[EXPERIENCE_ID] = experience.getId();
+        record[EXPERIENCE_COMPANY] = string(experience.getCompany());
+        record[EXPERIENCE_POSITION] = string(experience.getPosition());
+        record[EXPERIENCE_LOCATION] = string(experience.getLocation());
+        record[EXPERIENCE_START_DATE] = string(experience.getStartDate());
+        record[EXPERIENCE_END_DATE] = string(experience.getEndDate());
+        record[EXPERIENCE_CURRENT] = experience.isCurrent() ? 1 : 0;
+        record[EXPERIENCE_DESCRIPTION] = list(experience.getDescription());
+        record[EXPERIENCE_TECHNOLOGIES] = list(experience.getTechnologies());
+        record[EXPERIENCE_TYPE] = string(experience.getType());
+        return record;
+    }
+
+    private int[] educationRecord(Education education) {
+        int[] record = new int[EDUCATION_SLOTS];
+        record[EDUCATION_ID] = education.getId();
+        record[EDUCATION_INSTITUTION] = string(education.getInstitution());
+        record[EDUCATION_DEGREE] = string(education.getDegree());
+        record[EDUCATION_FIELD] = string(education.getField());
+        record[EDUCATION_LOCATION] = string(education.getLocation());
+        record[EDUCATION_START_DATE] = string(education.getStartDate());
+        record[EDUCATION_END_DATE] = string(education.getEndDate());
+        record[EDUCATION_DESCRIPTION] = string(education.getDescription());
+        record[EDUCATION_COURSES] = list(education.getRelevantCourses());
+        record[EDUCATION_ACHIEVEMENTS] = list(education.getAchievements());
+        record[EDUCATION_GPA] = string(education.getGpa());
+        return record;
+    }
+
+    private int[] projectRecord(Project project) {
+        int[] record = new int[PROJECT_SLOTS];
+        record[PROJECT_ID] = project.getId();
+        record[PROJECT_TITLE] = string(project.getTitle());
+        record[PROJECT_DESCRIPTION] = string(project.getDescription());
+        record[PROJECT_TECHNOLOGIES] = list(project.getTechnologies());
+        record[PROJECT_GITHUB_URL] = string(project.getGithubUrl());
+        record[PROJECT_LIVE_URL] = string(project.getLiveUrl());
+        record[PROJECT_FEATURED] = project.isFeatured() ? 1 : 0;
+        return record;
+    }
+
+    private int string(String value) {
+        if (value == null) {
+            return NULL_REF;
+        }
+        return stringIds.computeIfAbsent(value, key -> {
+            strings.add(key.getBytes(StandardCharsets.UTF_8));
+            return strings.size() - 1;
+        });
+    }
+
+    private int list(List<String> values) {
+        if (values == null) {
+            return NULL_REF;
+        }
+        int[] refs = new int[values.size()];
+        for (int i = 0; i < refs.length; i++) {
+            refs[i] = string(values.get(i));
+        }
+        int ref = listInts;
+        writeInt(lists, refs.length);
+        for (int stringRef : refs) {
+            writeInt(lists, stringRef);
+        }
+        listInts += refs.length + 1;
+        return ref;
+    }
+
+    private static int sectionSize(List<int[]> records, int slots) {
+        return records.size() * slots * Integer.BYTES + records.size() * 2 * Integer.BYTES;
+    }
+
+    private static void writeSectionHeader(DataOutputStream out, List<int[]> records, int position, int slots)
+            throws IOException {
+        out.writeInt(records.size());
+        out.writeInt(position);
+        out.writeInt(position + records.size() * slots * Integer.BYTES);
+    }
+
+    private static void writeSection(DataOutputStream out, List<int[]> records) throws IOException {
+        for (int[] record : records) {
+            for (int value : record) {
+                out.writeInt(value);
+            }
+        }
+        // Sorted (id, recordIndex) pairs; for duplicate ids the earliest record comes first
+        long[] index = new long[records.size()];
+        for (int i = 0; i < index.length; i++) {
+            index[i] = ((long) records.get(i)[0] << 32) | i;
+        }
+        Arrays.sort(index);
+        for (long entry : index) {
+            out.writeInt((int) (entry >> 32));
+            out.writeInt((int) entry);
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    /**
+     * Compile the bundled classpath data into a binary profile file.
+     * @param args Target file path
+     * @throws IOException if the data cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: BinaryProfileCompiler <target-file>");
+        }
+        SerializationRegistry registry = new SerializationRegistry(new ObjectMapper());
+        ProfileDataSource source = ProfileDataSource.classpath("data/");
+        ProfileSnapshot snapshot = new JsonProfileLoader(registry, source).load();
+        new BinaryProfileCompiler(registry).compile(snapshot, source.fingerprint(), Paths.get(args[0]));
+    }
+}
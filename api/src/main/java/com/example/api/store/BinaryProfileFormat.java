@@ -0,0 +1,70 @@
+package com.example.api.store;
+
+/**
+ * Layout constants for the compact binary profile file.
+ *
+ * <p>The file is a fixed header followed by a deduplicated UTF-8 string table (offset array plus
+ * data), an int table of string lists ({@code count, ref...}), and for each collection a block of
+ * fixed-width int records and a sorted {@code (id, recordIndex)} lookup index. Personal info and
+ * skills are single small documents and are stored as embedded JSON. The header ends with a
+ * fingerprint of the JSON files the data was compiled from, so a stale file can be detected. All
+ * other values are big-endian ints; string and list references of {@link #NULL_REF} encode
+ * {@code null}.</p>
+ */
+final class BinaryProfileFormat {
+
+    static final int MAGIC = 0x50524F46;
+    static final int VERSION = 2;
+    static final int NULL_REF = -1;
+
+    static final int HEADER_MAGIC = 0;
+    static final int HEADER_VERSION = 4;
+    static final int HEADER_STRING_COUNT = 8;
+    static final int HEADER_STRING_OFFSETS = 12;
+    static final int HEADER_STRING_DATA = 16;
+    static final int HEADER_LISTS = 20;
+    static final int HEADER_EXPERIENCES = 24;
+    static final int HEADER_EDUCATION = 36;
+    static final int HEADER_PROJECTS = 48;
+    static final int HEADER_INFO = 60;
+    static final int HEADER_SKILLS = 68;
+    static final int HEADER_SOURCE_FINGERPRINT = 76;
+    static final int HEADER_SIZE = 84;
+
+    static final int EXPERIENCE_ID = 0;
+    static final int EXPERIENCE_COMPANY = 1;
+    static final int EXPERIENCE_POSITION = 2;
+    static final int EXPERIENCE_LOCATION = 3;
+    static final int EXPERIENCE_START_DATE = 4;
+    static final int EXPERIENCE_END_DATE = 5;
+    static final int EXPERIENCE_CURRENT = 6;
+    static final int EXPERIENCE_DESCRIPTION = 7;
+    static final int EXPERIENCE_TECHNOLOGIES = 8;
+    static final int EXPERIENCE_TYPE = 9;
+    static final int EXPERIENCE_SLOTS = 10;
+
+    static final int EDUCATION_ID = 0;
+    static final int EDUCATION_INSTITUTION = 1;
+    static final int EDUCATION_DEGREE = 2;
+    static final int EDUCATION_FIELD = 3;
+    static final int EDUCATION_LOCATION = 4;
+    static final int EDUCATION_START_DATE = 5;
+    static final int EDUCATION_END_DATE = 6;
+    static final int EDUCATION_DESCRIPTION = 7;
+    static final int EDUCATION_COURSES = 8;
+    static final int EDUCATION_ACHIEVEMENTS = 9;
+    static final int EDUCATION_GPA = 10;
+    static final int EDUCATION_SLOTS = 11;
+
+    static final int PROJECT_ID = 0;
+    static final int PROJECT_TITLE = 1;
+    static final int PROJECT_DESCRIPTION = 2;
+    static final int PROJECT_TECHNOLOGIES = 3;
+    static final int PROJECT_GITHUB_URL = 4;
+    static final int PROJECT_LIVE_URL = 5;
+    static final int PROJECT_FEATURED = 6;
+    static final int PROJECT_SLOTS = 7;
+
+    private BinaryProfileFormat() {
+    }
+}
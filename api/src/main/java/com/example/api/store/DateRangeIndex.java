@@ -0,0 +1,97 @@
+package com.example.api.store;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Interval indexes over the date ranges of one collection, overall and per entry type.
+ */
+final class DateRangeIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final IntervalIndex all;
+    private final Map<String, IntervalIndex> byType;
+
+    private DateRangeIndex(IntervalIndex all, Map<String, IntervalIndex> byType) {
+        this.all = all;
+        this.byType = byType;
+    }
+
+    static DateRangeIndex ofExperiences(List<Experience> experiences) {
+        int size = experiences.size();
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        String[] types = new String[size];
+        for (int i = 0; i < size; i++) {
+            Experience experience = experiences.get(i);
+            starts[i] = IntervalIndex.startMonth(experience.getStartDate());
+            ends[i] = IntervalIndex.endMonth(experience.getEndDate(), experience.isCurrent());
+            types[i] = experience.getType();
+        }
+        return build(starts, ends, types);
+    }
+
+    static DateRangeIndex ofEducation(List<Education> education) {
+        int size = education.size();
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = IntervalIndex.startMonth(education.get(i).getStartDate());
+            ends[i] = IntervalIndex.endMonth(education.get(i).getEndDate(), false);
+        }
+        return build(starts, ends, new String[size]);
+    }
+
+    /**
+     * Find entries overlapping a month range.
+     * @param from First month, inclusive
+     * @param to Last month, inclusive
+     * @param type Entry type to restrict to, ignoring case, or null for all
+     * @return Positions of the matching entries, ascending
+     */
+    int[] find(int from, int to, String type) {
+        IntervalIndex index = type == null ? all : byType.get(type.toLowerCase(Locale.ROOT));
+        return index == null ? NONE : index.overlapping(from, to);
+    }
+
+    /**
+     * Build the indexes from parsed ranges.
+     * @param starts First month of each entry, see {@link IntervalIndex#startMonth}
+     * @param ends Last month of each entry, see {@link IntervalIndex#endMonth}
+     * @param types Type of each entry, or null
+     * @return Index over positions in array order
+     */
+    static DateRangeIndex build(int[] starts, int[] ends, String[] types) {
+        int[] positions = new int[starts.length];
+        Map<String, Integer> typeCounts = new HashMap<>();
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+            if (types[i] != null) {
+                typeCounts.merge(types[i].toLowerCase(Locale.ROOT), 1, Integer::sum);
+            }
+        }
+        Map<String, IntervalIndex> byType = new HashMap<>();
+        for (Map.Entry<String, Integer> type : typeCounts.entrySet()) {
+            int[] typePositions = new int[type.getValue()];
+            int[] typeStarts = new int[typePositions.length];
+            int[] typeEnds = new int[typePositions.length];
+            int n = 0;
+            for (int i = 0; i < positions.length; i++) {
+                if (types[i] != null && types[i].toLowerCase(Locale.ROOT).equals(type.getKey())) {
+                    typePositions[n] = i;
+                    typeStarts[n] = starts[i];
+                    typeEnds[n] = ends[i];
+                    n++;
+                }
+            }
+            byType.put(type.getKey(), IntervalIndex.build(typePositions, typeStarts, typeEnds));
+        }
+        return new DateRangeIndex(IntervalIndex.build(positions, starts, ends), byType);
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.api.store;
+
+import java.util.Arrays;
+
+/**
+ * Static interval tree over month ranges, answering overlap queries in {@code O(log n + k)}.
+ *
+ * <p>Intervals are sorted by start month and laid out as an implicit balanced tree over that
+ * array, where every subtree records the latest end month it contains. A query skips subtrees that
+ * end before the range starts and everything right of a node that starts after the range ends.
+ * Each interval carries the position of its entity in the source list; results are returned in
+ * ascending position, i.e. in the original order.</p>
+ */
+public final class IntervalIndex {
+
+    /** Start month of an interval with an unknown start. */
+    public static final int OPEN_START = Integer.MIN_VALUE;
+    /** End month of an ongoing interval. */
+    public static final int OPEN_END = Integer.MAX_VALUE;
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] positions;
+    private final int[] maxEnds;
+
+    private IntervalIndex(int[] starts, int[] ends, int[] positions) {
+        this.starts = starts;
+        this.ends = ends;
+        this.positions = positions;
+        this.maxEnds = new int[starts.length];
+        computeMaxEnds(0, starts.length);
+    }
+
+    /**
+     * Build an index from parallel arrays.
+     * @param positions Entity positions
+     * @param starts Start month of each entity, inclusive
+     * @param ends End month of each entity, inclusive
+     * @return Index over the intervals
+     */
+    public static IntervalIndex build(int[] positions, int[] starts, int[] ends) {
+        Integer[] order = new Integer[positions.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> starts[a] != starts[b]
+                ? Integer.compare(starts[a], starts[b]) : Integer.compare(positions[a], positions[b]));
+        int[] sortedStarts = new int[order.length];
+        int[] sortedEnds = new int[order.length];
+        int[] sortedPositions = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedStarts[i] = starts[order[i]];
+            sortedEnds[i] = ends[order[i]];
+            sortedPositions[i] = positions[order[i]];
+        }
+        return new IntervalIndex(sortedStarts, sortedEnds, sortedPositions);
+    }
+
+    /**
+     * Find the intervals overlapping a month range.
+     * @param from First month of the range, inclusive
+     * @param to Last month of the range, inclusive
+     * @return Positions of the overlapping entities, ascending
+     */
+    public int[] overlapping(int from, int to) {
+        Hits hits = new Hits();
+        collect(0, starts.length, from, to, hits);
+        int[] result = Arrays.copyOf(hits.positions, hits.size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Get the number of indexed intervals.
+     * @return Size
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Parse a {@code YYYY-MM} month.
+     * @param value Month text
+     * @return Months since year 0
+     * @throws IllegalArgumentException if the text is not a valid month
+     */
+    public static int parseMonth(String value) {
+        if (value == null || value.length() != 7 || value.charAt(4) != '-') {
+            throw new IllegalArgumentException("Expected YYYY-MM: " + value);
+        }
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 7);
+        if (year < 0 || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Expected YYYY-MM: " + value);
+        }
+        return year * 12 + month - 1;
+    }
+
+    /**
+     * Parse a start month, treating missing or malformed values as open.
+     * @param value Month text
+     * @return Months since year 0, or {@link #OPEN_START}
+     */
+    public static int startMonth(String value) {
+        try {
+            return parseMonth(value);
+        } catch (IllegalArgumentException e) {
+            return OPEN_START;
+        }
+    }
+
+    /**
+     * Parse an end month, treating ongoing, missing or malformed values as open.
+     * @param value Month text
+     * @param current Whether the entry is ongoing
+     * @return Months since year 0, or {@link #OPEN_END}
+     */
+    public static int endMonth(String value, boolean current) {
+        if (current) {
+            return OPEN_END;
+        }
+        try {
+            return parseMonth(value);
+        } catch (IllegalArgumentException e) {
+            return OPEN_END;
+        }
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private int computeMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return OPEN_START;
+        }
+        int mid = (lo + hi) >>> 1;
+        int max = Math.max(ends[mid], Math.max(computeMaxEnds(lo, mid), computeMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, int from, int to, Hits hits) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] < from) {
+            return;
+        }
+        collect(lo, mid, from, to, hits);
+        if (starts[mid] > to) {
+            return;
+        }
+        if (ends[mid] >= from) {
+            hits.add(positions[mid]);
+        }
+        collect(mid + 1, hi, from, to, hits);
+    }
+
+    /**
+     * Result buffer sized by the number of matches rather than the index.
+     */
+    private static final class Hits {
+        private int[] positions = new int[8];
+        private int size;
+
+        private void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+    }
+}
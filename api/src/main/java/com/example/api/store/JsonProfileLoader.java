@@ -0,0 +1,233 @@
+package com.example.api.store;
+
+import com.example.api.diagnostics.ProfileLoadEvent;
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.PersonalInfo;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+import com.example.api.serialization.SerializationRegistry;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Loads a {@link ProfileSnapshot} from the five profile JSON files of a {@link ProfileDataSource},
+ * canonicalizing repeated values through a fresh {@link StringPool}.
+ *
+ * <p>The five files are read in parallel, sharing one pool. Collection files are streamed: the
+ * parser reads one array element at a time, which is validated and canonicalized before the next
+ * is read, so the duplicate strings of an entity become garbage right away and peak memory stays
+ * close to the size of the loaded data. Malformed content fails the load with a
+ * {@link ProfileDataException} giving the file, line and column.</p>
+ */
+public class JsonProfileLoader {
+
+    /** Names of the files making up one profile data set. */
+    public static final List<String> DATA_FILES = List.of(
+            "experiences.json", "education.json", "projects.json", "personal-info.json", "skills.json");
+
+    /** Entities between two progress reports within a file. */
+    static final int PROGRESS_INTERVAL = 10_000;
+    private static final ThreadFactory LOADER_THREADS = runnable -> {
+        Thread thread = new Thread(runnable, "profile-loader");
+        thread.setDaemon(true);
+        return thread;
+    };
+    /** Ids below this bound are tracked in a bitset, larger ones in a hash set. */
+    private static final int DENSE_ID_LIMIT = 1 << 24;
+
+    /**
+     * Callback reporting how far a load has got.
+     */
+    @FunctionalInterface
+    public interface Progress {
+
+        /**
+         * Called every {@link #PROGRESS_INTERVAL} entities of a collection file and once when the
+         * file is done, on the thread reading that file; files are read concurrently.
+         * @param fileName Data file being read
+         * @param entities Entities read from the file so far
+         * @param done Whether the file has been read completely
+         */
+        void loaded(String fileName, int entities, boolean done);
+    }
+
+    private final SerializationRegistry serializationRegistry;
+    private final ProfileDataSource dataSource;
+    private final Progress progress;
+
+    public JsonProfileLoader(SerializationRegistry serializationRegistry) {
+        this(serializationRegistry, ProfileDataSource.classpath("data/"));
+    }
+
+    public JsonProfileLoader(SerializationRegistry serializationRegistry, ProfileDataSource dataSource) {
+        this(serializationRegistry, dataSource, (fileName, entities, done) -> { });
+    }
+
+    public JsonProfileLoader(SerializationRegistry serializationRegistry, ProfileDataSource dataSource,
+                             Progress progress) {
+        this.serializationRegistry = serializationRegistry;
+        this.dataSource = dataSource;
+        this.progress = progress;
+    }
+
+    /**
+     * Parse all five profile data files.
+     * @return Snapshot holding the parsed data
+     * @throws IOException if a file cannot be read or parsed
+     */
+    public ProfileSnapshot load() throws IOException {
+        return load(0);
+    }
+
+    /**
+     * Parse all five profile data files as a given snapshot version.
+     * @param version Version of the data, e.g. the journal position it was compacted at
+     * @return Snapshot holding the parsed data
+     * @throws IOException if a file cannot be read or parsed; a {@link ProfileDataException} for
+     * malformed or invalid content
+     */
+    public ProfileSnapshot load(long version) throws IOException {
+        ProfileLoadEvent event = new ProfileLoadEvent();
+        event.begin();
+        StringPool pool = new StringPool();
+        ProfileCanonicalizer canonicalizer = new ProfileCanonicalizer(pool);
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(DATA_FILES.size(), Runtime.getRuntime().availableProcessors()), LOADER_THREADS);
+        try {
+            Future<List<Experience>> experiences = executor.submit(() -> readArray("experiences.json",
+                    Experience.class, canonicalizer::canonicalize, Experience::getId));
+            Future<List<Education>> education = executor.submit(() -> readArray("education.json",
+                    Education.class, canonicalizer::canonicalize, Education::getId));
+            Future<List<Project>> projects = executor.submit(() -> readArray("projects.json",
+                    Project.class, canonicalizer::canonicalize, Project::getId));
+            Future<PersonalInfo> personalInfo = executor.submit(() -> canonicalizer.canonicalize(
+                    readValue("personal-info.json", PersonalInfo.class)));
+            Future<Skills> skills = executor.submit(() -> canonicalizer.canonicalize(
+                    readValue("skills.json", Skills.class)));
+
+            ProfileSnapshot snapshot = new ProfileSnapshot(version, await(experiences), await(education),
+                    await(projects), await(personalInfo), await(skills), pool);
+            event.end("json", version, snapshot.getExperiences().size(), snapshot.getEducation().size(),
+                    snapshot.getProjects().size());
+            return snapshot;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> List<T> readArray(String fileName, Class<T> type, UnaryOperator<T> canonicalize,
+                                  ToIntFunction<T> idOf) throws IOException {
+        ObjectReader reader = serializationRegistry.readerFor(type);
+        List<T> entities = new ArrayList<>();
+        IdSet ids = new IdSet();
+        try (InputStream inputStream = dataSource.open(fileName);
+             JsonParser parser = serializationRegistry.getObjectMapper().getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ProfileDataException(fileName, parser.getTokenLocation(), "Expected a JSON array", null);
+            }
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                JsonLocation location = parser.getTokenLocation();
+                if (token != JsonToken.START_OBJECT) {
+                    throw new ProfileDataException(fileName, location, "Expected an object but found " + token, null);
+                }
+                T entity = reader.readValue(parser);
+                int id = idOf.applyAsInt(entity);
+                if (id <= 0) {
+                    throw new ProfileDataException(fileName, location, "Invalid id " + id, null);
+                }
+                if (!ids.add(id)) {
+                    throw new ProfileDataException(fileName, location, "Duplicate id " + id, null);
+                }
+                entities.add(canonicalize.apply(entity));
+                if (entities.size() % PROGRESS_INTERVAL == 0) {
+                    progress.loaded(fileName, entities.size(), false);
+                }
+            }
+            expectEnd(fileName, parser);
+        } catch (JsonProcessingException e) {
+            throw new ProfileDataException(fileName, e.getLocation(), e.getOriginalMessage(), e);
+        }
+        progress.loaded(fileName, entities.size(), true);
+        return entities;
+    }
+
+    private <T> T readValue(String fileName, Class<T> type) throws IOException {
+        try (InputStream inputStream = dataSource.open(fileName);
+             JsonParser parser = serializationRegistry.getObjectMapper().getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ProfileDataException(fileName, parser.getTokenLocation(), "Expected a JSON object", null);
+            }
+            T value = serializationRegistry.readerFor(type).readValue(parser);
+            expectEnd(fileName, parser);
+            return value;
+        } catch (JsonProcessingException e) {
+            throw new ProfileDataException(fileName, e.getLocation(), e.getOriginalMessage(), e);
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading profile data", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to load profile data", cause);
+        }
+    }
+
+    private static void expectEnd(String fileName, JsonParser parser) throws IOException {
+        if (parser.nextToken() != null) {
+            throw new ProfileDataException(fileName, parser.getTokenLocation(), "Unexpected content after the data",
+                    null);
+        }
+    }
+
+    /**
+     * Ids seen in one file; a bitset for the usual dense ids, without boxing every one of them.
+     */
+    private static final class IdSet {
+        private final BitSet dense = new BitSet();
+        private Set<Integer> sparse;
+
+        private boolean add(int id) {
+            if (id < DENSE_ID_LIMIT) {
+                if (dense.get(id)) {
+                    return false;
+                }
+                dense.set(id);
+                return true;
+            }
+            if (sparse == null) {
+                sparse = new HashSet<>();
+            }
+            return sparse.add(id);
+        }
+    }
+}
@@ -0,0 +1,586 @@
+package com.example.api.store;
+
+import com.example.api.diagnostics.ProfileLoadEvent;
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.PersonalInfo;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+import com.example.api.serialization.SerializationRegistry;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_ACHIEVEMENTS;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_COURSES;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_DEGREE;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_DESCRIPTION;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_END_DATE;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_FIELD;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_GPA;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_ID;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_INSTITUTION;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_LOCATION;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_SLOTS;
+import static com.example.api.store.BinaryProfileFormat.EDUCATION_START_DATE;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_COMPANY;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_CURRENT;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_DESCRIPTION;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_END_DATE;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_ID;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_LOCATION;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_POSITION;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_SLOTS;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_START_DATE;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_TECHNOLOGIES;
+import static com.example.api.store.BinaryProfileFormat.EXPERIENCE_TYPE;
+import static com.example.api.store.BinaryProfileFormat.HEADER_EDUCATION;
+import static com.example.api.store.BinaryProfileFormat.HEADER_EXPERIENCES;
+import static com.example.api.store.BinaryProfileFormat.HEADER_INFO;
+import static com.example.api.store.BinaryProfileFormat.HEADER_LISTS;
+import static com.example.api.store.BinaryProfileFormat.HEADER_MAGIC;
+import static com.example.api.store.BinaryProfileFormat.HEADER_PROJECTS;
+import static com.example.api.store.BinaryProfileFormat.HEADER_SIZE;
+import static com.example.api.store.BinaryProfileFormat.HEADER_SKILLS;
+import static com.example.api.store.BinaryProfileFormat.HEADER_SOURCE_FINGERPRINT;
+import static com.example.api.store.BinaryProfileFormat.HEADER_STRING_DATA;
+import static com.example.api.store.BinaryProfileFormat.HEADER_STRING_OFFSETS;
+import static com.example.api.store.BinaryProfileFormat.HEADER_VERSION;
+import static com.example.api.store.BinaryProfileFormat.MAGIC;
+import static com.example.api.store.BinaryProfileFormat.NULL_REF;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_DESCRIPTION;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_FEATURED;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_GITHUB_URL;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_ID;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_LIVE_URL;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_SLOTS;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_TECHNOLOGIES;
+import static com.example.api.store.BinaryProfileFormat.PROJECT_TITLE;
+import static com.example.api.store.BinaryProfileFormat.VERSION;
+
+/**
+ * Profile store backed by a memory-mapped binary file produced by {@link BinaryProfileCompiler}.
+ *
+ * <p>Entity data stays in the page cache rather than on the heap: lookups binary-search the
+ * id index and decode only the requested record, and the date range indexes are built from the
+ * date and type slots alone. Full collection lists are views that decode each element from its
+ * slot when it is read, so the catalog is never held on the heap as a whole. Flyweight views give
+ * allocation-light access to individual fields; each view is a movable cursor and must not be
+ * shared between threads.</p>
+ */
+public final class MappedProfileStore implements ProfileStore {
+
+    private final ByteBuffer buffer;
+    private final int stringOffsetsPos;
+    private final int stringDataPos;
+    private final int listsPos;
+    private final Section experiences;
+    private final Section education;
+    private final Section projects;
+    private final PersonalInfo personalInfo;
+    private final Skills skills;
+    private final DateRangeIndex experienceDates;
+    private final DateRangeIndex educationDates;
+
+    private MappedProfileStore(ByteBuffer buffer, SerializationRegistry serializationRegistry) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(HEADER_MAGIC) != MAGIC) {
+            throw new IOException("Not a binary profile file");
+        }
+        if (buffer.getInt(HEADER_VERSION) != VERSION) {
+            throw new IOException("Unsupported binary profile version " + buffer.getInt(HEADER_VERSION));
+        }
+        this.buffer = buffer;
+        this.stringOffsetsPos = buffer.getInt(HEADER_STRING_OFFSETS);
+        this.stringDataPos = buffer.getInt(HEADER_STRING_DATA);
+        this.listsPos = buffer.getInt(HEADER_LISTS);
+        this.experiences = new Section(HEADER_EXPERIENCES, EXPERIENCE_SLOTS);
+        this.education = new Section(HEADER_EDUCATION, EDUCATION_SLOTS);
+        this.projects = new Section(HEADER_PROJECTS, PROJECT_SLOTS);
+        this.personalInfo = readEmbedded(HEADER_INFO, serializationRegistry.readerFor(PersonalInfo.class));
+        this.skills = readEmbedded(HEADER_SKILLS, serializationRegistry.readerFor(Skills.class));
+        this.experienceDates = experienceDates();
+        this.educationDates = educationDates();
+    }
+
+    /**
+     * Check whether a binary profile file was compiled from the current data files.
+     * @param file The binary profile file, which may not exist
+     * @param sourceFingerprint {@link ProfileDataSource#fingerprint()} of the data files
+     * @return false if the file is missing, of another format version or compiled from other data
+     * @throws IOException if the file exists but cannot be read
+     */
+    public static boolean isCompiledFrom(Path file, long sourceFingerprint) throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            int read = 0;
+            while (read >= 0 && header.hasRemaining()) {
+                read = channel.read(header);
+            }
+            return !header.hasRemaining() && header.getInt(HEADER_MAGIC) == MAGIC
+                    && header.getInt(HEADER_VERSION) == VERSION
+                    && header.getLong(HEADER_SOURCE_FINGERPRINT) == sourceFingerprint;
+        }
+    }
+
+    /**
+     * Map a binary profile file read-only.
+     * @param file The binary profile file
+     * @param serializationRegistry Registry used to decode the embedded documents
+     * @return Store reading from the mapping
+     * @throws IOException if the file cannot be mapped or is not a valid profile file
+     */
+    public static MappedProfileStore open(Path file, SerializationRegistry serializationRegistry)
+            throws IOException {
+        ProfileLoadEvent event = new ProfileLoadEvent();
+        event.begin();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            MappedProfileStore store = new MappedProfileStore(mapped, serializationRegistry);
+            event.end("mapped", 0, store.experienceCount(), store.educationCount(), store.projectCount());
+            return store;
+        }
+    }
+
+    /**
+     * Wrap an in-memory image of a binary profile file.
+     * @param image File contents
+     * @param serializationRegistry Registry used to decode the embedded documents
+     * @return Store reading from the image
+     * @throws IOException if the image is not a valid profile file
+     */
+    public static MappedProfileStore wrap(byte[] image, SerializationRegistry serializationRegistry)
+            throws IOException {
+        return new MappedProfileStore(ByteBuffer.wrap(image).asReadOnlyBuffer(), serializationRegistry);
+    }
+
+    /**
+     * Compiled files are read-only, so their data is always at the initial version.
+     * @return 0
+     */
+    @Override
+    public long getVersion() {
+        return 0;
+    }
+
+    @Override
+    public long getVersion(ProfileResource resource) {
+        return 0;
+    }
+
+    @Override
+    public List<Experience> getExperiences() {
+        return new DecodedList<>(experiences.count, index -> experienceView().moveTo(index).toExperience());
+    }
+
+    @Override
+    public Experience getExperience(int id) {
+        int index = experiences.find(id);
+        return index < 0 ? null : experienceView().moveTo(index).toExperience();
+    }
+
+    @Override
+    public List<Experience> findExperiences(int fromMonth, int toMonth, String type) {
+        int[] positions = experienceDates.find(fromMonth, toMonth, type);
+        ExperienceView view = experienceView();
+        List<Experience> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(view.moveTo(position).toExperience());
+        }
+        return result;
+    }
+
+    @Override
+    public List<Education> getEducation() {
+        return new DecodedList<>(education.count, index -> educationView().moveTo(index).toEducation());
+    }
+
+    @Override
+    public Education getEducation(int id) {
+        int index = education.find(id);
+        return index < 0 ? null : educationView().moveTo(index).toEducation();
+    }
+
+    @Override
+    public List<Education> findEducation(int fromMonth, int toMonth) {
+        int[] positions = educationDates.find(fromMonth, toMonth, null);
+        EducationView view = educationView();
+        List<Education> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(view.moveTo(position).toEducation());
+        }
+        return result;
+    }
+
+    @Override
+    public List<Project> getProjects() {
+        return new DecodedList<>(projects.count, index -> projectView().moveTo(index).toProject());
+    }
+
+    @Override
+    public Project getProject(int id) {
+        int index = projects.find(id);
+        return index < 0 ? null : projectView().moveTo(index).toProject();
+    }
+
+    @Override
+    public PersonalInfo getPersonalInfo() {
+        return personalInfo;
+    }
+
+    @Override
+    public Skills getSkills() {
+        return skills;
+    }
+
+    /**
+     * Number of experience records in the file.
+     * @return Record count
+     */
+    public int experienceCount() {
+        return experiences.count;
+    }
+
+    /**
+     * Number of education records in the file.
+     * @return Record count
+     */
+    public int educationCount() {
+        return education.count;
+    }
+
+    /**
+     * Number of project records in the file.
+     * @return Record count
+     */
+    public int projectCount() {
+        return projects.count;
+    }
+
+    /**
+     * Create a flyweight cursor over experience records.
+     * @return New view positioned on the first record
+     */
+    public ExperienceView experienceView() {
+        return new ExperienceView();
+    }
+
+    /**
+     * Create a flyweight cursor over education records.
+     * @return New view positioned on the first record
+     */
+    public EducationView educationView() {
+        return new EducationView();
+    }
+
+    /**
+     * Create a flyweight cursor over project records.
+     * @return New view positioned on the first record
+     */
+    public ProjectView projectView() {
+        return new ProjectView();
+    }
+
+    private DateRangeIndex experienceDates() {
+        ExperienceView view = experienceView();
+        int[] starts = new int[experiences.count];
+        int[] ends = new int[experiences.count];
+        String[] types = new String[experiences.count];
+        for (int i = 0; i < experiences.count; i++) {
+            view.moveTo(i);
+            starts[i] = IntervalIndex.startMonth(string(view.slot(EXPERIENCE_START_DATE)));
+            ends[i] = IntervalIndex.endMonth(string(view.slot(EXPERIENCE_END_DATE)), view.isCurrent());
+            types[i] = view.getType();
+        }
+        return DateRangeIndex.build(starts, ends, types);
+    }
+
+    private DateRangeIndex educationDates() {
+        EducationView view = educationView();
+        int[] starts = new int[education.count];
+        int[] ends = new int[education.count];
+        for (int i = 0; i < education.count; i++) {
+            view.moveTo(i);
+            starts[i] = IntervalIndex.startMonth(view.getStartDate());
+            ends[i] = IntervalIndex.endMonth(view.getEndDate(), false);
+        }
+        return DateRangeIndex.build(starts, ends, new String[education.count]);
+    }
+
+    private String string(int ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        int offsetPos = stringOffsetsPos + ref * Integer.BYTES;
+        int start = buffer.getInt(offsetPos);
+        int end = buffer.getInt(offsetPos + Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(stringDataPos + start);
+        slice.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private List<String> list(int ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        int pos = listsPos + ref * Integer.BYTES;
+        int count = buffer.getInt(pos);
+        List<String> values = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            values.add(string(buffer.getInt(pos + i * Integer.BYTES)));
+        }
+        return values;
+    }
+
+    private <T> T readEmbedded(int headerPos, ObjectReader reader) throws IOException {
+        int pos = buffer.getInt(headerPos);
+        int length = buffer.getInt(headerPos + Integer.BYTES);
+        byte[] bytes = new byte[length];
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(pos);
+        slice.get(bytes);
+        return reader.readValue(bytes);
+    }
+
+    /**
+     * Read-only list that decodes its element on every {@link #get}, each time through a new view.
+     * @param <T> Element type
+     */
+    private static final class DecodedList<T> extends AbstractList<T> implements RandomAccess {
+        private final int size;
+        private final IntFunction<T> decoder;
+
+        DecodedList(int size, IntFunction<T> decoder) {
+            this.size = size;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public T get(int index) {
+            return decoder.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Location of one collection's records and id index within the file.
+     */
+    private final class Section {
+        private final int count;
+        private final int recordsPos;
+        private final int indexPos;
+        private final int recordSize;
+
+        Section(int headerPos, int slots) {
+            this.count = buffer.getInt(headerPos);
+            this.recordsPos = buffer.getInt(headerPos + Integer.BYTES);
+            this.indexPos = buffer.getInt(headerPos + 2 * Integer.BYTES);
+            this.recordSize = slots * Integer.BYTES;
+        }
+
+        int recordBase(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Record " + index + " of " + count);
+            }
+            return recordsPos + index * recordSize;
+        }
+
+        /** Lower-bound binary search over the sorted id index; returns the record index or -1. */
+        int find(int id) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (buffer.getInt(indexPos + mid * 2 * Integer.BYTES) < id) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            if (low < count && buffer.getInt(indexPos + low * 2 * Integer.BYTES) == id) {
+                return buffer.getInt(indexPos + low * 2 * Integer.BYTES + Integer.BYTES);
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Flyweight read-only view over a fixed-width record.
+     */
+    private abstract class RecordView {
+        private final Section section;
+        private int base;
+
+        RecordView(Section section) {
+            this.section = section;
+            this.base = section.count > 0 ? section.recordBase(0) : section.recordsPos;
+        }
+
+        void position(int index) {
+            base = section.recordBase(index);
+        }
+
+        int slot(int slot) {
+            return buffer.getInt(base + slot * Integer.BYTES);
+        }
+    }
+
+    /**
+     * Flyweight view over an experience record.
+     */
+    public final class ExperienceView extends RecordView {
+        ExperienceView() {
+            super(experiences);
+        }
+
+        /**
+         * Move this view to another record.
+         * @param index Record index in file order
+         * @return This view
+         */
+        public ExperienceView moveTo(int index) {
+            position(index);
+            return this;
+        }
+
+        public int getId() {
+            return slot(EXPERIENCE_ID);
+        }
+
+        public String getCompany() {
+            return string(slot(EXPERIENCE_COMPANY));
+        }
+
+        public boolean isCurrent() {
+            return slot(EXPERIENCE_CURRENT) != 0;
+        }
+
+        public String getType() {
+            return string(slot(EXPERIENCE_TYPE));
+        }
+
+        public List<String> getTechnologies() {
+            return list(slot(EXPERIENCE_TECHNOLOGIES));
+        }
+
+        /**
+         * Materialize the current record as a model object.
+         * @return Experience object
+         */
+        public Experience toExperience() {
+            return new Experience(getId(), getCompany(), string(slot(EXPERIENCE_POSITION)),
+                    string(slot(EXPERIENCE_LOCATION)), string(slot(EXPERIENCE_START_DATE)),
+                    string(slot(EXPERIENCE_END_DATE)), isCurrent(), list(slot(EXPERIENCE_DESCRIPTION)),
+                    getTechnologies(), getType());
+        }
+    }
+
+    /**
+     * Flyweight view over an education record.
+     */
+    public final class EducationView extends RecordView {
+        EducationView() {
+            super(education);
+        }
+
+        /**
+         * Move this view to another record.
+         * @param index Record index in file order
+         * @return This view
+         */
+        public EducationView moveTo(int index) {
+            position(index);
+            return this;
+        }
+
+        public int getId() {
+            return slot(EDUCATION_ID);
+        }
+
+        public String getInstitution() {
+            return string(slot(EDUCATION_INSTITUTION));
+        }
+
+        public String getStartDate() {
+            return string(slot(EDUCATION_START_DATE));
+        }
+
+        public String getEndDate() {
+            return string(slot(EDUCATION_END_DATE));
+        }
+
+        /**
+         * Materialize the current record as a model object.
+         * @return Education object
+         */
+        public Education toEducation() {
+            return new Education(getId(), getInstitution(), string(slot(EDUCATION_DEGREE)),
+                    string(slot(EDUCATION_FIELD)), string(slot(EDUCATION_LOCATION)), getStartDate(), getEndDate(),
+                    string(slot(EDUCATION_DESCRIPTION)), list(slot(EDUCATION_COURSES)),
+                    list(slot(EDUCATION_ACHIEVEMENTS)), string(slot(EDUCATION_GPA)));
+        }
+    }
+
+    /**
+     * Flyweight view over a project record.
+     */
+    public final class ProjectView extends RecordView {
+        ProjectView() {
+            super(projects);
+        }
+
+        /**
+         * Move this view to another record.
+         * @param index Record index in file order
+         * @return This view
+         */
+        public ProjectView moveTo(int index) {
+            position(index);
+            return this;
+        }
+
+        public int getId() {
+            return slot(PROJECT_ID);
+        }
+
+        public String getTitle() {
+            return string(slot(PROJECT_TITLE));
+        }
+
+        public boolean isFeatured() {
+            return slot(PROJECT_FEATURED) != 0;
+        }
+
+        public List<String> getTechnologies() {
+            return list(slot(PROJECT_TECHNOLOGIES));
+        }
+
+        /**
+         * Materialize the current record as a model object.
+         * @return Project object
+         */
+        public Project toProject() {
+            return new Project(getId(), getTitle(), string(slot(PROJECT_DESCRIPTION)), getTechnologies(),
+                    string(slot(PROJECT_GITHUB_URL)), string(slot(PROJECT_LIVE_URL)), isFeatured());
+        }
+    }
+}
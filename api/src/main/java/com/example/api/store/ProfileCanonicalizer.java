@@ -0,0 +1,128 @@
+package com.example.api.store;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.PersonalInfo;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load-time pass that replaces repeated categorical values (technologies, locations, dates,
+ * types, skill names) with canonical instances from a {@link StringPool}.
+ *
+ * <p>Free-text fields such as companies, positions, descriptions and URLs are mostly unique per
+ * entity and are left alone. The model classes are immutable, so each method returns a
+ * canonicalized copy.</p>
+ */
+public final class ProfileCanonicalizer {
+
+    private final StringPool pool;
+
+    public ProfileCanonicalizer(StringPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Canonicalize an experience.
+     * @param experience The experience
+     * @return Experience sharing canonical string instances
+     */
+    public Experience canonicalize(Experience experience) {
+        return new Experience(experience.getId(), experience.getCompany(),
+                experience.getPosition(), pool.intern(experience.getLocation()),
+                pool.intern(experience.getStartDate()), pool.intern(experience.getEndDate()),
+                experience.isCurrent(), experience.getDescription(), internAll(experience.getTechnologies()),
+                pool.intern(experience.getType()));
+    }
+
+    /**
+     * Canonicalize an education entry.
+     * @param education The education entry
+     * @return Education sharing canonical string instances
+     */
+    public Education canonicalize(Education education) {
+        return new Education(education.getId(), pool.intern(education.getInstitution()),
+                pool.intern(education.getDegree()), pool.intern(education.getField()),
+                pool.intern(education.getLocation()), pool.intern(education.getStartDate()),
+                pool.intern(education.getEndDate()), education.getDescription(),
+                internAll(education.getRelevantCourses()), education.getAchievements(),
+                pool.intern(education.getGpa()));
+    }
+
+    /**
+     * Canonicalize a project.
+     * @param project The project
+     * @return Project sharing canonical string instances
+     */
+    public Project canonicalize(Project project) {
+        return new Project(project.getId(), project.getTitle(), project.getDescription(),
+                internAll(project.getTechnologies()), project.getGithubUrl(), project.getLiveUrl(),
+                project.isFeatured());
+    }
+
+    /**
+     * Canonicalize personal information.
+     * @param info The personal information
+     * @return PersonalInfo sharing canonical string instances
+     */
+    public PersonalInfo canonicalize(PersonalInfo info) {
+        if (info == null) {
+            return null;
+        }
+        List<PersonalInfo.Language> languages = null;
+        if (info.getLanguages() != null) {
+            languages = new ArrayList<>(info.getLanguages().size());
+            for (PersonalInfo.Language language : info.getLanguages()) {
+                languages.add(new PersonalInfo.Language(pool.intern(language.getLanguage()),
+                        pool.intern(language.getProficiency())));
+            }
+        }
+        PersonalInfo.Contact contact = info.getContact();
+        if (contact != null) {
+            contact = new PersonalInfo.Contact(contact.getEmail(), contact.getMcgillEmail(), contact.getLinkedin(),
+                    contact.getGithub(), pool.intern(contact.getLocation()));
+        }
+        return new PersonalInfo(info.getName(), info.getTitle(), pool.intern(info.getLocation()), info.getBio(),
+                info.getDescription(), languages, contact);
+    }
+
+    /**
+     * Canonicalize skills.
+     * @param skills The skills
+     * @return Skills sharing canonical string instances
+     */
+    public Skills canonicalize(Skills skills) {
+        if (skills == null) {
+            return null;
+        }
+        return new Skills(internAll(skills.getTechnicalSkills()), internAll(skills.getCategories()),
+                internAll(skills.getProficiencyLevels()));
+    }
+
+    private List<String> internAll(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> result = new ArrayList<>(values.size());
+        for (String value : values) {
+            result.add(pool.intern(value));
+        }
+        return result;
+    }
+
+    private Map<String, List<String>> internAll(Map<String, List<String>> groups) {
+        if (groups == null) {
+            return null;
+        }
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> group : groups.entrySet()) {
+            result.put(pool.intern(group.getKey()), internAll(group.getValue()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.api.store;
+
+import com.fasterxml.jackson.core.JsonLocation;
+
+import java.io.IOException;
+
+/**
+ * A profile data file that cannot be loaded, with the position of the offending content.
+ */
+public class ProfileDataException extends IOException {
+
+    private final String fileName;
+    private final int line;
+    private final int column;
+
+    /**
+     * Create an exception for content at a position in a data file.
+     * @param fileName Data file name such as {@code projects.json}
+     * @param location Position of the offending content, or null if unknown
+     * @param problem What is wrong
+     * @param cause Underlying parse error, or null
+     */
+    public ProfileDataException(String fileName, JsonLocation location, String problem, Throwable cause) {
+        super(fileName + (location != null ? " line " + location.getLineNr() + ", column " + location.getColumnNr()
+                : "") + ": " + problem, cause);
+        this.fileName = fileName;
+        this.line = location != null ? location.getLineNr() : -1;
+        this.column = location != null ? location.getColumnNr() : -1;
+    }
+
+    /**
+     * Get the file that failed to load.
+     * @return File name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Get the line of the offending content.
+     * @return Line number, starting at 1, or -1 if unknown
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * Get the column of the offending content.
+     * @return Column number, starting at 1, or -1 if unknown
+     */
+    public int getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.api.store;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Location of a set of profile JSON files.
+ */
+@FunctionalInterface
+public interface ProfileDataSource {
+
+    /**
+     * Open one of the profile data files.
+     * @param fileName File name such as {@code projects.json}
+     * @return Stream over the file contents; the caller closes it
+     * @throws IOException if the file cannot be opened
+     */
+    InputStream open(String fileName) throws IOException;
+
+    /**
+     * Fingerprint the contents of the profile data files, e.g. to tell whether a compiled binary
+     * file is still current.
+     * @return First 64 bits of a SHA-256 digest over the files
+     * @throws IOException if a file cannot be read
+     */
+    default long fingerprint() throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        for (String fileName : JsonProfileLoader.DATA_FILES) {
+            digest.update(fileName.getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = open(fileName)) {
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    /**
+     * Data files bundled on the classpath.
+     * @param directory Classpath directory, e.g. {@code data/}
+     * @return Data source
+     */
+    static ProfileDataSource classpath(String directory) {
+        return fileName -> new ClassPathResource(directory + fileName).getInputStream();
+    }
+
+    /**
+     * Data files in a filesystem directory.
+     * @param directory The directory
+     * @return Data source
+     */
+    static ProfileDataSource directory(Path directory) {
+        return fileName -> Files.newInputStream(directory.resolve(fileName));
+    }
+}
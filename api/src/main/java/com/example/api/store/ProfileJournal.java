@@ -0,0 +1,461 @@
+package com.example.api.store;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.PersonalInfo;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+import com.example.api.serialization.SerializationRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of profile mutations with periodic compaction.
+ *
+ * <p>Each mutation is one JSON line in a segment file {@code journal-<first version>.log}. The
+ * {@link ProfileRepository} hands over every mutation of a group commit in one {@link #write}, which
+ * issues a single {@code fsync} for all of them, so concurrent writers share the cost of a disk
+ * flush. Once {@code compactEvery} entries have accumulated, or {@code compactInterval} has passed
+ * with entries pending, a background thread starts a new segment, writes the durable snapshot as
+ * profile JSON files into {@code snapshot-<version>/} while writes continue, points {@code CURRENT}
+ * at it and deletes the files the snapshot supersedes. The directory is flushed after every file
+ * it creates or renames, so {@code CURRENT} never points at a snapshot a crash could lose. A failed
+ * compaction leaves the segments in place and is retried later.</p>
+ *
+ * <p>A failed write or {@code fsync} leaves the segment in an unknown state, so the journal stops
+ * appending to it: later writes fail fast until the journal has reopened itself by compacting the
+ * last durable snapshot into fresh files, attempted at most once per {@code REOPEN_BACKOFF}.</p>
+ *
+ * <p>{@link #recover} rebuilds the latest snapshot at startup from the compacted files plus the
+ * remaining segments. A crash during an append leaves at most a partial last line, which recovery
+ * ignores; such a write was never acknowledged.</p>
+ */
+public class ProfileJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String CURRENT = "CURRENT";
+    private static final int REPLAY_CHUNK = 4096;
+    private static final long REOPEN_BACKOFF = TimeUnit.SECONDS.toNanos(1);
+
+    private final Path directory;
+    private final SerializationRegistry serializationRegistry;
+    private final int compactEvery;
+    private final long compactIntervalNanos;
+    private final ScheduledExecutorService compactor;
+    private final Object publishLock = new Object();
+
+    // Guarded by publishLock, which is never held while waiting for this
+    private long publishedVersion = -1;
+
+    // Guarded by this
+    private FileChannel segment;
+    private ProfileSnapshot durable;
+    private int sinceCompaction;
+    private long lastCompaction = System.nanoTime();
+    private long nextCompaction = lastCompaction;
+    private boolean compactionQueued;
+    private IOException failure;
+    private long nextReopen;
+    private boolean closed;
+
+    /**
+     * Open a new segment after the given snapshot and schedule interval compaction.
+     * @param directory Journal directory
+     * @param serializationRegistry Registry used to encode entities and compacted snapshots
+     * @param recovered Snapshot returned by {@link #recover}
+     * @param compactEvery Entries after which the journal is compacted
+     * @param compactIntervalMillis Maximum age of uncompacted entries
+     * @throws IOException if the segment cannot be created
+     */
+    public ProfileJournal(Path directory, SerializationRegistry serializationRegistry, ProfileSnapshot recovered,
+                          int compactEvery, long compactIntervalMillis) throws IOException {
+        this.directory = directory;
+        this.serializationRegistry = serializationRegistry;
+        this.compactEvery = compactEvery;
+        this.compactIntervalNanos = TimeUnit.MILLISECONDS.toNanos(compactIntervalMillis);
+        this.durable = recovered;
+        Files.createDirectories(directory);
+        this.segment = openSegment(recovered.getVersion() + 1);
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "profile-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(this::compactIfDue, compactIntervalMillis, compactIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Append the mutations of one group commit and wait until they are on disk.
+     * @param mutations The mutations, in order
+     * @param result Snapshot with all of them applied; the last mutation's sequence number is its
+     *               version, the earlier ones count down from it
+     * @throws IOException if the entries cannot be made durable; none of them is then acknowledged
+     */
+    public synchronized void write(List<ProfileMutation> mutations, ProfileSnapshot result) throws IOException {
+        if (closed) {
+            throw new IOException("Journal is closed");
+        }
+        if (failure != null) {
+            reopen();
+        }
+        long version = result.getVersion() - mutations.size();
+        List<byte[]> lines = new ArrayList<>(mutations.size());
+        int size = 0;
+        for (ProfileMutation mutation : mutations) {
+            byte[] line = encode(mutation, ++version);
+            lines.add(line);
+            size += line.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (byte[] line : lines) {
+            buffer.put(line);
+        }
+        buffer.flip();
+        try {
+            append(buffer);
+            segment.force(false);
+        } catch (IOException e) {
+            failure = e;
+            nextReopen = System.nanoTime();
+            throw e;
+        }
+
+        durable = result;
+        sinceCompaction += mutations.size();
+        if (!compactionQueued && countDue()) {
+            try {
+                compactor.execute(this::compactIfDue);
+                compactionQueued = true;
+            } catch (RejectedExecutionException e) {
+                // Closing; the entries stay in the current segment
+            }
+        }
+    }
+
+    /**
+     * Finish a compaction already queued, then close the segment; later writes fail.
+     */
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            closed = true;
+            segment.close();
+        }
+    }
+
+    /**
+     * Write a batch to the end of the current segment.
+     * @param buffer Encoded entries
+     * @throws IOException if the write fails
+     */
+    void append(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            segment.write(buffer);
+        }
+    }
+
+    /**
+     * Replace the failed segment with a compacted snapshot of the durable data and a new segment.
+     */
+    private void reopen() throws IOException {
+        if (System.nanoTime() - nextReopen < 0) {
+            throw new IOException("Journal failed", failure);
+        }
+        try {
+            ProfileSnapshot snapshot = durable;
+            roll();
+            publish(snapshot);
+        } catch (IOException e) {
+            e.addSuppressed(failure);
+            failure = e;
+            nextReopen = System.nanoTime() + REOPEN_BACKOFF;
+            throw new IOException("Journal failed", e);
+        }
+        failure = null;
+    }
+
+    /**
+     * Compact on the compactor thread. Only starting the new segment holds the monitor; the
+     * snapshot is serialized while writes go on.
+     */
+    private void compactIfDue() {
+        ProfileSnapshot snapshot;
+        int entries;
+        synchronized (this) {
+            compactionQueued = false;
+            if (closed || failure != null || sinceCompaction == 0
+                    || !(countDue() || System.nanoTime() - lastCompaction >= compactIntervalNanos)) {
+                return;
+            }
+            snapshot = durable;
+            entries = sinceCompaction;
+            try {
+                roll();
+            } catch (IOException e) {
+                // The entries stay in the current segment; retried with the next interval
+                nextCompaction = System.nanoTime() + compactIntervalNanos;
+                return;
+            }
+        }
+        try {
+            publish(snapshot);
+        } catch (IOException e) {
+            // The entries stay in the rolled segments; retried with the next interval
+            synchronized (this) {
+                sinceCompaction += entries;
+                nextCompaction = System.nanoTime() + compactIntervalNanos;
+            }
+        }
+    }
+
+    private boolean countDue() {
+        return sinceCompaction >= compactEvery && System.nanoTime() - nextCompaction >= 0;
+    }
+
+    /**
+     * Continue in a new segment after the durable snapshot, so that publishing the snapshot can
+     * delete every earlier segment.
+     */
+    private void roll() throws IOException {
+        FileChannel next = openSegment(durable.getVersion() + 1);
+        try {
+            segment.close();
+        } catch (IOException e) {
+            // Nothing more is written to it
+        }
+        segment = next;
+        sinceCompaction = 0;
+        lastCompaction = System.nanoTime();
+        nextCompaction = lastCompaction;
+    }
+
+    /**
+     * Write a snapshot, point {@code CURRENT} at it and delete the files it supersedes. A snapshot
+     * older than the published one is dropped.
+     */
+    private void publish(ProfileSnapshot snapshot) throws IOException {
+        synchronized (publishLock) {
+            long version = snapshot.getVersion();
+            if (version < publishedVersion) {
+                return;
+            }
+            String name = SNAPSHOT_PREFIX + version;
+            if (version > publishedVersion) {
+                writeSnapshot(snapshot, directory.resolve(name));
+                Path pointer = directory.resolve(CURRENT + ".tmp");
+                Files.deleteIfExists(pointer);
+                write(pointer, name.getBytes(StandardCharsets.UTF_8));
+                Files.move(pointer, directory.resolve(CURRENT),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                force(directory);
+                publishedVersion = version;
+            }
+            // Until deleted, older segments also hold entries past the snapshot that were never
+            // acknowledged after a failure, so a reopen only succeeds once they are gone
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    String fileName = file.getFileName().toString();
+                    if (fileName.startsWith(SEGMENT_PREFIX) && firstVersionOf(fileName) <= version) {
+                        Files.delete(file);
+                    } else if (fileName.startsWith(SNAPSHOT_PREFIX) && !fileName.equals(name)) {
+                        deleteTree(file);
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeSnapshot(ProfileSnapshot snapshot, Path target) throws IOException {
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        deleteTree(temp);
+        Files.createDirectories(temp);
+        write(temp.resolve("experiences.json"), serializationRegistry.listWriterFor(Experience.class)
+                .writeValueAsBytes(snapshot.getExperiences()));
+        write(temp.resolve("education.json"), serializationRegistry.listWriterFor(Education.class)
+                .writeValueAsBytes(snapshot.getEducation()));
+        write(temp.resolve("projects.json"), serializationRegistry.listWriterFor(Project.class)
+                .writeValueAsBytes(snapshot.getProjects()));
+        write(temp.resolve("personal-info.json"), serializationRegistry.writerFor(PersonalInfo.class)
+                .writeValueAsBytes(snapshot.getPersonalInfo()));
+        write(temp.resolve("skills.json"), serializationRegistry.writerFor(Skills.class)
+                .writeValueAsBytes(snapshot.getSkills()));
+        force(temp);
+        deleteTree(target);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        force(directory);
+    }
+
+    private static void write(Path file, byte[] contents) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(contents);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Flush a directory's entries, so that files created, renamed or deleted in it survive a crash.
+     */
+    private static void force(Path dir) throws IOException {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Create an empty segment. A file of the same name can only hold a torn, unacknowledged write,
+     * since recovery would otherwise have advanced past its first version.
+     */
+    private FileChannel openSegment(long firstVersion) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(firstVersion),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            force(directory);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    private Path segmentPath(long firstVersion) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstVersion, SEGMENT_SUFFIX));
+    }
+
+    private static long firstVersionOf(String segmentName) {
+        return Long.parseLong(segmentName.substring(SEGMENT_PREFIX.length(),
+                segmentName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private byte[] encode(ProfileMutation mutation, long version) throws IOException {
+        ObjectMapper mapper = serializationRegistry.getObjectMapper();
+        ObjectNode node = mapper.createObjectNode();
+        node.put("version", version);
+        node.put("type", mutation.getType().name());
+        node.put("resource", mutation.getResource().getPath());
+        node.put("id", mutation.getId());
+        if (mutation.getEntity() != null) {
+            node.set("entity", mapper.valueToTree(mutation.getEntity()));
+        }
+        byte[] json = mapper.writeValueAsBytes(node);
+        byte[] line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = '\n';
+        return line;
+    }
+
+    /**
+     * Rebuild the latest snapshot from a journal directory.
+     * @param directory Journal directory; may not exist yet
+     * @param serializationRegistry Registry used to decode files and entries
+     * @param initialData Data to start from when nothing has been compacted yet
+     * @return Snapshot with every durable entry applied
+     * @throws IOException if the files cannot be read or an entry before the last one is corrupt
+     */
+    public static ProfileSnapshot recover(Path directory, SerializationRegistry serializationRegistry,
+                                          ProfileDataSource initialData) throws IOException {
+        ProfileSnapshot snapshot;
+        Path pointer = directory.resolve(CURRENT);
+        if (Files.exists(pointer)) {
+            String name = new String(Files.readAllBytes(pointer), StandardCharsets.UTF_8).trim();
+            long version = Long.parseLong(name.substring(SNAPSHOT_PREFIX.length()));
+            ProfileDataSource files = ProfileDataSource.directory(directory.resolve(name));
+            snapshot = new JsonProfileLoader(serializationRegistry, files).load(version);
+        } else {
+            snapshot = new JsonProfileLoader(serializationRegistry, initialData).load();
+        }
+        if (!Files.isDirectory(directory)) {
+            return snapshot;
+        }
+
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                    .toList();
+        }
+        ObjectMapper mapper = serializationRegistry.getObjectMapper();
+        List<ProfileMutation> chunk = new ArrayList<>(REPLAY_CHUNK);
+        long version = snapshot.getVersion();
+        for (Path file : segments) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    JsonNode node;
+                    try {
+                        node = mapper.readTree(line);
+                    } catch (IOException e) {
+                        if (reader.readLine() == null) {
+                            break;  // torn final write, never acknowledged
+                        }
+                        throw new IOException("Corrupt journal entry at " + file + ":" + lineNumber, e);
+                    }
+                    long entryVersion = node.get("version").asLong();
+                    if (entryVersion <= version) {
+                        continue;
+                    }
+                    chunk.add(decode(node, mapper));
+                    version = entryVersion;
+                    if (chunk.size() == REPLAY_CHUNK) {
+                        snapshot = snapshot.apply(chunk, version);
+                        chunk.clear();
+                    }
+                }
+            }
+        }
+        return chunk.isEmpty() ? snapshot : snapshot.apply(chunk, version);
+    }
+
+    private static ProfileMutation decode(JsonNode node, ObjectMapper mapper) throws IOException {
+        ProfileResource resource = ProfileResource.fromPath(node.get("resource").asText());
+        if (ProfileMutation.Type.valueOf(node.get("type").asText()) == ProfileMutation.Type.DELETE) {
+            return ProfileMutation.delete(resource, node.get("id").asInt());
+        }
+        return ProfileMutation.upsert(resource, mapper.treeToValue(node.get("entity"), resource.getType()));
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.api.store;
+
+/**
+ * A single change to an id-addressed profile collection.
+ */
+public final class ProfileMutation {
+
+    /**
+     * Kind of change.
+     */
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+
+    private final Type type;
+    private final ProfileResource resource;
+    private final int id;
+    private final Object entity;
+
+    private ProfileMutation(Type type, ProfileResource resource, int id, Object entity) {
+        this.type = type;
+        this.resource = resource;
+        this.id = id;
+        this.entity = entity;
+    }
+
+    /**
+     * Insert or replace an entity.
+     * @param resource Target collection
+     * @param entity The entity, whose id addresses the change
+     * @return Mutation
+     */
+    public static ProfileMutation upsert(ProfileResource resource, Object entity) {
+        if (!resource.getType().isInstance(entity)) {
+            throw new IllegalArgumentException("Expected " + resource.getType().getSimpleName() + " for " + resource);
+        }
+        return new ProfileMutation(Type.UPSERT, resource, resource.idOf(entity), entity);
+    }
+
+    /**
+     * Remove an entity.
+     * @param resource Target collection
+     * @param id ID of the entity to remove
+     * @return Mutation
+     */
+    public static ProfileMutation delete(ProfileResource resource, int id) {
+        return new ProfileMutation(Type.DELETE, resource, id, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public ProfileResource getResource() {
+        return resource;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Get the new entity state.
+     * @return Entity for upserts, null for deletes
+     */
+    public Object getEntity() {
+        return entity;
+    }
+}
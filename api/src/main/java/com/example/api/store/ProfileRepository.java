@@ -0,0 +1,313 @@
+package com.example.api.store;
+
+import com.example.api.serialization.SerializationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Holds the current profile data and applies writes to it copy-on-write.
+ *
+ * <p>Readers get an immutable {@link ProfileStore} and never wait for writers. Writers queue their
+ * change and one of them commits everything queued so far as a group: the changes are applied to
+ * the current {@link ProfileSnapshot} in one pass, recorded in the {@link ProfileJournal} with one
+ * {@code fsync} if there is one, and only then published, so readers never see a write that could
+ * still be lost. Stores that are not snapshots, such as {@link MappedProfileStore}, are
+ * read-only.</p>
+ */
+public class ProfileRepository implements Closeable {
+
+    private static final int MAX_BATCH = 1024;
+
+    /**
+     * Callback for newly published data.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called once per publication, in version order, on the thread that published it. Several
+         * writes committed together are published as one step.
+         * @param previous Data that was current before
+         * @param current Data that is current now
+         */
+        void published(ProfileStore previous, ProfileStore current);
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProfileRepository.class);
+
+    private final ProfileJournal journal;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Queue<Write> pending = new ConcurrentLinkedQueue<>();
+    private volatile ProfileStore published;
+
+    /**
+     * Repository over a store without durability; writes to a snapshot only live in memory.
+     * @param store Initial data
+     */
+    public ProfileRepository(ProfileStore store) {
+        this.journal = null;
+        this.published = store;
+    }
+
+    /**
+     * Repository whose writes are recorded in a journal before they are acknowledged.
+     * @param recovered Snapshot returned by {@link ProfileJournal#recover}
+     * @param journalDirectory Journal directory
+     * @param serializationRegistry Registry used to encode journal entries
+     * @param compactEvery Journal entries after which the data is compacted
+     * @param compactIntervalMillis Maximum age of uncompacted journal entries
+     * @throws IOException if the journal cannot be opened
+     */
+    public ProfileRepository(ProfileSnapshot recovered, Path journalDirectory,
+                             SerializationRegistry serializationRegistry, int compactEvery,
+                             long compactIntervalMillis) throws IOException {
+        this(recovered, new ProfileJournal(journalDirectory, serializationRegistry, recovered, compactEvery,
+                compactIntervalMillis));
+    }
+
+    /**
+     * Repository over an open journal.
+     * @param recovered Snapshot the journal was opened after
+     * @param journal The journal
+     */
+    ProfileRepository(ProfileSnapshot recovered, ProfileJournal journal) {
+        this.journal = journal;
+        this.published = recovered;
+    }
+
+    /**
+     * Get the latest published data.
+     * @return Current profile store
+     */
+    public ProfileStore current() {
+        return published;
+    }
+
+    /**
+     * Register a callback for data published from now on. Listeners should return quickly and
+     * hand heavy work to another thread.
+     * @param listener The callback
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Check whether the underlying store accepts writes.
+     * @return true for heap snapshots
+     */
+    public boolean isWritable() {
+        return published instanceof ProfileSnapshot;
+    }
+
+    /**
+     * Add a new entity. An id of 0 or less is replaced with the next free id.
+     * @param resource Target collection
+     * @param entity The entity
+     * @param <T> Entity type
+     * @return The stored entity, or null if its id is already taken
+     * @throws IOException if the change cannot be made durable
+     */
+    public <T> T create(ProfileResource resource, T entity) throws IOException {
+        Write write = submit(new Write(Write.Kind.CREATE, resource, resource.idOf(entity), entity));
+        return write.applied ? write.result.get(resource, write.id) : null;
+    }
+
+    /**
+     * Insert or replace the entity with the given id.
+     * @param resource Target collection
+     * @param id Entity ID, greater than 0; overrides any id in the entity
+     * @param entity The entity
+     * @param <T> Entity type
+     * @return The stored entity
+     * @throws IOException if the change cannot be made durable
+     * @throws IllegalArgumentException if the id is 0 or less, which the data files cannot hold
+     */
+    public <T> T put(ProfileResource resource, int id, T entity) throws IOException {
+        if (id <= 0) {
+            // Would be journaled, then fail to load from the next compacted snapshot
+            throw new IllegalArgumentException("Invalid id " + id);
+        }
+        T stored = resource.idOf(entity) == id ? entity : resource.withId(entity, id);
+        Write write = submit(new Write(Write.Kind.PUT, resource, id, stored));
+        return write.result.get(resource, id);
+    }
+
+    /**
+     * Remove an entity.
+     * @param resource Target collection
+     * @param id Entity ID
+     * @return true if the entity existed
+     * @throws IOException if the change cannot be made durable
+     */
+    public boolean delete(ProfileResource resource, int id) throws IOException {
+        return submit(new Write(Write.Kind.DELETE, resource, id, null)).applied;
+    }
+
+    /**
+     * Stop the journal; later writes fail.
+     */
+    @Override
+    public void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Queue a write and wait until it has been committed, committing the queue itself unless
+     * another writer already took it along.
+     */
+    private Write submit(Write write) throws IOException {
+        pending.add(write);
+        synchronized (this) {
+            while (!write.done) {
+                commitPending();
+            }
+        }
+        if (write.failure instanceof IOException) {
+            throw (IOException) write.failure;
+        }
+        if (write.failure != null) {
+            throw (RuntimeException) write.failure;
+        }
+        return write;
+    }
+
+    // Called with the monitor held
+    private void commitPending() {
+        List<Write> batch = new ArrayList<>();
+        Write next;
+        while (batch.size() < MAX_BATCH && (next = pending.poll()) != null) {
+            batch.add(next);
+        }
+        if (!(published instanceof ProfileSnapshot)) {
+            fail(batch, new UnsupportedOperationException("Profile store is read-only"));
+            return;
+        }
+        ProfileSnapshot base = (ProfileSnapshot) published;
+        List<ProfileMutation> mutations = resolve(base, batch);
+        if (mutations.isEmpty()) {
+            complete(batch, base);
+            return;
+        }
+        ProfileSnapshot result = base.apply(mutations, base.getVersion() + mutations.size());
+        if (journal != null) {
+            try {
+                journal.write(mutations, result);
+            } catch (IOException e) {
+                fail(batch, e);
+                return;
+            }
+        }
+        publish(result);
+        complete(batch, result);
+    }
+
+    /**
+     * Turn the writes into mutations in queue order, checking each against the base data and the
+     * writes before it in the batch.
+     */
+    private static List<ProfileMutation> resolve(ProfileSnapshot base, List<Write> batch) {
+        List<ProfileMutation> mutations = new ArrayList<>(batch.size());
+        // Ids written (true) or deleted (false) earlier in the batch, and the highest ids per collection
+        Map<ProfileResource, Map<Integer, Boolean>> touched = new EnumMap<>(ProfileResource.class);
+        Map<ProfileResource, Integer> baseMaxIds = new EnumMap<>(ProfileResource.class);
+        Map<ProfileResource, Integer> batchMaxIds = new EnumMap<>(ProfileResource.class);
+        for (Write write : batch) {
+            Map<Integer, Boolean> ids = touched.computeIfAbsent(write.resource, resource -> new HashMap<>());
+            Boolean known = ids.get(write.id);
+            boolean exists = known != null ? known : write.id > 0 && base.contains(write.resource, write.id);
+            switch (write.kind) {
+                case CREATE:
+                    if (write.id <= 0) {
+                        write.id = Math.max(baseMaxIds.computeIfAbsent(write.resource, base::maxId),
+                                batchMaxIds.getOrDefault(write.resource, 0)) + 1;
+                    } else if (exists) {
+                        continue;
+                    }
+                    mutations.add(ProfileMutation.upsert(write.resource,
+                            write.resource.withId(write.entity, write.id)));
+                    break;
+                case PUT:
+                    mutations.add(ProfileMutation.upsert(write.resource, write.entity));
+                    break;
+                default:
+                    if (!exists) {
+                        continue;
+                    }
+                    mutations.add(ProfileMutation.delete(write.resource, write.id));
+                    break;
+            }
+            write.applied = true;
+            ids.put(write.id, write.kind != Write.Kind.DELETE);
+            if (write.kind != Write.Kind.DELETE) {
+                batchMaxIds.merge(write.resource, write.id, Math::max);
+            }
+        }
+        return mutations;
+    }
+
+    private static void complete(List<Write> batch, ProfileSnapshot result) {
+        for (Write write : batch) {
+            write.result = result;
+            write.done = true;
+        }
+    }
+
+    private static void fail(List<Write> batch, Exception failure) {
+        for (Write write : batch) {
+            write.failure = failure;
+            write.done = true;
+        }
+    }
+
+    private void publish(ProfileStore next) {
+        ProfileStore previous = published;
+        published = next;
+        for (Listener listener : listeners) {
+            try {
+                listener.published(previous, next);
+            } catch (RuntimeException e) {
+                // A failing listener must not fail an applied write
+                LOG.warn("Profile listener {} failed for version {}", listener, next.getVersion(), e);
+            }
+        }
+    }
+
+    /**
+     * One queued write and its outcome, which the committing writer fills in before setting done.
+     */
+    private static final class Write {
+
+        enum Kind { CREATE, PUT, DELETE }
+
+        private final Kind kind;
+        private final ProfileResource resource;
+        private final Object entity;
+        private int id;
+        private boolean applied;
+        private ProfileSnapshot result;
+        private Exception failure;
+        private boolean done;
+
+        private Write(Kind kind, ProfileResource resource, int id, Object entity) {
+            this.kind = kind;
+            this.resource = resource;
+            this.id = id;
+            this.entity = entity;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.api.store;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.Project;
+
+import java.util.List;
+
+/**
+ * Collections of id-addressed profile entities that can be changed through the write API.
+ */
+public enum ProfileResource {
+    EXPERIENCES("experiences", Experience.class),
+    EDUCATION("education", Education.class),
+    PROJECTS("projects", Project.class);
+
+    private final String path;
+    private final Class<?> type;
+
+    ProfileResource(String path, Class<?> type) {
+        this.path = path;
+        this.type = type;
+    }
+
+    /**
+     * Path segment and journal name of the collection.
+     * @return Name such as {@code projects}
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Model class of the collection's entities.
+     * @return Entity class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Look up a resource by its path segment.
+     * @param path Name such as {@code projects}
+     * @return Matching resource
+     */
+    public static ProfileResource fromPath(String path) {
+        for (ProfileResource resource : values()) {
+            if (resource.path.equals(path)) {
+                return resource;
+            }
+        }
+        throw new IllegalArgumentException("Unknown profile resource: " + path);
+    }
+
+    /**
+     * Get this collection from a store.
+     * @param store The profile data
+     * @return Entities of the collection
+     */
+    public List<?> entitiesOf(ProfileStore store) {
+        switch (this) {
+            case EXPERIENCES:
+                return store.getExperiences();
+            case EDUCATION:
+                return store.getEducation();
+            default:
+                return store.getProjects();
+        }
+    }
+
+    /**
+     * Get the id of an entity of this collection.
+     * @param entity The entity
+     * @return Entity ID
+     */
+    public int idOf(Object entity) {
+        switch (this) {
+            case EXPERIENCES:
+                return ((Experience) entity).getId();
+            case EDUCATION:
+                return ((Education) entity).getId();
+            default:
+                return ((Project) entity).getId();
+        }
+    }
+
+    /**
+     * Copy an entity of this collection with a different id.
+     * @param entity The entity
+     * @param id New ID
+     * @param <T> Entity type
+     * @return Copy carrying the new id
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T withId(T entity, int id) {
+        switch (this) {
+            case EXPERIENCES:
+                return (T) ((Experience) entity).withId(id);
+            case EDUCATION:
+                return (T) ((Education) entity).withId(id);
+            default:
+                return (T) ((Project) entity).withId(id);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.api.store;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.PersonalInfo;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Heap-resident profile data loaded once, with id indexes built at construction.
+ *
+ * <p>Categorical strings in the snapshot share canonical instances from a {@link StringPool} to
+ * save heap; snapshots derived from it canonicalize new entities through the same pool.</p>
+ *
+ * <p>Snapshots never change; {@link #apply(List, long)} derives a new version that shares every
+ * collection the mutations do not touch.</p>
+ */
+public class ProfileSnapshot implements ProfileStore {
+
+    private final long version;
+    private final long[] resourceVersions;
+    private final List<Experience> experiences;
+    private final List<Education> education;
+    private final List<Project> projects;
+    private final PersonalInfo personalInfo;
+    private final Skills skills;
+    private final StringPool stringPool;
+
+    private final Map<Integer, Experience> experiencesById;
+    private final Map<Integer, Education> educationById;
+    private final Map<Integer, Project> projectsById;
+    private final DateRangeIndex experienceDates;
+    private final DateRangeIndex educationDates;
+
+    public ProfileSnapshot(List<Experience> experiences, List<Education> education, List<Project> projects,
+                           PersonalInfo personalInfo, Skills skills, StringPool stringPool) {
+        this(0, experiences, education, projects, personalInfo, skills, stringPool);
+    }
+
+    public ProfileSnapshot(long version, List<Experience> experiences, List<Education> education,
+                           List<Project> projects, PersonalInfo personalInfo, Skills skills, StringPool stringPool) {
+        this.version = version;
+        this.resourceVersions = new long[ProfileResource.values().length];
+        Arrays.fill(resourceVersions, version);
+        this.experiences = List.copyOf(experiences);
+        this.education = List.copyOf(education);
+        this.projects = List.copyOf(projects);
+        this.personalInfo = personalInfo;
+        this.skills = skills;
+        this.stringPool = stringPool;
+        this.experiencesById = indexById(this.experiences, Experience::getId);
+        this.educationById = indexById(this.education, Education::getId);
+        this.projectsById = indexById(this.projects, Project::getId);
+        this.experienceDates = DateRangeIndex.ofExperiences(this.experiences);
+        this.educationDates = DateRangeIndex.ofEducation(this.education);
+    }
+
+    private ProfileSnapshot(long version, ProfileSnapshot base, List<Experience> experiences,
+                            List<Education> education, List<Project> projects) {
+        this.version = version;
+        this.resourceVersions = base.resourceVersions.clone();
+        if (experiences != null) {
+            resourceVersions[ProfileResource.EXPERIENCES.ordinal()] = version;
+        }
+        if (education != null) {
+            resourceVersions[ProfileResource.EDUCATION.ordinal()] = version;
+        }
+        if (projects != null) {
+            resourceVersions[ProfileResource.PROJECTS.ordinal()] = version;
+        }
+        this.experiences = experiences == null ? base.experiences : List.copyOf(experiences);
+        this.education = education == null ? base.education : List.copyOf(education);
+        this.projects = projects == null ? base.projects : List.copyOf(projects);
+        this.personalInfo = base.personalInfo;
+        this.skills = base.skills;
+        this.stringPool = base.stringPool;
+        this.experiencesById = experiences == null
+                ? base.experiencesById : indexById(this.experiences, Experience::getId);
+        this.educationById = education == null ? base.educationById : indexById(this.education, Education::getId);
+        this.projectsById = projects == null ? base.projectsById : indexById(this.projects, Project::getId);
+        this.experienceDates = experiences == null
+                ? base.experienceDates : DateRangeIndex.ofExperiences(this.experiences);
+        this.educationDates = education == null ? base.educationDates : DateRangeIndex.ofEducation(this.education);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getVersion(ProfileResource resource) {
+        return resourceVersions[resource.ordinal()];
+    }
+
+    @Override
+    public List<Experience> getExperiences() {
+        return experiences;
+    }
+
+    @Override
+    public Experience getExperience(int id) {
+        return experiencesById.get(id);
+    }
+
+    @Override
+    public List<Experience> findExperiences(int fromMonth, int toMonth, String type) {
+        return select(experiences, experienceDates.find(fromMonth, toMonth, type));
+    }
+
+    @Override
+    public List<Education> getEducation() {
+        return education;
+    }
+
+    @Override
+    public Education getEducation(int id) {
+        return educationById.get(id);
+    }
+
+    @Override
+    public List<Education> findEducation(int fromMonth, int toMonth) {
+        return select(education, educationDates.find(fromMonth, toMonth, null));
+    }
+
+    @Override
+    public List<Project> getProjects() {
+        return projects;
+    }
+
+    @Override
+    public Project getProject(int id) {
+        return projectsById.get(id);
+    }
+
+    @Override
+    public PersonalInfo getPersonalInfo() {
+        return personalInfo;
+    }
+
+    @Override
+    public Skills getSkills() {
+        return skills;
+    }
+
+    /**
+     * Get the pool holding the canonical instances of this snapshot's categorical strings.
+     * @return String pool
+     */
+    StringPool getStringPool() {
+        return stringPool;
+    }
+
+    /**
+     * Check whether a collection holds an entity with the given id.
+     * @param resource Collection to check
+     * @param id Entity ID
+     * @return true if present
+     */
+    public boolean contains(ProfileResource resource, int id) {
+        return byId(resource).containsKey(id);
+    }
+
+    /**
+     * Get an entity of any id-addressed collection.
+     * @param resource Collection to read
+     * @param id Entity ID
+     * @param <T> Entity type of the collection
+     * @return Entity or null if not found
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ProfileResource resource, int id) {
+        return (T) byId(resource).get(id);
+    }
+
+    /**
+     * Get the highest id in a collection.
+     * @param resource Collection to check
+     * @return Highest id, or 0 when the collection is empty
+     */
+    public int maxId(ProfileResource resource) {
+        int max = 0;
+        for (int id : byId(resource).keySet()) {
+            max = Math.max(max, id);
+        }
+        return max;
+    }
+
+    /**
+     * Derive a new snapshot with a batch of mutations applied in order.
+     *
+     * <p>Upserts replace an entity in place or append it; deletes remove it. Inserted entities are
+     * canonicalized through this snapshot's string pool.</p>
+     * @param mutations Mutations to apply
+     * @param newVersion Version of the resulting snapshot
+     * @return New snapshot; this one is left unchanged
+     */
+    public ProfileSnapshot apply(List<ProfileMutation> mutations, long newVersion) {
+        ProfileCanonicalizer canonicalizer = new ProfileCanonicalizer(stringPool);
+        return new ProfileSnapshot(newVersion, this,
+                applyTo(experiences, ProfileResource.EXPERIENCES, mutations, Experience::getId,
+                        canonicalizer::canonicalize),
+                applyTo(education, ProfileResource.EDUCATION, mutations, Education::getId,
+                        canonicalizer::canonicalize),
+                applyTo(projects, ProfileResource.PROJECTS, mutations, Project::getId,
+                        canonicalizer::canonicalize));
+    }
+
+    private Map<Integer, ?> byId(ProfileResource resource) {
+        switch (resource) {
+            case EXPERIENCES:
+                return experiencesById;
+            case EDUCATION:
+                return educationById;
+            default:
+                return projectsById;
+        }
+    }
+
+    /**
+     * Apply the mutations addressed to one collection.
+     * @return The changed list, or null when no mutation touches the collection
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> applyTo(List<T> current, ProfileResource resource, List<ProfileMutation> mutations,
+                                       ToIntFunction<T> idOf, UnaryOperator<T> canonicalize) {
+        Map<Integer, T> byId = null;
+        for (ProfileMutation mutation : mutations) {
+            if (mutation.getResource() != resource) {
+                continue;
+            }
+            if (byId == null) {
+                byId = new LinkedHashMap<>(current.size() * 2);
+                for (T entity : current) {
+                    byId.putIfAbsent(idOf.applyAsInt(entity), entity);
+                }
+            }
+            if (mutation.getType() == ProfileMutation.Type.UPSERT) {
+                byId.put(mutation.getId(), canonicalize.apply((T) mutation.getEntity()));
+            } else {
+                byId.remove(mutation.getId());
+            }
+        }
+        return byId == null ? null : new ArrayList<>(byId.values());
+    }
+
+    private static <T> List<T> select(List<T> entities, int[] positions) {
+        List<T> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(entities.get(position));
+        }
+        return result;
+    }
+
+    private static <T> Map<Integer, T> indexById(List<T> entities, ToIntFunction<T> idOf) {
+        Map<Integer, T> index = new HashMap<>(entities.size() * 2);
+        for (T entity : entities) {
+            // First occurrence wins, matching the previous findFirst() lookup semantics
+            index.putIfAbsent(idOf.applyAsInt(entity), entity);
+        }
+        return index;
+    }
+}
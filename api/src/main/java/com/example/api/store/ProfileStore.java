@@ -0,0 +1,98 @@
+package com.example.api.store;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.PersonalInfo;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+
+import java.util.List;
+
+/**
+ * Read-only access to a complete set of profile data.
+ */
+public interface ProfileStore {
+
+    /**
+     * Get the version of this data set; it increases with every applied change.
+     * @return Version, 0 for data as originally loaded
+     */
+    long getVersion();
+
+    /**
+     * Get the version at which a collection last changed.
+     * @param resource The collection
+     * @return Version of the latest change to it, at most {@link #getVersion()}
+     */
+    long getVersion(ProfileResource resource);
+
+    /**
+     * Get all work experiences in their original order.
+     * @return List of experiences
+     */
+    List<Experience> getExperiences();
+
+    /**
+     * Get experience by ID.
+     * @param id Experience ID
+     * @return Experience or null if not found
+     */
+    Experience getExperience(int id);
+
+    /**
+     * Find experiences whose date range overlaps a month range, using the store's interval index.
+     * Ongoing experiences extend to {@link IntervalIndex#OPEN_END}.
+     * @param fromMonth First month, as returned by {@link IntervalIndex#parseMonth}, inclusive
+     * @param toMonth Last month, inclusive
+     * @param type Experience type to restrict to, ignoring case, or null for all types
+     * @return Matching experiences in their original order
+     */
+    List<Experience> findExperiences(int fromMonth, int toMonth, String type);
+
+    /**
+     * Get all education entries in their original order.
+     * @return List of education entries
+     */
+    List<Education> getEducation();
+
+    /**
+     * Get education by ID.
+     * @param id Education ID
+     * @return Education or null if not found
+     */
+    Education getEducation(int id);
+
+    /**
+     * Find education entries whose date range overlaps a month range, using the store's interval
+     * index. Entries without an end date extend to {@link IntervalIndex#OPEN_END}.
+     * @param fromMonth First month, as returned by {@link IntervalIndex#parseMonth}, inclusive
+     * @param toMonth Last month, inclusive
+     * @return Matching education entries in their original order
+     */
+    List<Education> findEducation(int fromMonth, int toMonth);
+
+    /**
+     * Get all projects in their original order.
+     * @return List of projects
+     */
+    List<Project> getProjects();
+
+    /**
+     * Get project by ID.
+     * @param id Project ID
+     * @return Project or null if not found
+     */
+    Project getProject(int id);
+
+    /**
+     * Get personal information and contact details.
+     * @return PersonalInfo object
+     */
+    PersonalInfo getPersonalInfo();
+
+    /**
+     * Get skills and technical competencies.
+     * @return Skills object
+     */
+    Skills getSkills();
+}
@@ -0,0 +1,58 @@
+package com.example.api.store;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonical instance pool for repeated profile strings.
+ *
+ * <p>Unlike {@link String#intern()}, the pool is owned by the data it canonicalizes. It holds its
+ * values weakly: snapshots derived by writes share their base's pool, and a value drops out once no
+ * snapshot still in use refers to it, so replaced and deleted entities do not accumulate. Only
+ * loading and writes intern, so a lock is cheap enough.</p>
+ *
+ * <p>The pool only saves heap. Indexes and filters keep comparing with {@code equals}: query
+ * filters and type indexes match case-insensitively, and the mapped store decodes strings that
+ * never pass through a pool, so an identity comparison would miss matches.</p>
+ */
+public final class StringPool {
+
+    private final Map<String, WeakReference<String>> values = new WeakHashMap<>();
+
+    /**
+     * Get the canonical instance for a value, adding it to the pool if absent.
+     * @param value The value, may be null
+     * @return Canonical instance, or null for null input
+     */
+    public synchronized String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        WeakReference<String> reference = values.get(value);
+        String canonical = reference != null ? reference.get() : null;
+        if (canonical == null) {
+            canonical = value;
+            values.put(canonical, new WeakReference<>(canonical));
+        }
+        return canonical;
+    }
+
+    /**
+     * Get the canonical instance for a value without adding it.
+     * @param value The value, may be null
+     * @return Canonical instance, or null if the pool does not contain the value
+     */
+    synchronized String lookup(String value) {
+        WeakReference<String> reference = value == null ? null : values.get(value);
+        return reference != null ? reference.get() : null;
+    }
+
+    /**
+     * Number of distinct values in the pool that are still referenced.
+     * @return Pool size
+     */
+    public synchronized int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.api.tenant;
+
+import com.example.api.diagnostics.CacheMissEvent;
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.service.ProfileService;
+import com.example.api.store.JsonProfileLoader;
+import com.example.api.store.ProfileDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Lazily loaded, memory-budgeted registry of per-tenant profile data.
+ *
+ * <p>Each tenant's JSON files live in {@code <profile.tenants.root>/<tenant>/}. A tenant is loaded
+ * on first access; concurrent first hits share a single load. A failed load is remembered for
+ * {@code profile.tenants.failure-ttl-ms}, during which requests for the tenant fail without
+ * reading its files again.</p>
+ *
+ * <p>Loaded tenants are weighed by the size of their data files, and once the total exceeds
+ * {@code profile.tenants.max-weight-bytes} the least recently used tenants are evicted. The weight
+ * only approximates memory use: the parsed data typically takes a few times its JSON size on the
+ * heap, depending on how much of it is text and how many values canonicalization shares, so the
+ * budget should leave room for that factor.</p>
+ */
+@Component
+public class TenantStoreRegistry {
+
+    private static final Pattern TENANT_ID = Pattern.compile("[a-z0-9][a-z0-9-]{0,62}");
+
+    private final SerializationRegistry serializationRegistry;
+    private final Path root;
+    private final long maxWeightBytes;
+    private final long failureTtlNanos;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Tenant>> tenants = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Failure> failures = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong totalWeight = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TenantStoreRegistry(SerializationRegistry serializationRegistry,
+                               @Value("${profile.tenants.root:tenants}") String root,
+                               @Value("${profile.tenants.max-weight-bytes:67108864}") long maxWeightBytes,
+                               @Value("${profile.tenants.failure-ttl-ms:5000}") long failureTtlMillis) {
+        this.serializationRegistry = serializationRegistry;
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.maxWeightBytes = maxWeightBytes;
+        this.failureTtlNanos = TimeUnit.MILLISECONDS.toNanos(failureTtlMillis);
+    }
+
+    /**
+     * Get the profile service of a tenant, loading its data on first access.
+     * @param tenantId The tenant identifier
+     * @return ProfileService over the tenant's data, or null if the tenant does not exist
+     * @throws IOException if the tenant's data cannot be loaded, or could not be shortly before
+     */
+    public ProfileService get(String tenantId) throws IOException {
+        if (!TENANT_ID.matcher(tenantId).matches()) {
+            return null;
+        }
+        CompletableFuture<Tenant> future = tenants.get(tenantId);
+        if (future != null) {
+            hits.incrementAndGet();
+        } else {
+            Failure failure = failures.get(tenantId);
+            if (failure != null) {
+                if (System.nanoTime() - failure.expiresAt < 0) {
+                    throw new IOException("Loading tenant " + tenantId + " failed recently", failure.cause);
+                }
+                failures.remove(tenantId, failure);
+            }
+            Path directory = root.resolve(tenantId);
+            if (!Files.isDirectory(directory)) {
+                return null;
+            }
+            CompletableFuture<Tenant> created = new CompletableFuture<>();
+            future = tenants.putIfAbsent(tenantId, created);
+            if (future == null) {
+                future = created;
+                load(tenantId, directory, created);
+            } else {
+                hits.incrementAndGet();
+            }
+        }
+        Tenant tenant = await(future);
+        tenant.lastAccess = clock.incrementAndGet();
+        return tenant.service;
+    }
+
+    /**
+     * Drop a tenant's loaded data so the next access reloads it.
+     * @param tenantId The tenant identifier
+     */
+    public void invalidate(String tenantId) {
+        failures.remove(tenantId);
+        CompletableFuture<Tenant> future = tenants.remove(tenantId);
+        if (future != null) {
+            // Runs now for loaded tenants, or once an in-flight load completes
+            future.thenAccept(tenant -> totalWeight.addAndGet(-tenant.weight));
+        }
+    }
+
+    /**
+     * Registry counters for monitoring.
+     * @return Map of statistic name to value
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("loadedTenants", (long) tenants.size());
+        stats.put("failedTenants", (long) failures.size());
+        stats.put("weightBytes", totalWeight.get());
+        stats.put("maxWeightBytes", maxWeightBytes);
+        stats.put("hits", hits.get());
+        stats.put("loads", loads.get());
+        stats.put("evictions", evictions.get());
+        return stats;
+    }
+
+    private void load(String tenantId, Path directory, CompletableFuture<Tenant> future) throws IOException {
+        loads.incrementAndGet();
+        CacheMissEvent event = new CacheMissEvent();
+        event.begin();
+        try {
+            long weight = 0;
+            for (String file : JsonProfileLoader.DATA_FILES) {
+                weight += Files.size(directory.resolve(file));
+            }
+            JsonProfileLoader loader = new JsonProfileLoader(serializationRegistry,
+                    ProfileDataSource.directory(directory));
+            Tenant tenant = new Tenant(new ProfileService(loader.load()), weight);
+            totalWeight.addAndGet(weight);
+            future.complete(tenant);
+            event.end("tenants", tenantId, true);
+        } catch (IOException | RuntimeException e) {
+            event.end("tenants", tenantId, false);
+            // Requests waiting on this load get the error; later ones see the remembered failure
+            if (failureTtlNanos > 0) {
+                failures.put(tenantId, new Failure(e, System.nanoTime() + failureTtlNanos));
+            }
+            tenants.remove(tenantId, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        evictIfOverBudget(tenantId);
+    }
+
+    private synchronized void evictIfOverBudget(String justLoaded) {
+        while (totalWeight.get() > maxWeightBytes) {
+            String victim = null;
+            long oldest = Long.MAX_VALUE;
+            for (Map.Entry<String, CompletableFuture<Tenant>> entry : tenants.entrySet()) {
+                CompletableFuture<Tenant> future = entry.getValue();
+                if (entry.getKey().equals(justLoaded) || !future.isDone() || future.isCompletedExceptionally()) {
+                    continue;
+                }
+                long lastAccess = future.join().lastAccess;
+                if (lastAccess < oldest) {
+                    oldest = lastAccess;
+                    victim = entry.getKey();
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            invalidate(victim);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static Tenant await(CompletableFuture<Tenant> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading tenant", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw new IOException("Failed to load tenant", cause);
+        }
+    }
+
+    /**
+     * A failed load and when it may be retried.
+     */
+    private static final class Failure {
+        private final Exception cause;
+        private final long expiresAt;
+
+        Failure(Exception cause, long expiresAt) {
+            this.cause = cause;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * A loaded tenant with its estimated weight and last access tick.
+     */
+    private static final class Tenant {
+        private final ProfileService service;
+        private final long weight;
+        private volatile long lastAccess;
+
+        Tenant(ProfileService service, long weight) {
+            this.service = service;
+            this.weight = weight;
+        }
+    }
+}
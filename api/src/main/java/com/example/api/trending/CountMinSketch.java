@@ -0,0 +1,90 @@
+package com.example.api.trending;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size frequency estimator. Estimates never undercount; they overcount by at most
+ * {@code e / width} of the total with probability {@code 1 - exp(-depth)}.
+ *
+ * <p>Row buckets are derived from a 64-bit hash of the key: of its characters for strings and of
+ * its value for integral numbers, so keys whose {@code hashCode} collides, such as {@code "Aa"} and
+ * {@code "BB"}, still land in different buckets. Other keys fall back to {@code hashCode}.</p>
+ *
+ * <p>Counters are updated with atomic adds, so concurrent writers need no lock.</p>
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Sketch width and depth must be positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new AtomicLongArray(width * depth);
+    }
+
+    /**
+     * Count one occurrence of a key.
+     * @param key The key
+     * @return Estimated count of the key including this occurrence
+     */
+    public long add(Object key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long count = counters.incrementAndGet(row * width + bucket(h1, h2, row));
+            estimate = Math.min(estimate, count);
+        }
+        return estimate;
+    }
+
+    /**
+     * Estimate how often a key was added.
+     * @param key The key
+     * @return Estimated count, never lower than the true count
+     */
+    public long estimate(Object key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(row * width + bucket(h1, h2, row)));
+        }
+        return estimate;
+    }
+
+    private int bucket(int h1, int h2, int row) {
+        // Kirsch-Mitzenmacher: row hashes derived from two independent halves
+        return Math.floorMod(h1 + row * h2, width);
+    }
+
+    private static long hash(Object key) {
+        if (key instanceof String) {
+            // FNV-1a over the UTF-16 characters, widened by the mix below
+            String string = (String) key;
+            long h = 0xCBF29CE484222325L;
+            for (int i = 0; i < string.length(); i++) {
+                h = (h ^ string.charAt(i)) * 0x100000001B3L;
+            }
+            return mix(h);
+        }
+        if (key instanceof Integer || key instanceof Long || key instanceof Short || key instanceof Byte) {
+            return mix(((Number) key).longValue());
+        }
+        return mix(key.hashCode());
+    }
+
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
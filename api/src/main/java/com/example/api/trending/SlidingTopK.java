@@ -0,0 +1,158 @@
+package com.example.api.trending;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate most frequent keys over a sliding time window, in fixed memory.
+ *
+ * <p>The window is a ring of time buckets, each holding a {@link CountMinSketch} and a
+ * {@link SpaceSaving} heap of candidates. Recording adds to the current bucket's sketch without
+ * locking and then refreshes its heap if the heap lock is free; a busy heap is skipped, since a
+ * heavy hitter will be offered again on its next occurrence. Expired buckets are replaced
+ * wholesale when time reaches them. Queries merge the candidates of the buckets inside the
+ * requested span and rank them by their summed sketch estimates.</p>
+ *
+ * @param <K> Key type
+ */
+public final class SlidingTopK<K> {
+
+    private final long bucketMillis;
+    private final int sketchWidth;
+    private final int sketchDepth;
+    private final int capacity;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Bucket<K>> buckets;
+
+    /**
+     * @param bucketCount Number of buckets in the window
+     * @param bucketMillis Length of one bucket
+     * @param capacity Candidates kept per bucket; should comfortably exceed the largest top-K queried
+     * @param sketchWidth Counters per sketch row
+     * @param sketchDepth Sketch rows
+     * @param clock Source of the current time in milliseconds
+     */
+    public SlidingTopK(int bucketCount, long bucketMillis, int capacity, int sketchWidth, int sketchDepth,
+                       LongSupplier clock) {
+        if (bucketCount <= 0 || bucketMillis <= 0) {
+            throw new IllegalArgumentException("Bucket count and length must be positive");
+        }
+        this.bucketMillis = bucketMillis;
+        this.sketchWidth = sketchWidth;
+        this.sketchDepth = sketchDepth;
+        this.capacity = capacity;
+        this.clock = clock;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    /**
+     * Count one occurrence of a key at the current time.
+     * @param key The key
+     */
+    public void record(K key) {
+        long epoch = clock.getAsLong() / bucketMillis;
+        Bucket<K> bucket = bucketFor(epoch);
+        long estimate = bucket.sketch.add(key);
+        if (bucket.lock.tryLock()) {
+            try {
+                bucket.heap.offer(key, estimate);
+            } finally {
+                bucket.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Get the most frequent keys of the most recent buckets.
+     * @param limit Maximum number of keys
+     * @param spanBuckets Number of buckets to cover, including the current one
+     * @return Key to estimated count, most frequent first
+     */
+    public Map<K, Long> top(int limit, int spanBuckets) {
+        long current = clock.getAsLong() / bucketMillis;
+        int span = Math.min(Math.max(spanBuckets, 1), buckets.length());
+        List<Bucket<K>> live = new ArrayList<>(span);
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket<K> bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch > current - span && bucket.epoch <= current) {
+                live.add(bucket);
+            }
+        }
+
+        Set<K> candidates = new HashSet<>();
+        for (Bucket<K> bucket : live) {
+            bucket.lock.lock();
+            try {
+                candidates.addAll(bucket.heap.keys());
+            } finally {
+                bucket.lock.unlock();
+            }
+        }
+        List<Map.Entry<K, Long>> ranked = new ArrayList<>(candidates.size());
+        for (K key : candidates) {
+            long total = 0;
+            for (Bucket<K> bucket : live) {
+                total += bucket.sketch.estimate(key);
+            }
+            ranked.add(Map.entry(key, total));
+        }
+        ranked.sort(Map.Entry.<K, Long>comparingByValue().reversed());
+
+        Map<K, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<K, Long> entry : ranked.subList(0, Math.min(Math.max(limit, 0), ranked.size()))) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of buckets in the window.
+     * @return Bucket count
+     */
+    public int bucketCount() {
+        return buckets.length();
+    }
+
+    /**
+     * Get the length of one bucket.
+     * @return Bucket length in milliseconds
+     */
+    public long bucketMillis() {
+        return bucketMillis;
+    }
+
+    private Bucket<K> bucketFor(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) buckets.length());
+        while (true) {
+            Bucket<K> bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            Bucket<K> fresh = new Bucket<>(epoch, new CountMinSketch(sketchWidth, sketchDepth),
+                    new SpaceSaving<>(capacity));
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static final class Bucket<K> {
+        private final long epoch;
+        private final CountMinSketch sketch;
+        private final SpaceSaving<K> heap;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Bucket(long epoch, CountMinSketch sketch, SpaceSaving<K> heap) {
+            this.epoch = epoch;
+            this.sketch = sketch;
+            this.heap = heap;
+        }
+    }
+}
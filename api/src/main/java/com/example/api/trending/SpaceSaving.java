@@ -0,0 +1,124 @@
+package com.example.api.trending;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded set of heavy-hitter candidates kept in an indexed min-heap.
+ *
+ * <p>A key already monitored has its count raised in place; a new key replaces the minimum once
+ * the heap is full and its count exceeds it, as in the Space-Saving algorithm. Counts come from an
+ * external estimator such as a {@link CountMinSketch}. Not thread-safe.</p>
+ *
+ * @param <K> Key type
+ */
+public final class SpaceSaving<K> {
+
+    private final Object[] keys;
+    private final long[] counts;
+    private final Map<K, Integer> positions;
+    private int size;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.keys = new Object[capacity];
+        this.counts = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Offer a key with its current estimated count.
+     * @param key The key
+     * @param count Estimated count of the key
+     */
+    public void offer(K key, long count) {
+        Integer position = positions.get(key);
+        if (position != null) {
+            if (count > counts[position]) {
+                counts[position] = count;
+                siftDown(position);
+            }
+        } else if (size < keys.length) {
+            keys[size] = key;
+            counts[size] = count;
+            positions.put(key, size);
+            siftUp(size++);
+        } else if (count > counts[0]) {
+            positions.remove(key(0));
+            keys[0] = key;
+            counts[0] = count;
+            positions.put(key, 0);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Get the monitored keys in no particular order.
+     * @return Copy of the candidate keys
+     */
+    public List<K> keys() {
+        List<K> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(key(i));
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of monitored keys.
+     * @return Size, at most the capacity
+     */
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int index) {
+        return (K) keys[index];
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (counts[parent] <= counts[index]) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) {
+                smallest = left;
+            }
+            if (right < size && counts[right] < counts[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        Object key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        long count = counts[a];
+        counts[a] = counts[b];
+        counts[b] = count;
+        positions.put(key(a), a);
+        positions.put(key(b), b);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.api.trending;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trending projects and search terms over a sliding window of
+ * {@code profile.trending.buckets} x {@code profile.trending.bucket-seconds}.
+ */
+@Component
+public class TrendingTracker {
+
+    private static final int MAX_TERM_LENGTH = 64;
+
+    private final SlidingTopK<Integer> projects;
+    private final SlidingTopK<String> searchTerms;
+
+    public TrendingTracker(@Value("${profile.trending.buckets:12}") int buckets,
+                           @Value("${profile.trending.bucket-seconds:300}") long bucketSeconds,
+                           @Value("${profile.trending.capacity:64}") int capacity,
+                           @Value("${profile.trending.sketch-width:2048}") int sketchWidth,
+                           @Value("${profile.trending.sketch-depth:4}") int sketchDepth) {
+        long bucketMillis = TimeUnit.SECONDS.toMillis(bucketSeconds);
+        this.projects = new SlidingTopK<>(buckets, bucketMillis, capacity, sketchWidth, sketchDepth,
+                System::currentTimeMillis);
+        this.searchTerms = new SlidingTopK<>(buckets, bucketMillis, capacity, sketchWidth, sketchDepth,
+                System::currentTimeMillis);
+    }
+
+    /**
+     * Count a request for a project.
+     * @param id Project ID
+     */
+    public void recordProject(int id) {
+        projects.record(id);
+    }
+
+    /**
+     * Count the terms of a search query; terms are lower-cased words.
+     * @param query Raw query text
+     */
+    public void recordSearch(String query) {
+        for (String term : query.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!term.isEmpty() && term.length() <= MAX_TERM_LENGTH) {
+                searchTerms.record(term);
+            }
+        }
+    }
+
+    /**
+     * Get the most requested projects.
+     * @param limit Maximum number of projects
+     * @param minutes Window to cover, rounded up to whole buckets
+     * @return Project ID to estimated requests, most requested first
+     */
+    public Map<Integer, Long> topProjects(int limit, long minutes) {
+        return projects.top(limit, spanBuckets(minutes));
+    }
+
+    /**
+     * Get the most searched terms.
+     * @param limit Maximum number of terms
+     * @param minutes Window to cover, rounded up to whole buckets
+     * @return Term to estimated searches, most searched first
+     */
+    public Map<String, Long> topSearchTerms(int limit, long minutes) {
+        return searchTerms.top(limit, spanBuckets(minutes));
+    }
+
+    /**
+     * Get the longest window that can be queried.
+     * @return Window length in minutes
+     */
+    public long windowMinutes() {
+        return TimeUnit.MILLISECONDS.toMinutes(projects.bucketCount() * projects.bucketMillis());
+    }
+
+    private int spanBuckets(long minutes) {
+        long millis = TimeUnit.MINUTES.toMillis(minutes);
+        return (int) Math.min(projects.bucketCount(), (millis + projects.bucketMillis() - 1) / projects.bucketMillis());
+    }
+}
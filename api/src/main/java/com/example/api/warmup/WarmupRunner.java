@@ -0,0 +1,325 @@
+package com.example.api.warmup;
+
+import com.example.api.controller.GreetingController;
+import com.example.api.controller.HealthController;
+import com.example.api.controller.ProfileController;
+import com.example.api.store.ProfileRepository;
+import com.example.api.store.ProfileResource;
+import com.example.api.store.ProfileStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Warms the server up before it reports itself ready.
+ *
+ * <p>Spring Boot only switches readiness to accepting traffic once every {@link ApplicationRunner}
+ * has returned, so this runner holds readiness back while it requests every GET route of
+ * {@link ProfileController}, {@link GreetingController} and {@link HealthController} over loopback.
+ * That goes through the whole stack (filters, bulkheads, handler mapping, Jackson) and leaves
+ * introspection results, caches and compiled code behind. Requests run in rounds on
+ * {@code api.warmup.threads} threads until the JIT spends less than a twentieth of a round
+ * compiling, or until {@code api.warmup.max-duration-ms} has passed.</p>
+ *
+ * <p>Routes that write are never requested, and neither is the readiness probe. Responses other
+ * than 2xx count as failures. Warmup requests carry a per-process token in
+ * {@link #HEADER}, so that controllers can leave them out of view and search statistics.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "api.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    /** Request header marking warmup requests. */
+    public static final String HEADER = "X-Warmup";
+
+    private static final String TOKEN = UUID.randomUUID().toString();
+    private static final Set<Class<?>> WARMED_CONTROLLERS =
+            Set.of(ProfileController.class, GreetingController.class, HealthController.class);
+    /** The readiness probe answers 503 until this runner has returned, so warming it only adds failures. */
+    private static final String READINESS_PATH = "/api/health/ready";
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{([^}/]+)}");
+    private static final Map<String, String> SAMPLE_PARAMETERS = Map.of(
+            "q", "java", "name", "Warmup", "from", "2020-01", "to", "2024-12", "type", "internship");
+    private static final int MIN_ROUNDS = 2;
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final ApplicationContext applicationContext;
+    private final ProfileRepository profileRepository;
+    private final int threads;
+    private final int requestsPerRound;
+    private final long maxDurationMillis;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile int rounds;
+    private volatile long durationMillis;
+
+    public WarmupRunner(ApplicationContext applicationContext, ProfileRepository profileRepository,
+                        @Value("${api.warmup.threads:4}") int threads,
+                        @Value("${api.warmup.requests-per-round:50}") int requestsPerRound,
+                        @Value("${api.warmup.max-duration-ms:30000}") long maxDurationMillis) {
+        this.applicationContext = applicationContext;
+        this.profileRepository = profileRepository;
+        this.threads = threads;
+        this.requestsPerRound = requestsPerRound;
+        this.maxDurationMillis = maxDurationMillis;
+    }
+
+    /**
+     * Check whether the request being handled on this thread is a warmup request.
+     * @return true for requests sent by the warmup
+     */
+    public static boolean isWarmupRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes
+                && TOKEN.equals(((ServletRequestAttributes) attributes).getRequest().getHeader(HEADER));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!(applicationContext instanceof WebServerApplicationContext)) {
+            // No server to send requests to, e.g. in mock web environments
+            return;
+        }
+        int port = ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+        if (port <= 0) {
+            return;
+        }
+        List<URI> routes = routes("http://localhost:" + port);
+        long start = System.nanoTime();
+        long deadline = start + maxDurationMillis * 1_000_000;
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5)).build();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean measurable = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        try {
+            while (System.nanoTime() < deadline) {
+                long roundStart = System.nanoTime();
+                long compiledBefore = measurable ? compiler.getTotalCompilationTime() : 0;
+                runRound(executor, client, routes, deadline);
+                rounds++;
+                if (!measurable) {
+                    break;
+                }
+                long roundMillis = (System.nanoTime() - roundStart) / 1_000_000;
+                long compileMillis = compiler.getTotalCompilationTime() - compiledBefore;
+                if (rounds >= MIN_ROUNDS && compileMillis * 20 < roundMillis) {
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            durationMillis = (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+
+    /**
+     * Warmup counters for monitoring.
+     * @return Map of statistic name to value
+     */
+    public Map<String, Long> stats() {
+        return Map.of("rounds", (long) rounds, "requests", requests.get(), "failures", failures.get(),
+                "durationMs", durationMillis);
+    }
+
+    private void runRound(ExecutorService executor, HttpClient client, List<URI> routes, long deadline)
+            throws InterruptedException {
+        List<Future<?>> tasks = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            tasks.add(executor.submit(() -> {
+                // Threads start at different routes so that each route sees concurrent requests
+                for (int i = 0; i < requestsPerRound * routes.size() / threads; i++) {
+                    if (System.nanoTime() >= deadline) {
+                        return;
+                    }
+                    send(client, routes.get((i + offset) % routes.size()));
+                }
+            }));
+        }
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                failures.incrementAndGet();
+            }
+        }
+    }
+
+    private void send(HttpClient client, URI uri) {
+        try {
+            if (request(client, uri) / 100 == 2) {
+                requests.incrementAndGet();
+            } else {
+                failures.incrementAndGet();
+            }
+        } catch (IOException e) {
+            failures.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Send one warmup request.
+     * @return the response status
+     */
+    int request(HttpClient client, URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).header(HEADER, TOKEN).timeout(Duration.ofSeconds(10))
+                .GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Build one request per GET route of the warmed controllers, filling path variables and
+     * required parameters with values that exist in the current data.
+     */
+    List<URI> routes(String baseUrl) {
+        RequestMappingHandlerMapping mapping =
+                applicationContext.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        ProfileStore store = profileRepository.current();
+        List<URI> routes = new ArrayList<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = entry.getKey();
+            HandlerMethod handler = entry.getValue();
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            if (!WARMED_CONTROLLERS.contains(handler.getBeanType())
+                    || !(methods.isEmpty() || methods.contains(RequestMethod.GET))) {
+                continue;
+            }
+            for (String pattern : info.getPatternValues()) {
+                if (pattern.equals(READINESS_PATH)) {
+                    continue;
+                }
+                ProfileResource resource = resourceOf(pattern);
+                String path = fillPathVariables(pattern, resource, store);
+                if (path == null) {
+                    continue;
+                }
+                String query = query(handler, info, resource, store);
+                if (query != null) {
+                    routes.add(URI.create(baseUrl + path + query));
+                }
+            }
+        }
+        return routes;
+    }
+
+    private static String fillPathVariables(String pattern, ProfileResource resource, ProfileStore store) {
+        Matcher matcher = PATH_VARIABLE.matcher(pattern);
+        StringBuilder path = new StringBuilder();
+        while (matcher.find()) {
+            String value = sample(matcher.group(1), resource, store);
+            if (value == null) {
+                return null;
+            }
+            matcher.appendReplacement(path, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(path);
+        return path.toString();
+    }
+
+    private static String query(HandlerMethod handler, RequestMappingInfo info, ProfileResource resource,
+                                ProfileStore store) {
+        List<String> names = new ArrayList<>();
+        info.getParamsCondition().getExpressions().forEach(expression -> {
+            if (!expression.isNegated()) {
+                names.add(expression.getName());
+            }
+        });
+        for (MethodParameter handlerParameter : handler.getMethodParameters()) {
+            // Handler parameters are shared with request handling, so discover names on a copy
+            MethodParameter parameter = handlerParameter.clone();
+            parameter.initParameterNameDiscovery(PARAMETER_NAMES);
+            RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
+            if (annotation != null && annotation.required()
+                    && annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE)) {
+                String name = !annotation.name().isEmpty() ? annotation.name() : parameter.getParameterName();
+                if (name != null && !names.contains(name)) {
+                    names.add(name);
+                }
+            }
+        }
+        StringBuilder query = new StringBuilder();
+        for (String name : names) {
+            String value = sample(name, resource, store);
+            if (value == null) {
+                return null;
+            }
+            query.append(query.length() == 0 ? '?' : '&').append(name).append('=').append(value);
+        }
+        return query.toString();
+    }
+
+    private static String sample(String name, ProfileResource resource, ProfileStore store) {
+        if (name.equals("id") || name.equals("ids")) {
+            if (resource == null) {
+                return null;
+            }
+            List<?> entities = resource.entitiesOf(store);
+            if (entities.isEmpty()) {
+                return null;
+            }
+            StringBuilder ids = new StringBuilder();
+            int count = name.equals("id") ? 1 : Math.min(entities.size(), 3);
+            for (int i = 0; i < count; i++) {
+                ids.append(i == 0 ? "" : ",").append(resource.idOf(entities.get(i)));
+            }
+            return ids.toString();
+        }
+        return SAMPLE_PARAMETERS.get(name);
+    }
+
+    private static ProfileResource resourceOf(String pattern) {
+        for (String segment : pattern.split("/")) {
+            for (ProfileResource resource : ProfileResource.values()) {
+                if (resource.getPath().equals(segment)) {
+                    return resource;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.api.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccessLogBuffer Unit Tests")
+class AccessLogBufferTest {
+
+    @Test
+    @DisplayName("Records should be drained in order with every field intact")
+    void drain_AfterOffers_ReturnsRecordsInOrder() {
+        // Given
+        AccessLogBuffer buffer = new AccessLogBuffer(4);
+        assertTrue(buffer.offer(1000L, 5_000L, 200, 1, 7, 0x7F000001L));
+        assertTrue(buffer.offer(2000L, 6_000L, 503, 3, 0xFFFFFF, -1));
+        List<String> records = new ArrayList<>();
+
+        // When
+        int drained = buffer.drain((time, duration, status, method, endpoint, address) ->
+                records.add(time + " " + duration + " " + status + " " + method + " " + endpoint + " " + address), 10);
+
+        // Then
+        assertEquals(2, drained);
+        assertEquals(List.of("1000 5000 200 1 7 2130706433", "2000 6000 503 3 16777215 -1"), records);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("A full buffer should refuse records until the consumer frees slots")
+    void offer_WhenFull_ReturnsFalse() {
+        // Given
+        AccessLogBuffer buffer = new AccessLogBuffer(3);
+        for (int i = 0; i < buffer.capacity(); i++) {
+            assertTrue(buffer.offer(i, 0, 200, 1, 0, -1));
+        }
+
+        // When & Then
+        assertEquals(4, buffer.capacity());
+        assertFalse(buffer.offer(99, 0, 200, 1, 0, -1));
+        assertEquals(1, buffer.drain((time, duration, status, method, endpoint, address) -> { }, 1));
+        assertTrue(buffer.offer(99, 0, 200, 1, 0, -1));
+    }
+
+    @Test
+    @DisplayName("Concurrent producers should lose and duplicate no records")
+    void offer_ConcurrentProducers_DeliversEveryRecordOnce() throws Exception {
+        // Given
+        int producers = 4;
+        int perProducer = 50_000;
+        AccessLogBuffer buffer = new AccessLogBuffer(256);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            tasks.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(i, 0, 200, producer, i, -1)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+        int[] next = new int[producers];
+        long[] received = new long[1];
+
+        // When
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received[0] < (long) producers * perProducer && System.nanoTime() < deadline) {
+            received[0] += buffer.drain((time, duration, status, method, endpoint, address) -> {
+                assertEquals(next[method], endpoint, "records of one producer must arrive in order");
+                next[method]++;
+            }, 1024);
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals((long) producers * perProducer, received[0]);
+        for (int count : next) {
+            assertEquals(perProducer, count);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.api.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccessLogFilter Unit Tests")
+class AccessLogFilterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Requests matching no route should be logged under one placeholder instead of their URI")
+    void doFilter_UnmatchedRequests_LogsPlaceholder() throws Exception {
+        // Given
+        AccessLog accessLog = new AccessLog(directory.toString(), 16, "drop", 1_000_000, 3, 1000);
+        AccessLogFilter filter = new AccessLogFilter(
+                new StaticListableBeanFactory(Map.of("accessLog", accessLog)).getBeanProvider(AccessLog.class));
+        MockHttpServletRequest matched = new MockHttpServletRequest("GET", "/api/profile/projects/7");
+        matched.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/profile/projects/{id}");
+
+        // When
+        filter.doFilter(matched, new MockHttpServletResponse(), new MockFilterChain());
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/wp-admin/" + i), new MockHttpServletResponse(),
+                    new MockFilterChain());
+        }
+        accessLog.close();
+
+        // Then
+        List<String> endpoints = Files.readAllLines(directory.resolve(AccessLog.FILE_NAME)).stream()
+                .map(line -> line.split(" ")[3]).toList();
+        assertEquals(List.of("/api/profile/projects/{id}", "(unmatched)", "(unmatched)", "(unmatched)"), endpoints);
+    }
+}
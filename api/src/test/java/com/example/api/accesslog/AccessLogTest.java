@@ -0,0 +1,123 @@
+package com.example.api.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccessLog Unit Tests")
+class AccessLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Logged requests should be written as formatted lines when the log closes")
+    void log_ThenClose_WritesFormattedLines() throws Exception {
+        // Given
+        AccessLog accessLog = new AccessLog(directory.toString(), 16, "drop", 1_000_000, 3, 1000);
+
+        // When
+        accessLog.log(0L, 1_234_000L, "GET", "/api/profile/projects/{id}", 200, "10.0.0.7");
+        accessLog.log(1L, 56_000L, "BREW", "/api/coffee", 418, "0:0:0:0:0:0:0:1");
+        accessLog.close();
+
+        // Then
+        List<String> lines = Files.readAllLines(directory.resolve(AccessLog.FILE_NAME));
+        assertEquals(List.of("1970-01-01T00:00:00Z 10.0.0.7 GET /api/profile/projects/{id} 200 1.234ms",
+                "1970-01-01T00:00:00.001Z - OTHER /api/coffee 418 0.056ms"), lines);
+        assertEquals(2L, accessLog.stats().get("written"));
+    }
+
+    @Test
+    @DisplayName("The log file should be rotated at its size limit, keeping max-files files")
+    void log_BeyondFileSize_RotatesFiles() throws Exception {
+        // Given
+        AccessLog accessLog = new AccessLog(directory.toString(), 16, "block", 200, 3, 1000);
+
+        // When
+        for (int i = 0; i < 40; i++) {
+            accessLog.log(i, 1_000_000L, "GET", "/api/health", 200, "127.0.0.1");
+        }
+        accessLog.close();
+
+        // Then
+        assertTrue(Files.exists(directory.resolve("access.log")));
+        assertTrue(Files.exists(directory.resolve("access.log.1")));
+        assertTrue(Files.exists(directory.resolve("access.log.2")));
+        assertFalse(Files.exists(directory.resolve("access.log.3")));
+        assertTrue(Files.size(directory.resolve("access.log.1")) <= 200);
+        assertEquals(40L, accessLog.stats().get("written"), "the block policy must not drop records");
+        assertEquals(0L, accessLog.stats().get("dropped"));
+    }
+
+    @Test
+    @DisplayName("File sizes should be measured in encoded bytes, not characters")
+    void log_NonAsciiEndpoint_KeepsFilesWithinByteLimit() throws Exception {
+        // Given
+        AccessLog accessLog = new AccessLog(directory.toString(), 16, "block", 200, 10, 1000);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            accessLog.log(i, 1_000_000L, "GET", "/api/caf\u00e9/\u00e9t\u00e9", 200, "127.0.0.1");
+        }
+        accessLog.close();
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                assertTrue(Files.size(file) <= 200, file + " exceeds the limit");
+            }
+        }
+        assertEquals(20L, accessLog.stats().get("written"));
+    }
+
+    @Test
+    @DisplayName("A failed rotation should keep writing to the current file and be retried")
+    void log_WhenRotationFails_KeepsWriting() throws Exception {
+        // Given
+        Path blocker = Files.createDirectories(directory.resolve("access.log.1"));
+        Files.write(blocker.resolve("keep"), new byte[1]);
+        AccessLog accessLog = new AccessLog(directory.toString(), 16, "block", 200, 2, 1000);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            accessLog.log(i, 1_000_000L, "GET", "/api/health", 200, "127.0.0.1");
+            Thread.sleep(20);
+        }
+        for (int i = 0; i < 250 && accessLog.stats().get("written") < 10; i++) {
+            Thread.sleep(20);
+        }
+        Files.delete(blocker.resolve("keep"));
+        Files.delete(blocker);
+        accessLog.log(10, 1_000_000L, "GET", "/api/health/ready", 200, "127.0.0.1");
+        accessLog.close();
+
+        // Then
+        List<String> rotated = Files.readAllLines(directory.resolve("access.log.1"));
+        List<String> current = Files.readAllLines(directory.resolve(AccessLog.FILE_NAME));
+        assertEquals(10, rotated.size());
+        assertEquals(1, current.size());
+        assertTrue(current.get(0).contains("/api/health/ready"));
+        assertEquals(11L, accessLog.stats().get("written"));
+    }
+
+    @Test
+    @DisplayName("parseIpv4 should accept dotted IPv4 addresses only")
+    void parseIpv4_VariousAddresses_ParsesOnlyIpv4() {
+        // When & Then
+        assertEquals(0x7F000001L, AccessLog.parseIpv4("127.0.0.1"));
+        assertEquals(0xFFFFFFFFL, AccessLog.parseIpv4("255.255.255.255"));
+        assertEquals(-1, AccessLog.parseIpv4("256.0.0.1"));
+        assertEquals(-1, AccessLog.parseIpv4("1.2.3"));
+        assertEquals(-1, AccessLog.parseIpv4("::1"));
+        assertEquals(-1, AccessLog.parseIpv4(null));
+    }
+}
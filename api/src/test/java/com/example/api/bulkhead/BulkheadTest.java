@@ -0,0 +1,144 @@
+package com.example.api.bulkhead;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bulkhead Unit Tests")
+class BulkheadTest {
+
+    @Test
+    @DisplayName("A bulkhead with busy threads and a full queue should reject further work")
+    void submit_WhenSaturated_Rejects() throws Exception {
+        // Given
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        assertTrue(bulkhead.submit(() -> {
+            started.countDown();
+            await(release);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(bulkhead.submit(() -> { }));
+
+        // When
+        boolean accepted = bulkhead.submit(() -> { });
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(1, bulkhead.getActive());
+        assertEquals(1, bulkhead.getQueued());
+        assertEquals(1, bulkhead.getRejected());
+        release.countDown();
+        bulkhead.shutdown();
+    }
+
+    @Test
+    @DisplayName("A saturated bulkhead should not affect another one")
+    void submit_OtherBulkheadSaturated_StillRuns() throws Exception {
+        // Given
+        Bulkhead slow = new Bulkhead("slow", 1, 1);
+        Bulkhead fast = new Bulkhead("fast", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        slow.submit(() -> await(release));
+        slow.submit(() -> await(release));
+        CountDownLatch ran = new CountDownLatch(1);
+
+        // When
+        boolean accepted = fast.submit(ran::countDown);
+
+        // Then
+        assertTrue(accepted);
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertFalse(slow.submit(() -> { }));
+        release.countDown();
+        slow.shutdown();
+        fast.shutdown();
+    }
+
+    @Test
+    @DisplayName("Requests should be grouped by path, with writes going to the admin group")
+    void of_ClassifiesRequests() {
+        // Then
+        assertEquals(EndpointGroup.HEALTH, EndpointGroup.of("GET", "/api/health"));
+        assertEquals(EndpointGroup.HEALTH, EndpointGroup.of("GET", "/api/status/bulkheads"));
+        assertEquals(EndpointGroup.GREETING, EndpointGroup.of("POST", "/api/greeting"));
+        assertEquals(EndpointGroup.PROFILE_READ, EndpointGroup.of("GET", "/api/profile/projects/1"));
+        assertEquals(EndpointGroup.PROFILE_READ, EndpointGroup.of("GET", "/api/acme/profile/info"));
+        assertEquals(EndpointGroup.SEARCH, EndpointGroup.of("GET", "/api/profile/search"));
+        assertEquals(EndpointGroup.SEARCH, EndpointGroup.of("GET", "/api/profile/projects/1/similar"));
+        assertEquals(EndpointGroup.ADMIN, EndpointGroup.of("PUT", "/api/profile/projects/1"));
+        assertNull(EndpointGroup.of("GET", "/error"));
+        assertNull(EndpointGroup.of("GET", "/api/profile/changes/stream"));
+        assertNull(EndpointGroup.of("GET", "/api/profile/changes/stream/"));
+    }
+
+    @Test
+    @DisplayName("A timeout should answer 503 and discard whatever the handler writes afterwards")
+    void onTimeout_WhileHandlerRuns_AnswersServiceUnavailableAndDiscardsOutput() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profile/projects");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockAsyncContext context = new MockAsyncContext(request, response);
+        AsyncLifecycle lifecycle = new AsyncLifecycle();
+        HttpServletResponse guarded = lifecycle.guard(response);
+        guarded.setHeader("X-Before", "kept until the timeout resets the response");
+
+        // When
+        lifecycle.onTimeout(new AsyncEvent(context, request, response));
+        guarded.setStatus(200);
+        guarded.setHeader("X-After", "late");
+        guarded.getOutputStream().write(new byte[]{'l', 'a', 't', 'e'});
+        guarded.getWriter().write("late");
+        guarded.flushBuffer();
+        lifecycle.complete(() -> fail("the container already completed the request"));
+
+        // Then
+        assertTrue(lifecycle.isEnded());
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertNull(response.getHeader("X-Before"));
+        assertNull(response.getHeader("X-After"));
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Output of a handler that finishes in time should reach the client")
+    void guard_BeforeEnd_PassesOutputThrough() throws IOException {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AsyncLifecycle lifecycle = new AsyncLifecycle();
+        HttpServletResponse guarded = lifecycle.guard(response);
+        CountDownLatch completed = new CountDownLatch(1);
+
+        // When
+        guarded.setStatus(201);
+        guarded.getWriter().write("done");
+        guarded.getWriter().flush();
+        lifecycle.complete(completed::countDown);
+
+        // Then
+        assertEquals(201, response.getStatus());
+        assertEquals("done", response.getContentAsString());
+        assertEquals(0, completed.getCount());
+        assertTrue(lifecycle.isEnded());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.api.changes;
+
+import com.example.api.model.Project;
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.store.JsonProfileLoader;
+import com.example.api.store.ProfileRepository;
+import com.example.api.store.ProfileResource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProfileChangeHistory Unit Tests")
+class ProfileChangeHistoryTest {
+
+    private ProfileRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = new ProfileRepository(new JsonProfileLoader(new SerializationRegistry(new ObjectMapper())).load());
+    }
+
+    private static Project project(int id, String title) {
+        return new Project(id, title, "Description", List.of("Java"), null, null, false);
+    }
+
+    @Test
+    @DisplayName("Changes since a version should be folded into one change per entity")
+    void since_FoldsChangesPerEntity() throws IOException {
+        // Given
+        ProfileChangeHistory history = new ProfileChangeHistory(repository, 16);
+        Project created = repository.create(ProfileResource.PROJECTS, project(0, "New"));
+        repository.put(ProfileResource.PROJECTS, created.getId(), project(0, "Renamed"));
+        repository.put(ProfileResource.PROJECTS, 1, project(0, "Updated"));
+        repository.delete(ProfileResource.PROJECTS, 2);
+        Project shortLived = repository.create(ProfileResource.PROJECTS, project(0, "Short-lived"));
+        repository.delete(ProfileResource.PROJECTS, shortLived.getId());
+
+        // When
+        ProfileChangeHistory.Delta delta = history.since(0);
+
+        // Then
+        assertFalse(delta.isResync());
+        assertEquals(6, delta.getVersion());
+        assertEquals(1, delta.getChanges().size());
+        List<ProfileChangeHistory.Change> changes = delta.getChanges().get(ProfileResource.PROJECTS);
+        assertEquals(3, changes.size());
+        ProfileChangeHistory.Change added = changes.stream()
+                .filter(change -> change.getId() == created.getId()).findFirst().orElseThrow();
+        assertEquals(ProfileChangeHistory.Kind.ADDED, added.getKind());
+        assertEquals("Renamed", ((Project) added.getEntity()).getTitle());
+        assertTrue(changes.stream().anyMatch(change -> change.getId() == 1
+                && change.getKind() == ProfileChangeHistory.Kind.UPDATED));
+        assertTrue(changes.stream().anyMatch(change -> change.getId() == 2
+                && change.getKind() == ProfileChangeHistory.Kind.REMOVED));
+    }
+
+    @Test
+    @DisplayName("Only changes after the given version should be returned")
+    void since_RecentVersion_ReturnsLaterChangesOnly() throws IOException {
+        // Given
+        ProfileChangeHistory history = new ProfileChangeHistory(repository, 16);
+        repository.put(ProfileResource.PROJECTS, 1, project(0, "First"));
+        repository.put(ProfileResource.PROJECTS, 2, project(0, "Second"));
+
+        // When
+        ProfileChangeHistory.Delta delta = history.since(1);
+        ProfileChangeHistory.Delta current = history.since(2);
+
+        // Then
+        List<ProfileChangeHistory.Change> changes = delta.getChanges().get(ProfileResource.PROJECTS);
+        assertEquals(1, changes.size());
+        assertEquals(2, changes.get(0).getId());
+        assertTrue(current.getChanges().isEmpty());
+        assertFalse(current.isResync());
+    }
+
+    @Test
+    @DisplayName("A version older than the history or newer than the data should ask for a resync")
+    void since_UnknownVersion_RequestsResync() throws IOException {
+        // Given
+        ProfileChangeHistory history = new ProfileChangeHistory(repository, 2);
+        for (int i = 0; i < 4; i++) {
+            repository.put(ProfileResource.PROJECTS, 1, project(0, "Title " + i));
+        }
+
+        // When & Then
+        assertTrue(history.since(1).isResync());
+        assertFalse(history.since(2).isResync());
+        assertTrue(history.since(5).isResync());
+        assertEquals(4, history.since(1).getVersion());
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.api.changes;
+
+import com.example.api.model.Project;
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.service.ProfileService;
+import com.example.api.store.JsonProfileLoader;
+import com.example.api.store.ProfileRepository;
+import com.example.api.store.ProfileResource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProfileChangeStream Unit Tests")
+class ProfileChangeStreamTest {
+
+    private ProfileRepository repository;
+    private ProfileChangeStream stream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = new ProfileRepository(new JsonProfileLoader(new SerializationRegistry(new ObjectMapper())).load());
+        stream = new ProfileChangeStream(repository, 60_000, 60_000, 4, 60_000, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.close();
+    }
+
+    @Test
+    @DisplayName("A new subscriber should first receive the version of every collection")
+    void subscribe_SendsStateFirst() throws Exception {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        stream.register(emitter);
+        Object state = emitter.events.poll(5, TimeUnit.SECONDS);
+
+        // Then
+        assertInstanceOf(List.class, state);
+        assertEquals(ProfileResource.values().length, ((List<?>) state).size());
+        assertEquals(1, stream.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("A write should notify subscribers of the changed collection only")
+    void put_NotifiesChangedCollection() throws Exception {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.register(emitter);
+        assertNotNull(emitter.events.poll(5, TimeUnit.SECONDS));
+
+        // When
+        repository.put(ProfileResource.PROJECTS, 1,
+                new Project(1, "Renamed", "Description", List.of("Java"), null, null, false));
+        Object change = emitter.events.poll(5, TimeUnit.SECONDS);
+
+        // Then
+        assertInstanceOf(Map.class, change);
+        Map<?, ?> notification = (Map<?, ?>) change;
+        assertEquals("projects", notification.get("resource"));
+        assertEquals(1L, notification.get("version"));
+        assertEquals(ProfileService.etag(repository.current(), ProfileResource.PROJECTS), notification.get("etag"));
+        assertNull(emitter.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("A subscriber whose connection fails should be dropped")
+    void send_WhenClientGone_DropsSubscriber() throws Exception {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+
+        // When
+        stream.register(emitter);
+        repository.put(ProfileResource.PROJECTS, 1,
+                new Project(1, "Renamed", "Description", List.of("Java"), null, null, false));
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (stream.getSubscriberCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, stream.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("A subscriber that stops reading should not delay others and be dropped once far behind")
+    void published_WithSlowSubscriber_DeliversToOthersAndDropsSlowOne() throws Exception {
+        // Given
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.blocked = new CountDownLatch(1);
+        RecordingEmitter fast = new RecordingEmitter();
+        stream.register(slow);
+        stream.register(fast);
+        assertNotNull(fast.events.poll(5, TimeUnit.SECONDS));
+
+        // When & Then
+        for (int i = 0; i < 8; i++) {
+            repository.put(ProfileResource.PROJECTS, 1,
+                    new Project(1, "Title " + i, "Description", List.of("Java"), null, null, false));
+            assertNotNull(fast.events.poll(5, TimeUnit.SECONDS), "change " + i + " must not wait for the slow client");
+        }
+        assertEquals(1, stream.getSubscriberCount());
+        slow.blocked.countDown();
+    }
+
+    @Test
+    @DisplayName("A subscriber whose write stays blocked past the write timeout should be dropped")
+    void heartbeat_WithBlockedWrite_DropsSubscriber() throws Exception {
+        // Given
+        stream.close();
+        stream = new ProfileChangeStream(repository, 60_000, 20, 64, 100, 2);
+        RecordingEmitter stuck = new RecordingEmitter();
+        stuck.blocked = new CountDownLatch(1);
+
+        // When
+        stream.register(stuck);
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (stream.getSubscriberCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, stream.getSubscriberCount());
+        stuck.blocked.countDown();
+    }
+
+    /**
+     * Emitter capturing the data of each event instead of writing it to a response.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+        private volatile boolean failing;
+        private volatile CountDownLatch blocked;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            if (blocked != null) {
+                try {
+                    // A client whose TCP window is full
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (DataWithMediaType part : builder.build()) {
+                if (!(part.getData() instanceof String)) {
+                    events.add(part.getData());
+                }
+            }
+        }
+    }
+}
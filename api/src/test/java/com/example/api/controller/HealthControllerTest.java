@@ -3,9 +3,13 @@ package com.example.api.controller;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -16,6 +20,9 @@ class HealthControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private ApplicationAvailability applicationAvailability;
+
     @Test
     @DisplayName("GET /api/health should return health status")
     void health_ReturnsHealthStatus() throws Exception {
@@ -52,4 +59,28 @@ class HealthControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Type", "application/json"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /api/health/ready should return 200 when accepting traffic")
+    void ready_AcceptingTraffic_ReturnsOk() throws Exception {
+        // Given
+        when(applicationAvailability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+
+        // When & Then
+        mockMvc.perform(get("/api/health/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ACCEPTING_TRAFFIC"));
+    }
+
+    @Test
+    @DisplayName("GET /api/health/ready should return 503 while warming up")
+    void ready_RefusingTraffic_ReturnsServiceUnavailable() throws Exception {
+        // Given
+        when(applicationAvailability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+
+        // When & Then
+        mockMvc.perform(get("/api/health/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("REFUSING_TRAFFIC"));
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.api.controller;
+
+import com.example.api.engagement.EngagementTracker;
+import com.example.api.model.BatchResult;
+import com.example.api.model.Project;
+import com.example.api.query.QuerySchema;
+import com.example.api.service.ProfileService;
+import com.example.api.store.ProfileResource;
+import com.example.api.trending.TrendingTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ProfileController.class, properties = "api.admin.token=" + ProfileControllerTest.TOKEN)
+@DisplayName("ProfileController Unit Tests")
+class ProfileControllerTest {
+
+    static final String TOKEN = "test-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProfileService profileService;
+
+    @MockBean
+    private EngagementTracker engagementTracker;
+
+    @MockBean
+    private TrendingTracker trendingTracker;
+
+    private static Project project(int id) {
+        return new Project(id, "Project " + id, "Description", List.of("Java"), null, null, id == 1);
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/projects/{id} should return the project")
+    void getProjectById_WithExistingId_ReturnsProject() throws Exception {
+        // Given
+        when(profileService.getProjectById(1)).thenReturn(project(1));
+
+        // When & Then
+        mockMvc.perform(get("/api/profile/projects/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.title").value("Project 1"));
+
+        verify(engagementTracker).record(ProfileResource.PROJECTS, 1);
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/projects/{id} should return 404 for unknown id")
+    void getProjectById_WithUnknownId_ReturnsNotFound() throws Exception {
+        // Given
+        when(profileService.getProjectById(99)).thenReturn(null);
+
+        // When & Then
+        mockMvc.perform(get("/api/profile/projects/99"))
+                .andExpect(status().isNotFound());
+
+        verify(engagementTracker, never()).record(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/projects should return 500 when data cannot be read")
+    void getProjects_WhenServiceFails_ReturnsServerError() throws Exception {
+        // Given
+        when(profileService.getProjects()).thenThrow(new IOException("boom"));
+
+        // When & Then
+        mockMvc.perform(get("/api/profile/projects"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/projects should return 304 when the client's ETag is current")
+    void getProjects_WithCurrentETag_ReturnsNotModified() throws Exception {
+        // Given
+        when(profileService.getETag(ProfileResource.PROJECTS)).thenReturn("\"v1\"");
+        when(profileService.getProjects()).thenReturn(List.of(project(1)));
+
+        // When & Then
+        mockMvc.perform(get("/api/profile/projects"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""));
+        mockMvc.perform(get("/api/profile/projects").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/profile/projects").header("If-None-Match", "\"v0\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/projects?filter= should run the query")
+    void getProjects_WithFilter_RunsQuery() throws Exception {
+        // Given
+        when(profileService.query(QuerySchema.PROJECTS, "featured:true AND tech:Java", "-id"))
+                .thenReturn(List.of(project(3), project(2)));
+
+        // When & Then
+        mockMvc.perform(get("/api/profile/projects")
+                        .param("filter", "featured:true AND tech:Java")
+                        .param("sort", "-id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[1].id").value(2));
+
+        verify(profileService, never()).getProjects();
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/projects?filter= should return 400 for an invalid query")
+    void getProjects_WithInvalidFilter_ReturnsBadRequest() throws Exception {
+        // Given
+        when(profileService.query(eq(QuerySchema.PROJECTS), any(), any()))
+                .thenThrow(new IllegalArgumentException("Unknown field"));
+
+        // When & Then
+        mockMvc.perform(get("/api/profile/projects").param("filter", "colour:blue"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/experiences should reject a query combined with a date range")
+    void getExperiences_WithFilterAndRange_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/profile/experiences").param("filter", "tech:Java").param("from", "2024-01"))
+                .andExpect(status().isBadRequest());
+
+        verify(profileService, never()).query(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/projects?ids= should return results in request order with misses")
+    void getProjectsByIds_WithMixedIds_ReturnsOrderedResults() throws Exception {
+        // Given
+        BatchResult<Project> result = new BatchResult<>(Arrays.asList(project(4), null, project(1)), List.of(9));
+        when(profileService.getProjectsByIds(List.of(4, 9, 1))).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(get("/api/profile/projects").param("ids", "4,9,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].id").value(4))
+                .andExpect(jsonPath("$.results[1]").isEmpty())
+                .andExpect(jsonPath("$.results[2].id").value(1))
+                .andExpect(jsonPath("$.missing[0]").value(9));
+
+        verify(profileService, never()).getProjects();
+    }
+
+    @Test
+    @DisplayName("POST /api/profile/experiences/batch should resolve an id array")
+    void postExperiencesBatch_WithIdArray_ReturnsResults() throws Exception {
+        // Given
+        when(profileService.getExperiencesByIds(List.of(2, 3)))
+                .thenReturn(new BatchResult<>(Arrays.asList(null, null), List.of(2, 3)));
+
+        // When & Then
+        mockMvc.perform(post("/api/profile/experiences/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[2,3]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missing.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("Batch requests above the size limit should be rejected")
+    void postEducationBatch_WithTooManyIds_ReturnsBadRequest() throws Exception {
+        // Given
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i <= ProfileController.MAX_BATCH_SIZE; i++) {
+            body.append(i == 0 ? "" : ",").append(i);
+        }
+        body.append(']');
+
+        // When & Then
+        mockMvc.perform(post("/api/profile/education/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(status().isBadRequest());
+
+        verify(profileService, never()).getEducationByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Batch requests with non-numeric ids should be rejected")
+    void getEducationByIds_WithInvalidId_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/profile/education").param("ids", "1,abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/profile/projects should return 201 with the stored project")
+    void createProject_WithNewProject_ReturnsCreated() throws Exception {
+        // Given
+        when(profileService.create(eq(ProfileResource.PROJECTS), any(Project.class))).thenReturn(project(7));
+
+        // When & Then
+        mockMvc.perform(post("/api/profile/projects")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Project 7\",\"technologies\":[\"Java\"]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(7));
+    }
+
+    @Test
+    @DisplayName("POST /api/profile/projects should return 409 when the id is taken")
+    void createProject_WithTakenId_ReturnsConflict() throws Exception {
+        // Given
+        when(profileService.create(eq(ProfileResource.PROJECTS), any(Project.class))).thenReturn(null);
+
+        // When & Then
+        mockMvc.perform(post("/api/profile/projects")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":1,\"title\":\"Duplicate\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("PUT /api/profile/projects/{id} should return 405 for a read-only store")
+    void updateProject_OnReadOnlyStore_ReturnsMethodNotAllowed() throws Exception {
+        // Given
+        when(profileService.update(eq(ProfileResource.PROJECTS), eq(1), any(Project.class)))
+                .thenThrow(new UnsupportedOperationException("read-only"));
+
+        // When & Then
+        mockMvc.perform(put("/api/profile/projects/1")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\"}"))
+                .andExpect(status().isMethodNotAllowed());
+    }
+
+    @Test
+    @DisplayName("PUT /api/profile/projects/{id} should return 400 for an id of 0 or less")
+    void updateProject_WithNegativeId_ReturnsBadRequest() throws Exception {
+        // Given
+        when(profileService.update(eq(ProfileResource.PROJECTS), eq(-1), any(Project.class)))
+                .thenThrow(new IllegalArgumentException("Invalid id -1"));
+
+        // When & Then
+        mockMvc.perform(put("/api/profile/projects/-1")
+                        .header("Authorization", "Bearer " + TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Negative\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/profile/experiences/{id} should return 204 or 404")
+    void deleteExperience_ReturnsNoContentOrNotFound() throws Exception {
+        // Given
+        when(profileService.delete(ProfileResource.EXPERIENCES, 1)).thenReturn(true);
+        when(profileService.delete(ProfileResource.EXPERIENCES, 2)).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(delete("/api/profile/experiences/1").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/profile/experiences/2").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Writes without the admin token should be refused before reaching the service")
+    void deleteExperience_WithoutToken_ReturnsUnauthorized() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/api/profile/experiences/1"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/profile/experiences/1").header("Authorization", "Bearer wrong"))
+                .andExpect(status().isUnauthorized());
+
+        verify(profileService, never()).delete(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/projects/trending should rank projects and search terms")
+    void getTrendingProjects_ReturnsRankedProjectsAndTerms() throws Exception {
+        // Given
+        when(trendingTracker.windowMinutes()).thenReturn(60L);
+        when(trendingTracker.topProjects(10, 60)).thenReturn(Map.of(2, 42L));
+        when(trendingTracker.topSearchTerms(10, 60)).thenReturn(Map.of("java", 7L));
+        when(profileService.getProjectById(2)).thenReturn(project(2));
+
+        // When & Then
+        mockMvc.perform(get("/api/profile/projects/trending"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.windowMinutes").value(60))
+                .andExpect(jsonPath("$.projects[0].project.id").value(2))
+                .andExpect(jsonPath("$.projects[0].requests").value(42))
+                .andExpect(jsonPath("$.searchTerms[0].term").value("java"));
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/search should record the query terms")
+    void search_WithQuery_RecordsTerms() throws Exception {
+        // Given
+        when(profileService.searchProjects("Spring Boot")).thenReturn(List.of(project(1)));
+
+        // When & Then
+        mockMvc.perform(get("/api/profile/search").param("q", "Spring Boot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+
+        verify(trendingTracker).recordSearch("Spring Boot");
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/experiences with a malformed month should return 400")
+    void getExperiences_WithMalformedMonth_ReturnsBadRequest() throws Exception {
+        // Given
+        when(profileService.findExperiences("2021", null, null))
+                .thenThrow(new IllegalArgumentException("Expected YYYY-MM: 2021"));
+
+        // When & Then
+        mockMvc.perform(get("/api/profile/experiences").param("from", "2021"))
+                .andExpect(status().isBadRequest());
+
+        verify(profileService, never()).getExperiences();
+    }
+}
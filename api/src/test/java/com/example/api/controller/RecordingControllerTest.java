@@ -0,0 +1,133 @@
+package com.example.api.controller;
+
+import com.example.api.diagnostics.DiagnosticRecorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = RecordingController.class, properties = "api.admin.token=" + RecordingControllerTest.TOKEN)
+@DisplayName("RecordingController Unit Tests")
+class RecordingControllerTest {
+
+    static final String TOKEN = "test-token";
+    private static final String AUTHORIZATION = "Bearer " + TOKEN;
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DiagnosticRecorder diagnosticRecorder;
+
+    @Test
+    @DisplayName("Requests without the admin token should be refused")
+    void getRecording_WithoutToken_ReturnsUnauthorized() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/admin/recording"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/admin/recording/start"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(diagnosticRecorder);
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/recording should return the recorder's state")
+    void getRecording_ReturnsStatus() throws Exception {
+        // Given
+        when(diagnosticRecorder.status()).thenReturn(Map.of("recording", false));
+
+        // When & Then
+        mockMvc.perform(get("/api/admin/recording").header("Authorization", AUTHORIZATION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recording").value(false));
+    }
+
+    @Test
+    @DisplayName("POST /start should use the configured bounds unless tighter ones are given")
+    void start_WithAndWithoutBounds_StartsRecording() throws Exception {
+        // Given
+        when(diagnosticRecorder.getMaxAge()).thenReturn(Duration.ofMinutes(10));
+        when(diagnosticRecorder.getMaxSize()).thenReturn(1024L);
+        when(diagnosticRecorder.start(any(), anyLong())).thenReturn(true);
+        when(diagnosticRecorder.status()).thenReturn(Map.of("recording", true));
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/recording/start").header("Authorization", AUTHORIZATION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recording").value(true));
+        mockMvc.perform(post("/api/admin/recording/start").header("Authorization", AUTHORIZATION)
+                        .param("maxAgeMs", "1000").param("maxSizeBytes", "512"))
+                .andExpect(status().isOk());
+
+        verify(diagnosticRecorder).start(Duration.ofMinutes(10), 1024L);
+        verify(diagnosticRecorder).start(Duration.ofSeconds(1), 512L);
+    }
+
+    @Test
+    @DisplayName("POST /start should reject non-positive bounds and report a running recording")
+    void start_WithInvalidBoundsOrWhileRecording_ReturnsError() throws Exception {
+        // Given
+        when(diagnosticRecorder.start(any(), anyLong())).thenReturn(false);
+        when(diagnosticRecorder.getMaxAge()).thenReturn(Duration.ofMinutes(10));
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/recording/start").header("Authorization", AUTHORIZATION)
+                        .param("maxAgeMs", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/admin/recording/start").header("Authorization", AUTHORIZATION)
+                        .param("maxSizeBytes", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/admin/recording/start").header("Authorization", AUTHORIZATION))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("POST /dump should return the written file, or 409 without a recording")
+    void dump_ReturnsFileOrConflict() throws Exception {
+        // Given
+        Path file = Files.write(directory.resolve("api-dump.jfr"), new byte[42]);
+        when(diagnosticRecorder.dump()).thenReturn(file, (Path) null);
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/recording/dump").header("Authorization", AUTHORIZATION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.file").value(file.toString()))
+                .andExpect(jsonPath("$.sizeBytes").value(42));
+        mockMvc.perform(post("/api/admin/recording/dump").header("Authorization", AUTHORIZATION))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("POST /stop should return 409 when no recording runs")
+    void stop_ReturnsStatusOrConflict() throws Exception {
+        // Given
+        when(diagnosticRecorder.stop()).thenReturn(true, false);
+        when(diagnosticRecorder.status()).thenReturn(Map.of("recording", false));
+
+        // When & Then
+        mockMvc.perform(post("/api/admin/recording/stop").header("Authorization", AUTHORIZATION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recording").value(false));
+        mockMvc.perform(post("/api/admin/recording/stop").header("Authorization", AUTHORIZATION))
+                .andExpect(status().isConflict());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.api.cors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CorsPolicyFilter Unit Tests")
+class CorsPolicyFilterTest {
+
+    private final CorsPolicyFilter filter = new CorsPolicyFilter(List.of("/api/profile/**"),
+            List.of("/api/greeting"), List.of("http://localhost:3000"), List.of("GET", "POST"),
+            List.of("Content-Type"), List.of("ETag"), 86400);
+
+    @Test
+    @DisplayName("Preflights from allowed origins should be answered without reaching the controllers")
+    void doFilter_AllowedPreflight_AnswersFromPolicy() throws Exception {
+        // Given
+        MockHttpServletRequest request = preflight("/api/greeting", "http://localhost:3000", "POST");
+        request.addHeader("Access-Control-Request-Headers", "content-type");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("http://localhost:3000", response.getHeader("Access-Control-Allow-Origin"));
+        assertEquals("GET,POST", response.getHeader("Access-Control-Allow-Methods"));
+        assertEquals("Content-Type", response.getHeader("Access-Control-Allow-Headers"));
+        assertEquals("86400", response.getHeader("Access-Control-Max-Age"));
+        assertNull(chain.getRequest(), "preflights must not reach the controllers");
+    }
+
+    @Test
+    @DisplayName("Preflights from other origins, or for other methods or headers, should be refused")
+    void doFilter_DisallowedPreflight_ReturnsForbidden() throws Exception {
+        // Given
+        MockHttpServletRequest otherHeader = preflight("/api/greeting", "http://localhost:3000", "POST");
+        otherHeader.addHeader("Access-Control-Request-Headers", "X-Custom");
+
+        // When & Then
+        assertEquals(403, status(preflight("/api/greeting", "https://evil.example", "POST")));
+        assertEquals(403, status(preflight("/api/greeting", "http://localhost:3000", "DELETE")));
+        assertEquals(403, status(otherHeader));
+    }
+
+    @Test
+    @DisplayName("Requests to public paths should be allowed from any origin")
+    void doFilter_PublicPath_AllowsAnyOrigin() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profile/projects");
+        request.addHeader("Origin", "https://elsewhere.example");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertEquals("*", response.getHeader("Access-Control-Allow-Origin"));
+        assertEquals("ETag", response.getHeader("Access-Control-Expose-Headers"));
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Public paths should grant writes to the allowed origins only")
+    void doFilter_PublicPathWrite_AllowsOnlyAllowedOrigins() throws Exception {
+        // Given
+        MockHttpServletRequest trustedPreflight = preflight("/api/profile/projects/1", "http://localhost:3000",
+                "POST");
+        MockHttpServletResponse trustedResponse = new MockHttpServletResponse();
+        MockHttpServletRequest simplePost = new MockHttpServletRequest("POST", "/api/profile/projects");
+        simplePost.addHeader("Origin", "https://evil.example");
+        MockHttpServletRequest readPreflight = preflight("/api/profile/projects", "https://evil.example", "GET");
+        MockHttpServletResponse readResponse = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(trustedPreflight, trustedResponse, new MockFilterChain());
+        filter.doFilter(readPreflight, readResponse, new MockFilterChain());
+
+        // Then
+        assertEquals(200, trustedResponse.getStatus());
+        assertEquals("http://localhost:3000", trustedResponse.getHeader("Access-Control-Allow-Origin"));
+        assertEquals("GET,POST", trustedResponse.getHeader("Access-Control-Allow-Methods"));
+        assertEquals(403, status(preflight("/api/profile/projects/1", "https://evil.example", "POST")));
+        assertEquals(403, status(simplePost));
+        assertEquals(200, readResponse.getStatus());
+        assertEquals("*", readResponse.getHeader("Access-Control-Allow-Origin"));
+        assertEquals("GET,HEAD", readResponse.getHeader("Access-Control-Allow-Methods"));
+    }
+
+    @Test
+    @DisplayName("Requests to paths outside the policy should pass through without CORS headers")
+    void doFilter_UnlistedPath_AddsNoHeaders() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/health");
+        request.addHeader("Origin", "http://localhost:3000");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertNull(response.getHeader("Access-Control-Allow-Origin"));
+        assertNotNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest preflight(String uri, String origin, String method) {
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", uri);
+        request.addHeader("Origin", origin);
+        request.addHeader("Access-Control-Request-Method", method);
+        return request;
+    }
+
+    private int status(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.api.dataset;
+
+import com.example.api.model.Experience;
+import com.example.api.model.Project;
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.store.IntervalIndex;
+import com.example.api.store.JsonProfileLoader;
+import com.example.api.store.ProfileDataSource;
+import com.example.api.store.ProfileSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProfileDatasetGenerator Unit Tests")
+class ProfileDatasetGeneratorTest {
+
+    private final SerializationRegistry registry = new SerializationRegistry(new ObjectMapper());
+
+    @Test
+    @DisplayName("The same seed should produce byte-identical files")
+    void generate_SameSeed_IsDeterministic(@TempDir Path dir) throws IOException {
+        // Given
+        Path first = dir.resolve("first");
+        Path second = dir.resolve("second");
+        Path other = dir.resolve("other");
+
+        // When
+        new ProfileDatasetGenerator(registry, 7).generate(first, 200);
+        new ProfileDatasetGenerator(registry, 7).generate(second, 200);
+        new ProfileDatasetGenerator(registry, 8).generate(other, 200);
+
+        // Then
+        for (String file : JsonProfileLoader.DATA_FILES) {
+            assertArrayEquals(Files.readAllBytes(first.resolve(file)), Files.readAllBytes(second.resolve(file)), file);
+        }
+        assertFalse(Files.readString(first.resolve("projects.json"))
+                .equals(Files.readString(other.resolve("projects.json"))));
+    }
+
+    @Test
+    @DisplayName("Generated data should load through the JSON loader at the requested sizes")
+    void generate_ThenLoad_HasRequestedSizesAndValidDates(@TempDir Path dir) throws IOException {
+        // Given
+        new ProfileDatasetGenerator(registry, 42).generate(dir, 1_000, 30, 500);
+
+        // When
+        ProfileSnapshot snapshot = new JsonProfileLoader(registry, ProfileDataSource.directory(dir)).load();
+
+        // Then
+        assertEquals(1_000, snapshot.getExperiences().size());
+        assertEquals(30, snapshot.getEducation().size());
+        assertEquals(500, snapshot.getProjects().size());
+        assertNotNull(snapshot.getPersonalInfo());
+        assertFalse(snapshot.getSkills().getTechnicalSkills().isEmpty());
+        assertEquals(500, snapshot.getProject(500).getId());
+        for (Experience experience : snapshot.getExperiences()) {
+            IntervalIndex.parseMonth(experience.getStartDate());
+            if (!experience.isCurrent()) {
+                assertTrue(IntervalIndex.parseMonth(experience.getEndDate())
+                        > IntervalIndex.parseMonth(experience.getStartDate()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Technology tags should follow a skewed popularity distribution")
+    void generate_Technologies_AreSkewed(@TempDir Path dir) throws IOException {
+        // Given
+        new ProfileDatasetGenerator(registry, 42).generate(dir, 10, 1, 5_000);
+
+        // When
+        Map<String, Integer> counts = new HashMap<>();
+        for (Project project : new JsonProfileLoader(registry, ProfileDataSource.directory(dir)).load().getProjects()) {
+            assertEquals(project.getTechnologies().size(), project.getTechnologies().stream().distinct().count());
+            for (String technology : project.getTechnologies()) {
+                counts.merge(technology, 1, Integer::sum);
+            }
+        }
+
+        // Then
+        int java = counts.getOrDefault("Java", 0);
+        int rare = counts.getOrDefault("OpenCV", 0);
+        assertTrue(java > 2_000, "the most popular tag should appear in most projects: " + java);
+        assertTrue(rare < java / 10, "tail tags should be rare: " + rare);
+        assertTrue(counts.size() > 200, "most of the vocabulary should appear: " + counts.size());
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.api.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DiagnosticRecorder Unit Tests")
+class DiagnosticRecorderTest {
+
+    @TempDir
+    Path directory;
+
+    private DiagnosticRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        if (recorder != null) {
+            recorder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("A dump should contain the request events recorded since the start")
+    void dump_AfterRequest_ContainsRequestEvent() throws Exception {
+        // Given
+        recorder = new DiagnosticRecorder(directory.toString(), 60_000, 16 * 1024 * 1024, 5);
+        assertTrue(recorder.start());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse servletResponse)
+                    throws IOException {
+                servletResponse.setStatus(201);
+                servletResponse.getOutputStream().write(new byte[]{'h', 'e', 'l', 'l', 'o'});
+            }
+        });
+
+        // When
+        new RequestEventFilter().doFilter(new MockHttpServletRequest("POST", "/api/greeting"), response, chain);
+        Path file = recorder.dump();
+
+        // Then
+        assertNotNull(file);
+        assertTrue(file.startsWith(directory));
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.api.Request"))
+                .collect(Collectors.toList());
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("POST", event.getString("method"));
+        assertEquals("/api/greeting", event.getString("endpoint"));
+        assertEquals(201, event.getInt("status"));
+        assertEquals(5, event.getLong("bytes"));
+        assertEquals("hello", response.getContentAsString(), "the body must still reach the client");
+    }
+
+    @Test
+    @DisplayName("Only one recording should run at a time")
+    void start_WhileRecording_ReturnsFalse() {
+        // Given
+        recorder = new DiagnosticRecorder(directory.toString(), 60_000, 16 * 1024 * 1024, 5);
+        assertTrue(recorder.start());
+
+        // When
+        boolean startedAgain = recorder.start();
+
+        // Then
+        assertFalse(startedAgain);
+        assertEquals(true, recorder.status().get("recording"));
+    }
+
+    @Test
+    @DisplayName("Stopping should discard the recording so nothing is left to dump")
+    void stop_ThenDump_ReturnsNull() throws Exception {
+        // Given
+        recorder = new DiagnosticRecorder(directory.toString(), 60_000, 16 * 1024 * 1024, 5);
+        assertFalse(recorder.stop(), "nothing to stop before a start");
+        assertTrue(recorder.start());
+
+        // When
+        boolean stopped = recorder.stop();
+
+        // Then
+        assertTrue(stopped);
+        assertNull(recorder.dump());
+        assertEquals(false, recorder.status().get("recording"));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Requested bounds should be lowered to the configured ones")
+    void start_WithLargerBounds_ClampsToConfiguredBounds() {
+        // Given
+        recorder = new DiagnosticRecorder(directory.toString(), 60_000, 16 * 1024 * 1024, 5);
+
+        // When
+        assertTrue(recorder.start(Duration.ofDays(365), Long.MAX_VALUE));
+
+        // Then
+        assertEquals(60_000L, recorder.status().get("maxAgeMs"));
+        assertEquals(16L * 1024 * 1024, recorder.status().get("maxSizeBytes"));
+    }
+
+    @Test
+    @DisplayName("Dumping should keep only the newest dumps")
+    void dump_BeyondMaxDumps_DeletesOldest() throws Exception {
+        // Given
+        recorder = new DiagnosticRecorder(directory.toString(), 60_000, 16 * 1024 * 1024, 2);
+        Files.write(directory.resolve("api-20000101T000000.000.jfr"), new byte[0]);
+        Files.write(directory.resolve("notes.txt"), new byte[0]);
+        assertTrue(recorder.start());
+
+        // When
+        Path first = recorder.dump();
+        Thread.sleep(5);
+        Path second = recorder.dump();
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of("notes.txt", first.getFileName().toString(), second.getFileName().toString())
+                    .stream().sorted().collect(Collectors.toList()),
+                    files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList()));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.api.engagement;
+
+import com.example.api.store.ProfileResource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EngagementTracker Unit Tests")
+class EngagementTrackerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Concurrent views should all be counted")
+    void record_FromManyThreads_CountsEveryView() throws Exception {
+        // Given
+        EngagementTracker tracker = new EngagementTracker(new ObjectMapper(), "", 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    tracker.record(ProfileResource.PROJECTS, i % 4);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        for (int id = 0; id < 4; id++) {
+            assertEquals(20_000, tracker.count(ProfileResource.PROJECTS, id));
+        }
+        assertEquals(0, tracker.count(ProfileResource.EXPERIENCES, 0));
+    }
+
+    @Test
+    @DisplayName("Top views should be ordered by count and limited")
+    void top_ReturnsMostViewedFirst() throws IOException {
+        // Given
+        EngagementTracker tracker = new EngagementTracker(new ObjectMapper(), "", 1000);
+        tracker.record(ProfileResource.EXPERIENCES, 1);
+        tracker.record(ProfileResource.EXPERIENCES, 2);
+        tracker.record(ProfileResource.EXPERIENCES, 2);
+        tracker.record(ProfileResource.EXPERIENCES, 3);
+
+        // When
+        Map<Integer, Long> top = tracker.top(ProfileResource.EXPERIENCES, 2);
+
+        // Then
+        assertEquals(List.of(2, 1), new ArrayList<>(top.keySet()));
+        assertEquals(2L, top.get(2));
+    }
+
+    @Test
+    @DisplayName("Totals should be flushed to the file and restored on startup")
+    void close_FlushesTotalsThatAreRestored() throws IOException {
+        // Given
+        String file = directory.resolve("engagement.json").toString();
+        EngagementTracker tracker = new EngagementTracker(new ObjectMapper(), file, 60_000);
+        tracker.record(ProfileResource.PROJECTS, 5);
+        tracker.record(ProfileResource.PROJECTS, 5);
+
+        // When
+        tracker.close();
+        EngagementTracker restarted = new EngagementTracker(new ObjectMapper(), file, 60_000);
+        restarted.record(ProfileResource.PROJECTS, 5);
+
+        // Then
+        assertEquals(3, restarted.count(ProfileResource.PROJECTS, 5));
+        restarted.close();
+    }
+}
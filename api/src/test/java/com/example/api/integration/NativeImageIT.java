@@ -0,0 +1,79 @@
+package com.example.api.integration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the endpoint checks against the native executable built by the {@code native} Maven
+ * profile, whose location is passed in the {@code native.executable} system property.
+ */
+@DisplayName("Native Image Integration Tests")
+class NativeImageIT extends EndpointChecks {
+
+    private static final long STARTUP_TIMEOUT_MILLIS = 10_000;
+
+    private static Process process;
+    private static int port;
+    private final TestRestTemplate restTemplate = new TestRestTemplate();
+
+    @BeforeAll
+    static void startExecutable() throws Exception {
+        Path executable = Paths.get(System.getProperty("native.executable", "target/api"));
+        assumeTrue(Files.isExecutable(executable), "Native executable not built: " + executable);
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        process = new ProcessBuilder(executable.toString(), "--server.port=" + port, "--profile.engagement.file=")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+        while (!isUp()) {
+            assertTrue(process.isAlive(), "Native executable exited with " + process.exitValue());
+            assertTrue(System.currentTimeMillis() < deadline, "Native executable did not start in time");
+            Thread.sleep(20);
+        }
+    }
+
+    @AfterAll
+    static void stopExecutable() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    @Override
+    protected TestRestTemplate restTemplate() {
+        return restTemplate;
+    }
+
+    @Override
+    protected String createURL(String uri) {
+        return "http://localhost:" + port + uri;
+    }
+
+    private static boolean isUp() {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/api/health")
+                    .openConnection();
+            connection.setConnectTimeout(200);
+            return connection.getResponseCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
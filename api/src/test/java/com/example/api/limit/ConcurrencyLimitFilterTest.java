@@ -0,0 +1,114 @@
+package com.example.api.limit;
+
+import com.example.api.bulkhead.BulkheadDispatcherServlet;
+import com.example.api.bulkhead.Bulkheads;
+import com.example.api.bulkhead.EndpointGroup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitFilter Unit Tests")
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter =
+            new ConcurrencyLimitFilter(true, 1, 1, 1, List.of("/api/health"));
+
+    @Test
+    @DisplayName("Requests beyond the limit should be shed with 503")
+    void doFilter_WhenSaturated_ReturnsServiceUnavailable() throws Exception {
+        // Given
+        assertTrue(filter.getLimit().tryAcquire());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/profile/projects"), response, chain);
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest(), "shed requests must not reach the controllers");
+    }
+
+    @Test
+    @DisplayName("Priority paths should bypass a saturated limit")
+    void doFilter_PriorityPath_IsNeverShed() throws Exception {
+        // Given
+        assertTrue(filter.getLimit().tryAcquire());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/health"), response, chain);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Completed requests should release their slot")
+    void doFilter_WithinLimit_ReleasesSlot() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/profile/info"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        // Then
+        assertEquals(0, filter.getLimit().getInFlight());
+    }
+
+    @Test
+    @DisplayName("Requests rejected by a saturated bulkhead should release their slot without adjusting the limit")
+    void doFilter_BulkheadRejects_DoesNotSample() throws Exception {
+        // Given
+        ConcurrencyLimitFilter limited = new ConcurrencyLimitFilter(true, 10, 1, 100, List.of());
+        Bulkheads bulkheads = new Bulkheads(new MockEnvironment()
+                .withProperty("api.bulkhead.profile-read.threads", "1")
+                .withProperty("api.bulkhead.profile-read.queue", "1"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        bulkheads.get(EndpointGroup.PROFILE_READ).submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        bulkheads.get(EndpointGroup.PROFILE_READ).submit(() -> { });
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profile/projects");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        limited.doFilter(request, response, new MockFilterChain(new BulkheadDispatcherServlet(bulkheads, 1000)));
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals(0, limited.getLimit().getInFlight());
+        assertEquals(0, limited.getLimit().getSamples());
+        release.countDown();
+        bulkheads.close();
+    }
+
+    @Test
+    @DisplayName("Requests completing normally should adjust the limit")
+    void doFilter_Completed_Samples() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/profile/info"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        // Then
+        assertEquals(1, filter.getLimit().getSamples());
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.api.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VegasLimit Unit Tests")
+class VegasLimitTest {
+
+    private static void runBatch(VegasLimit limit, long latencyMillis) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(TimeUnit.MILLISECONDS.toNanos(latencyMillis), true);
+        }
+    }
+
+    @Test
+    @DisplayName("Slots beyond the limit should be refused")
+    void tryAcquire_BeyondLimit_Refuses() {
+        // Given
+        VegasLimit limit = new VegasLimit(3, 1, 10);
+
+        // When & Then
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        limit.release(1, false);
+        assertTrue(limit.tryAcquire());
+        assertEquals(3, limit.getInFlight());
+    }
+
+    @Test
+    @DisplayName("A saturated limit with steady latency should grow")
+    void release_WithSteadyLatency_GrowsLimit() {
+        // Given
+        VegasLimit limit = new VegasLimit(10, 1, 100);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            runBatch(limit, 10);
+        }
+
+        // Then
+        assertTrue(limit.getLimit() > 10, "limit was " + limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Rising latency should shrink the limit towards the minimum")
+    void release_WithRisingLatency_ShrinksLimit() {
+        // Given
+        VegasLimit limit = new VegasLimit(50, 5, 100);
+        runBatch(limit, 10);
+        int before = limit.getLimit();
+
+        // When
+        runBatch(limit, 100);
+        runBatch(limit, 100);
+
+        // Then
+        assertTrue(limit.getLimit() < before, "limit was " + limit.getLimit());
+        assertTrue(limit.getLimit() >= 5);
+    }
+
+    @Test
+    @DisplayName("Completions from many threads should adjust the limit once per window and stay in bounds")
+    void release_FromManyThreads_KeepsLimitInBounds() throws Exception {
+        // Given
+        VegasLimit limit = new VegasLimit(20, 5, 40);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            long latencyMillis = 10 + t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    if (limit.tryAcquire()) {
+                        limit.release(TimeUnit.MILLISECONDS.toNanos(latencyMillis), true);
+                    }
+                }
+            });
+        }
+
+        // When
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(0, limit.getInFlight());
+        assertTrue(limit.getLimit() >= 5 && limit.getLimit() <= 40, "limit was " + limit.getLimit());
+    }
+}
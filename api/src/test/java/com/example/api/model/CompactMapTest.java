@@ -0,0 +1,64 @@
+package com.example.api.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompactMap Unit Tests")
+class CompactMapTest {
+
+    @Test
+    @DisplayName("Should keep source iteration order and find every key")
+    void copyOf_WithUnsortedKeys_KeepsOrderAndFindsKeys() {
+        // Given
+        Map<String, Integer> source = new LinkedHashMap<>();
+        source.put("Testing", 1);
+        source.put("Backend", 2);
+        source.put("Frontend", 3);
+
+        // When
+        CompactMap<Integer> map = CompactMap.copyOf(source, Function.identity());
+
+        // Then
+        assertEquals(List.of("Testing", "Backend", "Frontend"), new ArrayList<>(map.keySet()));
+        assertEquals(source, map);
+        assertEquals(2, map.get("Backend"));
+        assertTrue(map.containsKey("Frontend"));
+        assertNull(map.get("Cloud"));
+        assertNull(map.get(42));
+    }
+
+    @Test
+    @DisplayName("Should reject modification")
+    void put_OnCompactMap_ThrowsUnsupportedOperation() {
+        // Given
+        CompactMap<Integer> map = CompactMap.copyOf(Map.of("a", 1), Function.identity());
+
+        // When & Then
+        assertThrows(UnsupportedOperationException.class, () -> map.put("b", 2));
+    }
+
+    @Test
+    @DisplayName("Skills should expose unmodifiable categories")
+    void skills_WithCategories_AreUnmodifiable() {
+        // Given
+        Map<String, List<String>> categories = new LinkedHashMap<>();
+        categories.put("Backend", new ArrayList<>(List.of("Java")));
+        Skills skills = new Skills(List.of("Java"), categories, null);
+
+        // When
+        categories.get("Backend").add("Go");
+
+        // Then
+        assertEquals(List.of("Java"), skills.getCategories().get("Backend"));
+        assertThrows(UnsupportedOperationException.class, () -> skills.getCategories().get("Backend").add("Go"));
+        assertThrows(UnsupportedOperationException.class, () -> skills.getTechnicalSkills().add("Go"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.api.model;
+
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.store.JsonProfileLoader;
+import com.example.api.store.ProfileSnapshot;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Generated JSON codec Unit Tests")
+class JsonCodecModuleTest {
+
+    private ObjectMapper reflective;
+    private ObjectMapper generated;
+    private ProfileSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        reflective = new ObjectMapper();
+        generated = new ObjectMapper().registerModule(new JsonCodecModule());
+        snapshot = new JsonProfileLoader(new SerializationRegistry(reflective)).load();
+    }
+
+    @Test
+    @DisplayName("Generated serializers should write exactly what bean introspection writes")
+    void write_MatchesReflectiveOutput() throws IOException {
+        // Given
+        Project withNulls = new Project(9, null, "Description", null, null, null, true);
+        List<Object> values = Arrays.asList(snapshot.getExperiences(), snapshot.getEducation(),
+                snapshot.getProjects(), snapshot.getPersonalInfo(), snapshot.getSkills(), withNulls);
+
+        // Then
+        for (Object value : values) {
+            assertEquals(reflective.writeValueAsString(value), generated.writeValueAsString(value));
+        }
+    }
+
+    @Test
+    @DisplayName("Generated deserializers should read back what was written")
+    void read_RoundTripsModel() throws IOException {
+        // Given
+        String personalInfo = reflective.writeValueAsString(snapshot.getPersonalInfo());
+        String skills = reflective.writeValueAsString(snapshot.getSkills());
+        String experiences = reflective.writeValueAsString(snapshot.getExperiences());
+
+        // When
+        PersonalInfo readInfo = generated.readValue(personalInfo, PersonalInfo.class);
+        Skills readSkills = generated.readValue(skills, Skills.class);
+        Experience[] readExperiences = generated.readValue(experiences, Experience[].class);
+
+        // Then
+        assertEquals(personalInfo, reflective.writeValueAsString(readInfo));
+        assertEquals(skills, reflective.writeValueAsString(readSkills));
+        assertEquals(experiences, reflective.writeValueAsString(readExperiences));
+    }
+
+    @Test
+    @DisplayName("Unknown properties should follow the mapper's FAIL_ON_UNKNOWN_PROPERTIES setting")
+    void read_UnknownProperty_FollowsMapperConfiguration() throws IOException {
+        // Given
+        String json = "{\"id\":3,\"title\":\"T\",\"extra\":{\"nested\":[1,2]},\"featured\":true}";
+
+        // When
+        Project lenient = generated.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(json, Project.class);
+
+        // Then
+        assertEquals(3, lenient.getId());
+        assertTrue(lenient.isFeatured());
+        assertThrows(UnrecognizedPropertyException.class, () -> generated.readValue(json, Project.class));
+    }
+
+    @Test
+    @DisplayName("Null list elements should be left out instead of failing the read")
+    void read_WithNullListElements_DropsThem() throws IOException {
+        // Given
+        String project = "{\"id\":1,\"title\":\"T\",\"technologies\":[\"Java\",null]}";
+        String skills = "{\"technicalSkills\":[null],\"categories\":{\"Languages\":[\"Java\",null]}}";
+
+        // When
+        Project readProject = generated.readValue(project, Project.class);
+        Project reflectiveProject = reflective.readValue(project, Project.class);
+        Skills readSkills = generated.readValue(skills, Skills.class);
+
+        // Then
+        assertEquals(List.of("Java"), readProject.getTechnologies());
+        assertEquals(List.of("Java"), reflectiveProject.getTechnologies());
+        assertEquals(List.of(), readSkills.getTechnicalSkills());
+        assertEquals(List.of("Java"), readSkills.getCategories().get("Languages"));
+    }
+}
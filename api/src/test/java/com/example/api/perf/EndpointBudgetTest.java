@@ -0,0 +1,141 @@
+package com.example.api.perf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Performance tier: allocation and latency of warmed hot endpoints against the budgets in
+ * {@code perf-budgets.properties}. Runs in its own surefire execution after the unit tests; skip it
+ * with {@code -DskipPerfTests}.
+ *
+ * <p>Requests go through MockMvc on the test thread, so the thread's allocation counter sees the
+ * whole filter chain, dispatch and serialization of each request. Budgets leave headroom over
+ * the measured values; when a change legitimately moves a number, update the budget in the same
+ * commit.</p>
+ */
+@Tag("perf")
+@SpringBootTest(properties = "profile.engagement.file=")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Endpoint Performance Budgets")
+class EndpointBudgetTest {
+
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int MEASURED_REQUESTS = 2_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Properties budgets;
+
+    @BeforeAll
+    void loadBudgets() throws IOException {
+        budgets = new Properties();
+        try (InputStream inputStream = getClass().getResourceAsStream("/perf-budgets.properties")) {
+            assertNotNull(inputStream, "perf-budgets.properties is missing");
+            budgets.load(inputStream);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/projects/{id} should stay within its budget")
+    void getProjectById_Warmed_StaysWithinBudget() throws Exception {
+        assertWithinBudget("project-by-id", measure("/api/profile/projects/1"));
+    }
+
+    @Test
+    @DisplayName("GET /api/profile/projects should stay within its budget")
+    void getProjects_Warmed_StaysWithinBudget() throws Exception {
+        assertWithinBudget("projects", measure("/api/profile/projects"));
+    }
+
+    @Test
+    @DisplayName("GET /api/greeting should stay within its budget")
+    void getGreeting_Warmed_StaysWithinBudget() throws Exception {
+        assertWithinBudget("greeting", measure("/api/greeting?name=Budget"));
+    }
+
+    @Test
+    @DisplayName("GET /api/health should stay within its budget")
+    void getHealth_Warmed_StaysWithinBudget() throws Exception {
+        assertWithinBudget("health", measure("/api/health"));
+    }
+
+    private Measurement measure(String uri) throws Exception {
+        // Given
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            perform(uri);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "the JVM must report per-thread allocation");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        long[] latencies = new long[MEASURED_REQUESTS];
+
+        // When
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            long start = System.nanoTime();
+            perform(uri);
+            latencies[i] = System.nanoTime() - start;
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Arrays.sort(latencies);
+        return new Measurement(allocated / MEASURED_REQUESTS,
+                latencies[MEASURED_REQUESTS / 2] / 1_000, latencies[MEASURED_REQUESTS * 99 / 100] / 1_000);
+    }
+
+    private void perform(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri)).andReturn();
+        assertEquals(200, result.getResponse().getStatus(), uri);
+    }
+
+    private void assertWithinBudget(String endpoint, Measurement measurement) {
+        // Then
+        assertAll(endpoint,
+                () -> assertAtMost(endpoint, "allocated-bytes", measurement.allocatedBytes),
+                () -> assertAtMost(endpoint, "p50-micros", measurement.p50Micros),
+                () -> assertAtMost(endpoint, "p99-micros", measurement.p99Micros));
+    }
+
+    private void assertAtMost(String endpoint, String metric, long measured) {
+        String key = endpoint + "." + metric;
+        String budget = budgets.getProperty(key);
+        assertNotNull(budget, "no budget for " + key);
+        assertTrue(measured <= Long.parseLong(budget.trim()),
+                () -> key + " regressed: measured " + measured + ", budget " + budget);
+    }
+
+    /**
+     * Per-request allocation and latency percentiles of one endpoint.
+     */
+    private static final class Measurement {
+        private final long allocatedBytes;
+        private final long p50Micros;
+        private final long p99Micros;
+
+        private Measurement(long allocatedBytes, long p50Micros, long p99Micros) {
+            this.allocatedBytes = allocatedBytes;
+            this.p50Micros = p50Micros;
+            this.p99Micros = p99Micros;
+        }
+    }
+}
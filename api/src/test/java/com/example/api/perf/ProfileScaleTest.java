@@ -0,0 +1,114 @@
+package com.example.api.perf;
+
+import com.example.api.dataset.ProfileDatasetGenerator;
+import com.example.api.model.Project;
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.service.ProfileService;
+import com.example.api.store.JsonProfileLoader;
+import com.example.api.store.ProfileDataSource;
+import com.example.api.store.ProfileStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Performance tier: how loading, lookup, filtering and serialization scale with the size of a
+ * synthetic data set from {@link ProfileDatasetGenerator}. Each operation's cost per entity (or per
+ * lookup, or per match) at 10<sup>5</sup> entities must stay within {@link #MAX_GROWTH} times its
+ * cost at 10<sup>3</sup>. Cache misses legitimately make random lookups a few times slower once the
+ * data outgrows the CPU caches, while a scan where an index should be costs about a hundred times
+ * more, so the bound separates the two.
+ */
+@Tag("perf")
+@DisplayName("Profile Data Scaling")
+class ProfileScaleTest {
+
+    private static final int SMALL = 1_000;
+    private static final int LARGE = 100_000;
+    /** Allowed growth of the per-unit cost over two orders of magnitude of data. */
+    private static final double MAX_GROWTH = 10;
+    private static final int LOOKUPS = 200_000;
+
+    private final SerializationRegistry registry = new SerializationRegistry(new ObjectMapper());
+
+    @Test
+    @DisplayName("Per-entity costs should not grow with the data set")
+    void operations_From1kTo100k_ScaleLinearly(@TempDir Path dir) throws IOException {
+        // Given
+        measure(dir.resolve("warmup"), SMALL);
+        Cost small = measure(dir.resolve("small"), SMALL);
+
+        // When
+        Cost large = measure(dir.resolve("large"), LARGE);
+
+        // Then
+        assertAll(
+                () -> assertScales("load per entity", small.load, large.load),
+                () -> assertScales("lookup", small.lookup, large.lookup),
+                () -> assertScales("filter per match", small.filter, large.filter),
+                () -> assertScales("serialization per entity", small.serialize, large.serialize));
+    }
+
+    private Cost measure(Path dir, int size) throws IOException {
+        new ProfileDatasetGenerator(registry, 42).generate(dir, size);
+
+        long start = System.nanoTime();
+        ProfileStore store = new JsonProfileLoader(registry, ProfileDataSource.directory(dir)).load();
+        double load = (double) (System.nanoTime() - start) / (size * 2 + size / 10);
+        ProfileService service = new ProfileService(store);
+
+        Random random = new Random(size);
+        int found = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            Project project = service.getProjectById(1 + random.nextInt(size));
+            found += project != null ? 1 : 0;
+        }
+        double lookup = (double) (System.nanoTime() - start) / LOOKUPS;
+        assertEquals(LOOKUPS, found);
+
+        int matches = 0;
+        start = System.nanoTime();
+        for (int year = 2000; year <= 2025; year++) {
+            matches += service.findExperiences(year + "-01", year + "-12", "internship").size();
+        }
+        double filter = (double) (System.nanoTime() - start) / Math.max(1, matches);
+
+        start = System.nanoTime();
+        registry.listWriterFor(Project.class).writeValue(OutputStream.nullOutputStream(), service.getProjects());
+        double serialize = (double) (System.nanoTime() - start) / size;
+
+        return new Cost(load, lookup, filter, serialize);
+    }
+
+    private static void assertScales(String operation, double small, double large) {
+        assertTrue(large <= small * MAX_GROWTH, () -> String.format(
+                "%s grew from %.0f ns at %d entities to %.0f ns at %d", operation, small, SMALL, large, LARGE));
+    }
+
+    /**
+     * Nanoseconds per unit of work of each operation at one data size.
+     */
+    private static final class Cost {
+        private final double load;
+        private final double lookup;
+        private final double filter;
+        private final double serialize;
+
+        private Cost(double load, double lookup, double filter, double serialize) {
+            this.load = load;
+            this.lookup = lookup;
+            this.filter = filter;
+            this.serialize = serialize;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.api.query;
+
+import com.example.api.model.Experience;
+import com.example.api.model.Project;
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.store.JsonProfileLoader;
+import com.example.api.store.ProfileStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QueryCompiler Unit Tests")
+class QueryCompilerTest {
+
+    private final QueryCompiler compiler = new QueryCompiler(QueryCompiler.DEFAULT_CACHE_SIZE);
+    private ProfileStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new JsonProfileLoader(new SerializationRegistry(new ObjectMapper())).load();
+    }
+
+    @Test
+    @DisplayName("Filters should combine terms and sorts should order the matches")
+    void compile_FilterAndSort_ReturnsSortedMatches() {
+        // When
+        List<Project> projects = compiler.compile(QuerySchema.PROJECTS, "featured:true AND tech:java", "-id")
+                .run(store);
+        List<Project> quoted = compiler.compile(QuerySchema.PROJECTS, "tech:\"Spring Boot\" OR NOT featured:true",
+                "title").run(store);
+
+        // Then
+        assertEquals(List.of(3, 2), projectIds(projects));
+        assertEquals(List.of(4, 6, 1, 5), projectIds(quoted));
+    }
+
+    @Test
+    @DisplayName("Date range conjuncts should select index candidates with the same results as a scan")
+    void compile_RangeConjuncts_MatchesScan() {
+        // Given
+        String filter = "type:internship start<=2024-12 end>=2024-09";
+
+        // When
+        List<Experience> indexed = compiler.compile(QuerySchema.EXPERIENCES, filter, null).run(store);
+        // A top-level OR leaves nothing to index, so this runs as a scan
+        List<Experience> scanned = compiler.compile(QuerySchema.EXPERIENCES, "(" + filter + ") OR id:0", null)
+                .run(store);
+        List<Experience> recent = compiler.compile(QuerySchema.EXPERIENCES,
+                "(type:internship OR type:work) AND NOT current:true AND endDate>=2025-01", "-startDate").run(store);
+
+        // Then
+        assertEquals(List.of(3), experienceIds(indexed));
+        assertEquals(indexed, scanned);
+        assertEquals(List.of(1, 2, 6), experienceIds(recent));
+        assertEquals(List.of(5), experienceIds(compiler.compile(QuerySchema.EXPERIENCES, "id:5", null).run(store)));
+    }
+
+    @Test
+    @DisplayName("Repeated queries should be served from the cache without recompiling")
+    void compile_SameQueryTwice_ReturnsCachedPipeline() {
+        // When
+        ProfileQuery<Project> first = compiler.compile(QuerySchema.PROJECTS, "featured:true", "title");
+        ProfileQuery<Project> second = compiler.compile(QuerySchema.PROJECTS, "featured:true", "title");
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1L, compiler.stats().get("compiles"));
+        assertEquals(1L, compiler.stats().get("hits"));
+    }
+
+    @Test
+    @DisplayName("Invalid queries should be rejected and not cached")
+    void compile_InvalidQueries_ThrowIllegalArgument() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(QuerySchema.PROJECTS, "colour:blue", null));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(QuerySchema.PROJECTS, "title>x", null));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(QuerySchema.PROJECTS, "tech:", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(QuerySchema.PROJECTS, "tech:\"Java", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(QuerySchema.PROJECTS, "(featured:true", null));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(QuerySchema.PROJECTS, null, "tech"));
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(QuerySchema.EXPERIENCES, "start>=2024-13", null));
+        assertEquals(0L, compiler.stats().get("cached"));
+    }
+
+    @Test
+    @DisplayName("Deeply nested or overlong filters should be rejected instead of overflowing the stack")
+    void compile_NestedOrLongFilters_ThrowIllegalArgument() {
+        // Given
+        String nested = "(".repeat(QueryParser.MAX_DEPTH) + "featured:true" + ")".repeat(QueryParser.MAX_DEPTH);
+
+        // When & Then
+        assertEquals(3, compiler.compile(QuerySchema.PROJECTS, nested, null).run(store).size());
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(QuerySchema.PROJECTS, "(" + nested + ")", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(QuerySchema.PROJECTS, "NOT ".repeat(QueryParser.MAX_DEPTH + 1) + "featured:true",
+                        null));
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(QuerySchema.PROJECTS, "(".repeat(100_000), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(QuerySchema.PROJECTS, "tech:java ".repeat(200), null));
+    }
+
+    private static List<Integer> projectIds(List<Project> projects) {
+        return projects.stream().map(Project::getId).collect(Collectors.toList());
+    }
+
+    private static List<Integer> experienceIds(List<Experience> experiences) {
+        return experiences.stream().map(Experience::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.api.recommend;
+
+import com.example.api.model.Project;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SimilarProjectsIndex Unit Tests")
+class SimilarProjectsIndexTest {
+
+    private static Project project(int id, String... technologies) {
+        return new Project(id, "Project " + id, "Description", List.of(technologies), null, null, false);
+    }
+
+    private static List<Project> randomCatalog(Random random, int size) {
+        List<Project> projects = new ArrayList<>();
+        for (int id = 1; id <= size; id++) {
+            projects.add(randomProject(random, id));
+        }
+        return projects;
+    }
+
+    private static Project randomProject(Random random, int id) {
+        List<String> technologies = new ArrayList<>();
+        for (int t = 0; t < 80; t++) {
+            if (random.nextInt(10) == 0) {
+                technologies.add("tech-" + t);
+            }
+        }
+        return new Project(id, "Project " + id, "Description", technologies, null, null, false);
+    }
+
+    private static void assertSameNeighbours(SimilarProjectsIndex expected, SimilarProjectsIndex actual,
+                                             List<Project> projects) {
+        for (Project project : projects) {
+            List<SimilarProjectsIndex.Neighbour> want = expected.similar(project.getId());
+            List<SimilarProjectsIndex.Neighbour> got = actual.similar(project.getId());
+            assertEquals(want.size(), got.size(), "neighbour count of " + project.getId());
+            for (int i = 0; i < want.size(); i++) {
+                assertEquals(want.get(i).getId(), got.get(i).getId(), "neighbour " + i + " of " + project.getId());
+                assertEquals(want.get(i).getScore(), got.get(i).getScore(), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Neighbours should be ranked by Jaccard similarity of technologies")
+    void build_RanksByJaccardSimilarity() {
+        // Given
+        List<Project> projects = List.of(
+                project(1, "Java", "Spring", "React"),
+                project(2, "Java", "Spring"),
+                project(3, "React"),
+                project(4, "Go"));
+
+        // When
+        SimilarProjectsIndex index = SimilarProjectsIndex.build(projects, 5);
+        List<SimilarProjectsIndex.Neighbour> similar = index.similar(1);
+
+        // Then
+        assertEquals(2, similar.size());
+        assertEquals(2, similar.get(0).getId());
+        assertEquals(2.0 / 3, similar.get(0).getScore(), 1e-12);
+        assertEquals(3, similar.get(1).getId());
+        assertTrue(index.similar(4).isEmpty());
+        assertNull(index.similar(99));
+    }
+
+    @Test
+    @DisplayName("Incremental updates should match a full rebuild")
+    void update_WithFewChanges_MatchesRebuild() {
+        // Given
+        Random random = new Random(42);
+        List<Project> projects = randomCatalog(random, 300);
+        SimilarProjectsIndex index = SimilarProjectsIndex.build(projects, 5);
+
+        // When
+        List<Project> changed = new ArrayList<>(projects);
+        changed.set(10, randomProject(random, 11));
+        changed.set(200, project(201, "tech-1", "tech-2", "brand-new"));
+        changed.remove(50);
+        changed.add(randomProject(random, 999));
+        SimilarProjectsIndex updated = index.update(changed);
+
+        // Then
+        assertSameNeighbours(SimilarProjectsIndex.build(changed, 5), updated, changed);
+        assertNull(updated.similar(51));
+        assertNotNull(index.similar(51), "the previous index must stay unchanged");
+    }
+
+    @Test
+    @DisplayName("Large catalogs should be built and updated in parallel with the same result")
+    void update_WithLargeCatalog_MatchesRebuild() {
+        // Given
+        Random random = new Random(7);
+        List<Project> projects = randomCatalog(random, SimilarProjectsIndex.PARALLEL_THRESHOLD * 2);
+        SimilarProjectsIndex index = SimilarProjectsIndex.build(projects, 8);
+
+        // When
+        List<Project> changed = new ArrayList<>(projects);
+        for (int i = 0; i < 20; i++) {
+            changed.set(i * 37, randomProject(random, i * 37 + 1));
+        }
+        SimilarProjectsIndex updated = index.update(changed);
+
+        // Then
+        assertSameNeighbours(SimilarProjectsIndex.build(changed, 8), updated, changed);
+    }
+}
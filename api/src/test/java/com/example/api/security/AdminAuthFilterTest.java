@@ -0,0 +1,62 @@
+package com.example.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdminAuthFilter Unit Tests")
+class AdminAuthFilterTest {
+
+    @Test
+    @DisplayName("Writes and admin routes need the token; reads and batch lookups do not")
+    void isAdminRequest_ClassifiesRoutes() {
+        // When & Then
+        assertTrue(AdminAuthFilter.isAdminRequest("PUT", "/api/profile/projects/1"));
+        assertTrue(AdminAuthFilter.isAdminRequest("POST", "/api/profile/experiences"));
+        assertTrue(AdminAuthFilter.isAdminRequest("DELETE", "/api/profile/education/-1"));
+        assertTrue(AdminAuthFilter.isAdminRequest("GET", "/api/admin/recording"));
+        assertFalse(AdminAuthFilter.isAdminRequest("GET", "/api/profile/projects/1"));
+        assertFalse(AdminAuthFilter.isAdminRequest("POST", "/api/profile/projects/batch"));
+        assertFalse(AdminAuthFilter.isAdminRequest("POST", "/api/greeting"));
+    }
+
+    @Test
+    @DisplayName("Admin requests should be refused while no token is configured")
+    void doFilter_WithoutConfiguredToken_ReturnsForbidden() throws Exception {
+        // Given
+        AdminAuthFilter filter = new AdminAuthFilter("");
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/profile/projects/1");
+        request.addHeader("Authorization", "Bearer ");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertEquals(403, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Admin requests with the configured token should pass")
+    void doFilter_WithToken_PassesRequest() throws Exception {
+        // Given
+        AdminAuthFilter filter = new AdminAuthFilter("secret");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/admin/recording/dump");
+        request.addHeader("Authorization", "Bearer secret");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+}
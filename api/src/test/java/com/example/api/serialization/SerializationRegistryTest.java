@@ -0,0 +1,69 @@
+package com.example.api.serialization;
+
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SerializationRegistry Unit Tests")
+class SerializationRegistryTest {
+
+    private SerializationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SerializationRegistry(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should reuse the same reader instance for a model type")
+    void readerFor_CalledTwice_ReturnsSameInstance() {
+        // When
+        ObjectReader first = registry.listReaderFor(Project.class);
+        ObjectReader second = registry.listReaderFor(Project.class);
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Should read a JSON array into typed model objects")
+    void listReaderFor_WithProjectArray_ReturnsProjects() throws Exception {
+        // Given
+        String json = "[{\"id\":3,\"title\":\"Site\",\"technologies\":[\"Java\"],\"featured\":true}]";
+
+        // When
+        List<Project> projects = registry.listReaderFor(Project.class).readValue(json);
+
+        // Then
+        assertEquals(1, projects.size());
+        assertEquals(3, projects.get(0).getId());
+        assertTrue(projects.get(0).isFeatured());
+    }
+
+    @Test
+    @DisplayName("Should write a model object with the pre-built writer")
+    void writerFor_WithSkills_WritesJson() throws Exception {
+        // Given
+        Skills skills = new Skills(List.of("Java"), null, null);
+
+        // When
+        String json = registry.writerFor(Skills.class).writeValueAsString(skills);
+
+        // Then
+        assertTrue(json.contains("\"technicalSkills\":[\"Java\"]"));
+    }
+
+    @Test
+    @DisplayName("Should reject types that are not registered")
+    void readerFor_WithUnregisteredType_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.readerFor(String.class));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.api.service;
+
+import com.example.api.model.BatchResult;
+import com.example.api.model.Experience;
+import com.example.api.model.Project;
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.store.JsonProfileLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProfileService Unit Tests")
+class ProfileServiceTest {
+
+    private ProfileService profileService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        profileService = new ProfileService(new JsonProfileLoader(new SerializationRegistry(new ObjectMapper())).load());
+    }
+
+    @Test
+    @DisplayName("Should find a project by id")
+    void getProjectById_WithExistingId_ReturnsProject() throws IOException {
+        // When
+        Project project = profileService.getProjectById(1);
+
+        // Then
+        assertNotNull(project);
+        assertEquals(1, project.getId());
+    }
+
+    @Test
+    @DisplayName("Should return null for unknown ids")
+    void getExperienceById_WithUnknownId_ReturnsNull() throws IOException {
+        assertNull(profileService.getExperienceById(-1));
+        assertNull(profileService.getEducationById(-1));
+    }
+
+    @Test
+    @DisplayName("Should only return featured projects")
+    void getFeaturedProjects_ReturnsOnlyFeatured() throws IOException {
+        // When
+        List<Project> featured = profileService.getFeaturedProjects();
+
+        // Then
+        assertFalse(featured.isEmpty());
+        assertTrue(featured.stream().allMatch(Project::isFeatured));
+    }
+
+    @Test
+    @DisplayName("Batch lookup should keep request order and report misses")
+    void getProjectsByIds_WithMixedIds_KeepsOrderAndReportsMisses() throws IOException {
+        // When
+        BatchResult<Project> result = profileService.getProjectsByIds(List.of(2, 999, 1, 2));
+
+        // Then
+        assertEquals(4, result.getResults().size());
+        assertEquals(2, result.getResults().get(0).getId());
+        assertNull(result.getResults().get(1));
+        assertEquals(1, result.getResults().get(2).getId());
+        assertSame(result.getResults().get(0), result.getResults().get(3));
+        assertEquals(List.of(999), result.getMissing());
+    }
+
+    @Test
+    @DisplayName("Batch lookup with no ids should return an empty result")
+    void getEducationByIds_WithNoIds_ReturnsEmptyResult() throws IOException {
+        // When
+        BatchResult<?> result = profileService.getEducationByIds(List.of());
+
+        // Then
+        assertTrue(result.getResults().isEmpty());
+        assertTrue(result.getMissing().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Search should match every word case-insensitively")
+    void searchProjects_WithMixedCaseWords_MatchesAllWords() throws IOException {
+        // Given
+        Project first = profileService.getProjects().get(0);
+        String word = first.getTitle().split("\\s+")[0].toUpperCase();
+
+        // When
+        List<Project> matches = profileService.searchProjects(word);
+        List<Project> none = profileService.searchProjects(word + " zzqqxx");
+
+        // Then
+        assertTrue(matches.contains(first));
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Date range queries should return overlapping entries of the requested type")
+    void findExperiences_WithRangeAndType_ReturnsOverlappingOfType() throws IOException {
+        // When
+        List<Experience> all = profileService.findExperiences(null, null, null);
+        List<Experience> internships = profileService.findExperiences("2024-01", "2024-12", "Internship");
+
+        // Then
+        assertEquals(profileService.getExperiences(), all);
+        assertFalse(internships.isEmpty());
+        for (Experience experience : internships) {
+            assertEquals("internship", experience.getType());
+            assertTrue(experience.getStartDate().compareTo("2024-12") <= 0);
+            assertTrue(experience.isCurrent() || experience.getEndDate().isEmpty()
+                    || experience.getEndDate().compareTo("2024-01") >= 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Malformed or reversed ranges should be rejected")
+    void findEducation_WithInvalidRange_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> profileService.findEducation("2024", null));
+        assertThrows(IllegalArgumentException.class, () -> profileService.findEducation("2024-05", "2023-01"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.api.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntervalIndex Unit Tests")
+class IntervalIndexTest {
+
+    @Test
+    @DisplayName("Overlap queries should match a linear scan")
+    void overlapping_MatchesLinearScan() {
+        // Given
+        Random random = new Random(11);
+        int size = 500;
+        int[] positions = new int[size];
+        int[] starts = new int[size];
+        int[] ends = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+            starts[i] = random.nextInt(10) == 0 ? IntervalIndex.OPEN_START : random.nextInt(600);
+            ends[i] = random.nextInt(10) == 0 ? IntervalIndex.OPEN_END : Math.max(starts[i], 0) + random.nextInt(48);
+        }
+        IntervalIndex index = IntervalIndex.build(positions, starts, ends);
+
+        for (int query = 0; query < 200; query++) {
+            int from = random.nextInt(700) - 50;
+            int to = from + random.nextInt(60);
+
+            // When
+            int[] found = index.overlapping(from, to);
+
+            // Then
+            int[] expected = Arrays.stream(positions).filter(i -> starts[i] <= to && ends[i] >= from).toArray();
+            assertArrayEquals(expected, found, "range " + from + ".." + to);
+        }
+    }
+
+    @Test
+    @DisplayName("Months should parse as YYYY-MM and reject anything else")
+    void parseMonth_AcceptsOnlyYearMonth() {
+        assertEquals(2021 * 12, IntervalIndex.parseMonth("2021-01"));
+        assertEquals(2023 * 12 + 5, IntervalIndex.parseMonth("2023-06"));
+        assertThrows(IllegalArgumentException.class, () -> IntervalIndex.parseMonth("2023-13"));
+        assertThrows(IllegalArgumentException.class, () -> IntervalIndex.parseMonth("2023-6"));
+        assertThrows(IllegalArgumentException.class, () -> IntervalIndex.parseMonth("20x3-06"));
+        assertEquals(IntervalIndex.OPEN_END, IntervalIndex.endMonth("", false));
+        assertEquals(IntervalIndex.OPEN_END, IntervalIndex.endMonth("2020-01", true));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.api.store;
+
+import com.example.api.dataset.ProfileDatasetGenerator;
+import com.example.api.serialization.SerializationRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JsonProfileLoader Unit Tests")
+class JsonProfileLoaderTest {
+
+    private final SerializationRegistry registry = new SerializationRegistry(new ObjectMapper());
+
+    private static List<String> reportsOf(String fileName, List<String> reports) {
+        return reports.stream().filter(report -> report.startsWith(fileName + ":")).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("A duplicate id should fail the load at the position of the second entity")
+    void load_WithDuplicateId_ReportsFileAndLine(@TempDir Path dir) throws IOException {
+        // Given
+        new ProfileDatasetGenerator(registry, 1).generate(dir, 2);
+        Files.writeString(dir.resolve("projects.json"), "[\n"
+                + "  {\"id\": 1, \"title\": \"A\", \"technologies\": [\"Java\"], \"featured\": false},\n"
+                + "  {\"id\": 1, \"title\": \"B\", \"technologies\": [\"Go\"], \"featured\": false}\n"
+                + "]\n");
+        JsonProfileLoader loader = new JsonProfileLoader(registry, ProfileDataSource.directory(dir));
+
+        // When
+        ProfileDataException e = assertThrows(ProfileDataException.class, loader::load);
+
+        // Then
+        assertEquals("projects.json", e.getFileName());
+        assertEquals(3, e.getLine());
+        assertEquals(3, e.getColumn());
+        assertTrue(e.getMessage().startsWith("projects.json line 3, column 3: Duplicate id 1"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Malformed JSON should fail the load with the parser's position")
+    void load_WithMalformedJson_ReportsFileAndLine(@TempDir Path dir) throws IOException {
+        // Given
+        new ProfileDatasetGenerator(registry, 1).generate(dir, 2);
+        Files.writeString(dir.resolve("experiences.json"), "[\n  {\"id\": 1,\n   \"company\": }\n]\n");
+        JsonProfileLoader loader = new JsonProfileLoader(registry, ProfileDataSource.directory(dir));
+
+        // When
+        ProfileDataException e = assertThrows(ProfileDataException.class, loader::load);
+
+        // Then
+        assertEquals("experiences.json", e.getFileName());
+        assertEquals(3, e.getLine());
+        assertNotNull(e.getCause());
+    }
+
+    @Test
+    @DisplayName("Progress should be reported periodically and once per finished file")
+    void load_WithProgress_ReportsEveryIntervalAndCompletion(@TempDir Path dir) throws IOException {
+        // Given
+        int size = JsonProfileLoader.PROGRESS_INTERVAL * 2 + 5;
+        new ProfileDatasetGenerator(registry, 1).generate(dir, size, 3, 10);
+        List<String> reports = Collections.synchronizedList(new ArrayList<>());
+        JsonProfileLoader loader = new JsonProfileLoader(registry, ProfileDataSource.directory(dir),
+                (fileName, entities, done) -> reports.add(fileName + ":" + entities + (done ? ":done" : "")));
+
+        // When
+        ProfileSnapshot snapshot = loader.load();
+
+        // Then
+        assertEquals(size, snapshot.getExperiences().size());
+        assertEquals(List.of(
+                "experiences.json:" + JsonProfileLoader.PROGRESS_INTERVAL,
+                "experiences.json:" + JsonProfileLoader.PROGRESS_INTERVAL * 2,
+                "experiences.json:" + size + ":done"), reportsOf("experiences.json", reports));
+        assertEquals(List.of("education.json:3:done"), reportsOf("education.json", reports));
+        assertEquals(List.of("projects.json:10:done"), reportsOf("projects.json", reports));
+    }
+}
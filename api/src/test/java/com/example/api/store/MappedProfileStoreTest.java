@@ -0,0 +1,184 @@
+package com.example.api.store;
+
+import com.example.api.model.Education;
+import com.example.api.model.Experience;
+import com.example.api.model.Project;
+import com.example.api.serialization.SerializationRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedProfileStore Unit Tests")
+class MappedProfileStoreTest {
+
+    private SerializationRegistry registry;
+    private ProfileSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = new SerializationRegistry(new ObjectMapper());
+        snapshot = new JsonProfileLoader(registry).load();
+    }
+
+    @Test
+    @DisplayName("Should round-trip all collections through the binary file")
+    void open_WithCompiledFile_MatchesJsonData(@TempDir Path dir) throws IOException {
+        // Given
+        Path file = dir.resolve("profile.bin");
+        new BinaryProfileCompiler(registry).compile(snapshot, file);
+
+        // When
+        MappedProfileStore store = MappedProfileStore.open(file, registry);
+
+        // Then
+        assertEquals(json(snapshot.getExperiences()), json(store.getExperiences()));
+        assertEquals(json(snapshot.getEducation()), json(store.getEducation()));
+        assertEquals(json(snapshot.getProjects()), json(store.getProjects()));
+        assertEquals(json(snapshot.getPersonalInfo()), json(store.getPersonalInfo()));
+        assertEquals(json(snapshot.getSkills()), json(store.getSkills()));
+    }
+
+    @Test
+    @DisplayName("Should find entities by id through the sorted index")
+    void getById_WithExistingIds_ReturnsMatchingEntities() throws IOException {
+        // Given
+        MappedProfileStore store = MappedProfileStore.wrap(new BinaryProfileCompiler(registry).compile(snapshot),
+                registry);
+
+        // When & Then
+        for (Project project : snapshot.getProjects()) {
+            assertEquals(json(project), json(store.getProject(project.getId())));
+        }
+        for (Experience experience : snapshot.getExperiences()) {
+            assertEquals(json(experience), json(store.getExperience(experience.getId())));
+        }
+        for (Education education : snapshot.getEducation()) {
+            assertEquals(json(education), json(store.getEducation(education.getId())));
+        }
+        assertNull(store.getProject(-42));
+        assertNull(store.getExperience(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Date range queries should match the heap snapshot")
+    void findExperiences_MatchesSnapshot() throws IOException {
+        // Given
+        MappedProfileStore store = MappedProfileStore.wrap(new BinaryProfileCompiler(registry).compile(snapshot),
+                registry);
+        int from = IntervalIndex.parseMonth("2024-01");
+        int to = IntervalIndex.parseMonth("2024-12");
+
+        // When & Then
+        assertEquals(json(snapshot.findExperiences(from, to, null)), json(store.findExperiences(from, to, null)));
+        assertEquals(json(snapshot.findExperiences(from, to, "work")), json(store.findExperiences(from, to, "work")));
+        assertEquals(json(snapshot.findEducation(from, to)), json(store.findEducation(from, to)));
+    }
+
+    @Test
+    @DisplayName("Should preserve null strings and lists")
+    void wrap_WithNullFields_PreservesNulls() throws IOException {
+        // Given
+        Project sparse = new Project(7, "Sparse", null, null, null, null, false);
+        ProfileSnapshot source = new ProfileSnapshot(List.of(), List.of(), List.of(sparse),
+                snapshot.getPersonalInfo(), snapshot.getSkills(), new StringPool());
+
+        // When
+        MappedProfileStore store = MappedProfileStore.wrap(new BinaryProfileCompiler(registry).compile(source),
+                registry);
+
+        // Then
+        Project project = store.getProject(7);
+        assertEquals("Sparse", project.getTitle());
+        assertNull(project.getDescription());
+        assertNull(project.getTechnologies());
+        assertEquals(0, store.experienceCount());
+    }
+
+    @Test
+    @DisplayName("Flyweight views should read fields without materializing records")
+    void projectView_MovedAcrossRecords_ReadsFields() throws IOException {
+        // Given
+        MappedProfileStore store = MappedProfileStore.wrap(new BinaryProfileCompiler(registry).compile(snapshot),
+                registry);
+        MappedProfileStore.ProjectView view = store.projectView();
+
+        // When & Then
+        for (int i = 0; i < store.projectCount(); i++) {
+            Project expected = snapshot.getProjects().get(i);
+            view.moveTo(i);
+            assertEquals(expected.getId(), view.getId());
+            assertEquals(expected.getTitle(), view.getTitle());
+            assertEquals(expected.isFeatured(), view.isFeatured());
+        }
+    }
+
+    @Test
+    @DisplayName("Collection lists should decode each element when read instead of keeping it")
+    void getProjects_ReadTwice_DecodesFreshRecords() throws IOException {
+        // Given
+        MappedProfileStore store = MappedProfileStore.wrap(new BinaryProfileCompiler(registry).compile(snapshot),
+                registry);
+
+        // When
+        List<Project> projects = store.getProjects();
+
+        // Then
+        assertEquals(store.projectCount(), projects.size());
+        assertNotSame(projects.get(0), projects.get(0));
+        assertEquals(projects.get(0).getTitle(), snapshot.getProjects().get(0).getTitle());
+        assertThrows(UnsupportedOperationException.class, () -> projects.add(projects.get(0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> projects.get(projects.size()));
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not binary profile files")
+    void open_WithInvalidFile_ThrowsIOException(@TempDir Path dir) throws IOException {
+        // Given
+        Path file = dir.resolve("bogus.bin");
+        Files.write(file, new byte[128]);
+
+        // When & Then
+        assertThrows(IOException.class, () -> MappedProfileStore.open(file, registry));
+    }
+
+    @Test
+    @DisplayName("A compiled file should be recognized as current only for the data it was compiled from")
+    void isCompiledFrom_WithChangedData_ReturnsFalse(@TempDir Path dir) throws IOException {
+        // Given
+        Path data = dir.resolve("data");
+        Files.createDirectories(data);
+        ProfileDataSource bundled = ProfileDataSource.classpath("data/");
+        for (String fileName : JsonProfileLoader.DATA_FILES) {
+            try (InputStream in = bundled.open(fileName)) {
+                Files.copy(in, data.resolve(fileName));
+            }
+        }
+        ProfileDataSource source = ProfileDataSource.directory(data);
+        Path file = dir.resolve("profile.bin");
+        new BinaryProfileCompiler(registry).compile(snapshot, source.fingerprint(), file);
+
+        // When
+        boolean current = MappedProfileStore.isCompiledFrom(file, source.fingerprint());
+        Files.write(data.resolve("projects.json"), "[]".getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertTrue(current);
+        assertFalse(MappedProfileStore.isCompiledFrom(file, source.fingerprint()));
+        assertFalse(MappedProfileStore.isCompiledFrom(dir.resolve("missing.bin"), source.fingerprint()));
+    }
+
+    private String json(Object value) throws IOException {
+        return registry.getObjectMapper().writeValueAsString(value);
+    }
+}
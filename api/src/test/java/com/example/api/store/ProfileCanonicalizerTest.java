@@ -0,0 +1,100 @@
+package com.example.api.store;
+
+import com.example.api.model.Experience;
+import com.example.api.model.Project;
+import com.example.api.model.Skills;
+import com.example.api.serialization.SerializationRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProfileCanonicalizer Unit Tests")
+class ProfileCanonicalizerTest {
+
+    @Test
+    @DisplayName("Should share one instance for equal technology names across entities")
+    void canonicalize_WithRepeatedTechnologies_SharesInstances() {
+        // Given
+        StringPool pool = new StringPool();
+        ProfileCanonicalizer canonicalizer = new ProfileCanonicalizer(pool);
+        Project project = new Project(1, "P", "d", List.of(new String("Java")), null, null, true);
+        Experience experience = new Experience(1, "C", "Dev", new String("Montreal"), "2024-01", "", true,
+                List.of(), List.of(new String("Java")), "work");
+
+        // When
+        project = canonicalizer.canonicalize(project);
+        experience = canonicalizer.canonicalize(experience);
+
+        // Then
+        assertSame(project.getTechnologies().get(0), experience.getTechnologies().get(0));
+        assertSame(pool.lookup("Java"), project.getTechnologies().get(0));
+        assertSame(pool.lookup("Montreal"), experience.getLocation());
+    }
+
+    @Test
+    @DisplayName("Should canonicalize skill category keys and values while keeping order")
+    void canonicalize_WithSkills_InternsCategoriesInOrder() {
+        // Given
+        StringPool pool = new StringPool();
+        Map<String, List<String>> categories = new LinkedHashMap<>();
+        categories.put("Frontend", List.of(new String("React")));
+        categories.put("Backend", List.of(new String("Java")));
+        Skills skills = new Skills(List.of(new String("Java")), categories, null);
+
+        // When
+        skills = new ProfileCanonicalizer(pool).canonicalize(skills);
+
+        // Then
+        assertEquals(List.of("Frontend", "Backend"), new ArrayList<>(skills.getCategories().keySet()));
+        assertSame(skills.getTechnicalSkills().get(0), skills.getCategories().get("Backend").get(0));
+        assertNull(skills.getProficiencyLevels());
+    }
+
+    @Test
+    @DisplayName("Loaded snapshot should hold canonical technology instances")
+    void load_WithBundledData_ProducesCanonicalStrings() throws Exception {
+        // Given
+        ProfileSnapshot snapshot = new JsonProfileLoader(new SerializationRegistry(new ObjectMapper())).load();
+
+        // When
+        String canonicalJava = snapshot.getStringPool().lookup("Java");
+
+        // Then
+        assertNotNull(canonicalJava);
+        for (Project project : snapshot.getProjects()) {
+            for (String technology : project.getTechnologies()) {
+                assertSame(snapshot.getStringPool().lookup(technology), technology);
+            }
+        }
+        assertNull(snapshot.getStringPool().lookup("Not A Technology"));
+    }
+
+    @Test
+    @DisplayName("The pool should let go of values that no entity refers to anymore")
+    void intern_WithUnreferencedValues_DropsThem() throws Exception {
+        // Given
+        StringPool pool = new StringPool();
+        String kept = pool.intern(new String("Java"));
+        for (int i = 0; i < 1000; i++) {
+            pool.intern("Replaced " + i);
+        }
+
+        // When
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pool.size() > 1 && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertEquals(1, pool.size());
+        assertSame(kept, pool.lookup("Java"));
+    }
+}
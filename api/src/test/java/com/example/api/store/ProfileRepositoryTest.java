@@ -0,0 +1,263 @@
+package com.example.api.store;
+
+import com.example.api.model.Project;
+import com.example.api.serialization.SerializationRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProfileRepository Unit Tests")
+class ProfileRepositoryTest {
+
+    @TempDir
+    Path journalDir;
+
+    private SerializationRegistry serializationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        serializationRegistry = new SerializationRegistry(new ObjectMapper());
+    }
+
+    private ProfileRepository open(int compactEvery) throws IOException {
+        ProfileSnapshot recovered = ProfileJournal.recover(journalDir, serializationRegistry,
+                ProfileDataSource.classpath("data/"));
+        return new ProfileRepository(recovered, journalDir, serializationRegistry, compactEvery, 60_000);
+    }
+
+    private static Project project(int id, String title) {
+        return new Project(id, title, "Description", List.of("Java"), null, null, false);
+    }
+
+    @Test
+    @DisplayName("Writes should be copy-on-write and leave earlier snapshots unchanged")
+    void put_LeavesPreviousSnapshotUnchanged() throws IOException {
+        // Given
+        ProfileRepository repository = new ProfileRepository(
+                new JsonProfileLoader(serializationRegistry).load());
+        ProfileStore before = repository.current();
+        int projectCount = before.getProjects().size();
+
+        // When
+        repository.put(ProfileResource.PROJECTS, 1, project(0, "Renamed"));
+
+        // Then
+        assertEquals("Renamed", repository.current().getProject(1).getTitle());
+        assertEquals(1, repository.current().getVersion());
+        assertNotEquals("Renamed", before.getProject(1).getTitle());
+        assertEquals(projectCount, repository.current().getProjects().size());
+        assertSame(before.getExperiences(), repository.current().getExperiences());
+    }
+
+    @Test
+    @DisplayName("Create should assign the next free id and reject taken ids")
+    void create_AssignsIdsAndRejectsConflicts() throws IOException {
+        // Given
+        ProfileRepository repository = new ProfileRepository(
+                new JsonProfileLoader(serializationRegistry).load());
+        int maxId = repository.current().getProjects().stream().mapToInt(Project::getId).max().orElse(0);
+
+        // When
+        Project created = repository.create(ProfileResource.PROJECTS, project(0, "New"));
+        Project conflict = repository.create(ProfileResource.PROJECTS, project(1, "Taken"));
+
+        // Then
+        assertEquals(maxId + 1, created.getId());
+        assertSame(created, repository.current().getProject(maxId + 1));
+        assertNull(conflict);
+    }
+
+    @Test
+    @DisplayName("Mapped stores should reject writes")
+    void create_OnReadOnlyStore_Throws() throws IOException {
+        // Given
+        ProfileSnapshot snapshot = new JsonProfileLoader(serializationRegistry).load();
+        ProfileRepository repository = new ProfileRepository(MappedProfileStore.wrap(
+                new BinaryProfileCompiler(serializationRegistry).compile(snapshot), serializationRegistry));
+
+        // When & Then
+        assertFalse(repository.isWritable());
+        assertThrows(UnsupportedOperationException.class,
+                () -> repository.delete(ProfileResource.PROJECTS, 1));
+    }
+
+    @Test
+    @DisplayName("Journaled writes should survive a restart")
+    void journaledWrites_AreRecoveredOnRestart() throws IOException {
+        // Given
+        try (ProfileRepository repository = open(1000)) {
+            repository.put(ProfileResource.PROJECTS, 1, project(1, "Journaled"));
+            repository.delete(ProfileResource.PROJECTS, 2);
+            repository.create(ProfileResource.PROJECTS, project(500, "Added"));
+        }
+
+        // When
+        try (ProfileRepository restarted = open(1000)) {
+            ProfileStore store = restarted.current();
+
+            // Then
+            assertEquals(3, store.getVersion());
+            assertEquals("Journaled", store.getProject(1).getTitle());
+            assertNull(store.getProject(2));
+            assertEquals("Added", store.getProject(500).getTitle());
+        }
+    }
+
+    @Test
+    @DisplayName("Compaction should replace journal segments with a snapshot")
+    void compaction_WritesSnapshotAndKeepsData() throws IOException {
+        // Given
+        try (ProfileRepository repository = open(2)) {
+            repository.put(ProfileResource.PROJECTS, 1, project(1, "First"));
+            repository.put(ProfileResource.PROJECTS, 1, project(1, "Second"));
+            repository.put(ProfileResource.PROJECTS, 1, project(1, "Third"));
+        }
+
+        // When
+        List<String> files;
+        try (Stream<Path> list = Files.list(journalDir)) {
+            files = list.map(path -> path.getFileName().toString()).toList();
+        }
+        ProfileSnapshot recovered = ProfileJournal.recover(journalDir, serializationRegistry,
+                ProfileDataSource.classpath("data/"));
+
+        // Then
+        // Compaction runs in the background, so it may have caught the third write too
+        assertTrue(files.contains("CURRENT"));
+        assertEquals(1, files.stream().filter(name -> name.startsWith("snapshot-")).count());
+        assertEquals(1, files.stream().filter(name -> name.startsWith("journal-")).count());
+        assertEquals(3, recovered.getVersion());
+        assertEquals("Third", recovered.getProject(1).getTitle());
+    }
+
+    @Test
+    @DisplayName("Writes with an id of 0 or less should be rejected so that compacted data stays loadable")
+    void put_WithNonPositiveId_IsRejectedAndRecoveryStillWorks() throws IOException {
+        // Given
+        try (ProfileRepository repository = open(2)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> repository.put(ProfileResource.PROJECTS, -1, project(-1, "Negative")));
+            assertThrows(IllegalArgumentException.class,
+                    () -> repository.put(ProfileResource.PROJECTS, 0, project(0, "Zero")));
+            repository.put(ProfileResource.PROJECTS, 1, project(1, "First"));
+            repository.put(ProfileResource.PROJECTS, 1, project(1, "Second"));
+        }
+
+        // When
+        ProfileSnapshot recovered = ProfileJournal.recover(journalDir, serializationRegistry,
+                ProfileDataSource.classpath("data/"));
+
+        // Then
+        assertTrue(Files.exists(journalDir.resolve("snapshot-2")));
+        assertEquals(2, recovered.getVersion());
+        assertEquals("Second", recovered.getProject(1).getTitle());
+        assertNull(recovered.getProject(-1));
+    }
+
+    @Test
+    @DisplayName("Recovery should ignore a torn final journal entry")
+    void recover_WithTornTail_IgnoresPartialEntry() throws IOException {
+        // Given
+        try (ProfileRepository repository = open(1000)) {
+            repository.put(ProfileResource.PROJECTS, 1, project(1, "Durable"));
+        }
+        Path segment;
+        try (Stream<Path> list = Files.list(journalDir)) {
+            segment = list.filter(path -> path.getFileName().toString().startsWith("journal-")).findFirst()
+                    .orElseThrow();
+        }
+        Files.write(segment, "{\"version\":2,\"type\":\"UPS".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        // When
+        ProfileSnapshot recovered = ProfileJournal.recover(journalDir, serializationRegistry,
+                ProfileDataSource.classpath("data/"));
+
+        // Then
+        assertEquals(1, recovered.getVersion());
+        assertEquals("Durable", recovered.getProject(1).getTitle());
+    }
+
+    @Test
+    @DisplayName("A failed journal write should not be published, and the journal should reopen for later writes")
+    void put_WhenJournalWriteFails_IsNotPublishedAndJournalReopens() throws IOException {
+        // Given
+        ProfileSnapshot initial = ProfileJournal.recover(journalDir, serializationRegistry,
+                ProfileDataSource.classpath("data/"));
+        AtomicBoolean failing = new AtomicBoolean();
+        ProfileJournal journal = new ProfileJournal(journalDir, serializationRegistry, initial, 1000, 60_000) {
+            @Override
+            void append(ByteBuffer buffer) throws IOException {
+                if (failing.get()) {
+                    // A partly written batch, as a full disk would leave it
+                    buffer.limit(buffer.position() + 10);
+                    super.append(buffer);
+                    throw new IOException("No space left on device");
+                }
+                super.append(buffer);
+            }
+        };
+        try (ProfileRepository repository = new ProfileRepository(initial, journal)) {
+            repository.put(ProfileResource.PROJECTS, 1, project(1, "Durable"));
+
+            // When
+            failing.set(true);
+            assertThrows(IOException.class, () -> repository.put(ProfileResource.PROJECTS, 1, project(1, "Lost")));
+            ProfileStore afterFailure = repository.current();
+            failing.set(false);
+            repository.put(ProfileResource.PROJECTS, 2, project(2, "After"));
+
+            // Then
+            assertEquals(1, afterFailure.getVersion());
+            assertEquals("Durable", afterFailure.getProject(1).getTitle());
+            assertEquals(2, repository.current().getVersion());
+        }
+        ProfileSnapshot recovered = ProfileJournal.recover(journalDir, serializationRegistry,
+                ProfileDataSource.classpath("data/"));
+        assertEquals(2, recovered.getVersion());
+        assertEquals("Durable", recovered.getProject(1).getTitle());
+        assertEquals("After", recovered.getProject(2).getTitle());
+    }
+
+    @Test
+    @DisplayName("Concurrent writers should all be committed")
+    void concurrentWrites_AreAllDurable() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (ProfileRepository repository = open(1000)) {
+            List<Future<Project>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                int id = 1000 + i;
+                futures.add(executor.submit(() -> repository.put(ProfileResource.PROJECTS, id, project(id, "P"))));
+            }
+            for (Future<Project> future : futures) {
+                future.get();
+            }
+
+            // Then
+            assertEquals(64, repository.current().getVersion());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(64, ProfileJournal.recover(journalDir, serializationRegistry,
+                ProfileDataSource.classpath("data/")).getVersion());
+    }
+}
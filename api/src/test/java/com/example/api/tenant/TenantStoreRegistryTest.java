@@ -0,0 +1,172 @@
+package com.example.api.tenant;
+
+import com.example.api.serialization.SerializationRegistry;
+import com.example.api.service.ProfileService;
+import com.example.api.store.JsonProfileLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TenantStoreRegistry Unit Tests")
+class TenantStoreRegistryTest {
+
+    @TempDir
+    Path root;
+
+    private SerializationRegistry serializationRegistry;
+    private long tenantWeight;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serializationRegistry = new SerializationRegistry(new ObjectMapper());
+        for (String tenant : List.of("alpha", "beta", "gamma")) {
+            Path dir = Files.createDirectories(root.resolve(tenant));
+            tenantWeight = 0;
+            for (String file : JsonProfileLoader.DATA_FILES) {
+                try (InputStream in = new ClassPathResource("data/" + file).getInputStream()) {
+                    tenantWeight += Files.copy(in, dir.resolve(file));
+                }
+            }
+        }
+    }
+
+    private TenantStoreRegistry registry(long maxWeight) {
+        return registry(maxWeight, 0);
+    }
+
+    private TenantStoreRegistry registry(long maxWeight, long failureTtlMillis) {
+        return new TenantStoreRegistry(serializationRegistry, root.toString(), maxWeight, failureTtlMillis);
+    }
+
+    @Test
+    @DisplayName("Should load a tenant on first access and reuse it afterwards")
+    void get_CalledTwice_LoadsOnce() throws IOException {
+        // Given
+        TenantStoreRegistry registry = registry(Long.MAX_VALUE);
+
+        // When
+        ProfileService first = registry.get("alpha");
+        ProfileService second = registry.get("alpha");
+
+        // Then
+        assertNotNull(first);
+        assertSame(first, second);
+        assertFalse(first.getProjects().isEmpty());
+        assertEquals(1L, registry.stats().get("loads"));
+        assertEquals(1L, registry.stats().get("hits"));
+    }
+
+    @Test
+    @DisplayName("Should return null for unknown or malformed tenant ids")
+    void get_WithUnknownTenant_ReturnsNull() throws IOException {
+        // Given
+        TenantStoreRegistry registry = registry(Long.MAX_VALUE);
+
+        // When & Then
+        assertNull(registry.get("missing"));
+        assertNull(registry.get("../alpha"));
+        assertNull(registry.get("Alpha"));
+        assertEquals(0L, registry.stats().get("loads"));
+    }
+
+    @Test
+    @DisplayName("Concurrent first hits should share a single load")
+    void get_WithConcurrentFirstHits_LoadsOnce() throws Exception {
+        // Given
+        TenantStoreRegistry registry = registry(Long.MAX_VALUE);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ProfileService>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 16; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return registry.get("beta");
+            }));
+        }
+        start.countDown();
+        ProfileService expected = results.get(0).get();
+        for (Future<ProfileService> result : results) {
+            assertSame(expected, result.get());
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(1L, registry.stats().get("loads"));
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used tenant when over budget")
+    void get_OverBudget_EvictsLeastRecentlyUsed() throws IOException {
+        // Given
+        TenantStoreRegistry registry = registry(tenantWeight * 2);
+        registry.get("alpha");
+        registry.get("beta");
+        registry.get("alpha");
+
+        // When
+        registry.get("gamma");
+
+        // Then
+        assertEquals(1L, registry.stats().get("evictions"));
+        assertEquals(2L, registry.stats().get("loadedTenants"));
+        assertEquals(tenantWeight * 2, registry.stats().get("weightBytes"));
+        registry.get("alpha");
+        assertEquals(3L, registry.stats().get("loads"));
+        registry.get("beta");
+        assertEquals(4L, registry.stats().get("loads"));
+    }
+
+    @Test
+    @DisplayName("Without a failure TTL, failed loads should be retried by the next request")
+    void get_WithBrokenData_ThrowsAndRetries() throws IOException {
+        // Given
+        Files.writeString(root.resolve("alpha").resolve("projects.json"), "{not json");
+        TenantStoreRegistry registry = registry(Long.MAX_VALUE);
+
+        // When & Then
+        assertThrows(IOException.class, () -> registry.get("alpha"));
+        assertThrows(IOException.class, () -> registry.get("alpha"));
+        assertEquals(2L, registry.stats().get("loads"));
+        assertEquals(0L, registry.stats().get("weightBytes"));
+    }
+
+    @Test
+    @DisplayName("A failed load should be remembered for the failure TTL, then retried")
+    void get_WithBrokenDataAndFailureTtl_CachesFailureBriefly() throws Exception {
+        // Given
+        Path projects = root.resolve("alpha").resolve("projects.json");
+        String valid = Files.readString(projects);
+        Files.writeString(projects, "{not json");
+        TenantStoreRegistry registry = registry(Long.MAX_VALUE, 200);
+
+        // When & Then
+        assertThrows(IOException.class, () -> registry.get("alpha"));
+        Files.writeString(projects, valid);
+        assertThrows(IOException.class, () -> registry.get("alpha"));
+        assertEquals(1L, registry.stats().get("loads"));
+        assertEquals(1L, registry.stats().get("failedTenants"));
+
+        Thread.sleep(250);
+        assertNotNull(registry.get("alpha"));
+        assertEquals(2L, registry.stats().get("loads"));
+        assertEquals(0L, registry.stats().get("failedTenants"));
+    }
+}
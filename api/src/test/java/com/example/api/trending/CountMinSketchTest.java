@@ -0,0 +1,29 @@
+package com.example.api.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CountMinSketch Unit Tests")
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("Keys with equal hashCodes should not share their counts")
+    void estimate_WithCollidingHashCodes_CountsKeysSeparately() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            sketch.add("Aa");
+        }
+        sketch.add(7L);
+
+        // Then
+        assertEquals(100, sketch.estimate("Aa"));
+        assertEquals(0, sketch.estimate("BB"));
+        assertEquals(1, sketch.estimate(7L));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.api.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SlidingTopK Unit Tests")
+class SlidingTopKTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private SlidingTopK<Integer> topK(int capacity) {
+        return new SlidingTopK<>(4, 1000, capacity, 512, 4, now::get);
+    }
+
+    @Test
+    @DisplayName("Heavy hitters should be ranked first among many rare keys")
+    void top_WithLongTail_FindsHeavyHitters() {
+        // Given
+        SlidingTopK<Integer> topK = topK(16);
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            topK.record(100_000 + i);
+            if (i % 10 == 0) {
+                topK.record(1);
+            }
+            if (i % 20 == 0) {
+                topK.record(2);
+            }
+        }
+        Map<Integer, Long> top = topK.top(2, 4);
+
+        // Then
+        assertEquals(List.of(1, 2), new ArrayList<>(top.keySet()));
+        assertTrue(top.get(1) >= 2000, "Count-min estimates never undercount");
+    }
+
+    @Test
+    @DisplayName("Keys should leave the ranking once their buckets fall out of the window")
+    void top_AfterWindowPasses_ForgetsOldKeys() {
+        // Given
+        SlidingTopK<Integer> topK = topK(8);
+        for (int i = 0; i < 5; i++) {
+            topK.record(7);
+        }
+
+        // When
+        now.set(2500);
+        topK.record(8);
+        Map<Integer, Long> recent = topK.top(5, 1);
+        Map<Integer, Long> whole = topK.top(5, 4);
+        now.set(10_000);
+        Map<Integer, Long> later = topK.top(5, 4);
+
+        // Then
+        assertEquals(Map.of(8, 1L), recent);
+        assertEquals(5L, whole.get(7));
+        assertTrue(later.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Counts of a key should be summed across buckets")
+    void top_AcrossBuckets_SumsEstimates() {
+        // Given
+        SlidingTopK<Integer> topK = topK(8);
+
+        // When
+        topK.record(3);
+        now.set(1000);
+        topK.record(3);
+        now.set(2000);
+        topK.record(3);
+
+        // Then
+        assertEquals(3L, topK.top(1, 4).get(3));
+        assertEquals(2L, topK.top(1, 2).get(3));
+    }
+}
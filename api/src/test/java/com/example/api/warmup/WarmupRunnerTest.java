@@ -0,0 +1,75 @@
+package com.example.api.warmup;
+
+import com.example.api.engagement.EngagementTracker;
+import com.example.api.store.ProfileResource;
+import com.example.api.trending.TrendingTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"profile.engagement.file=", "api.warmup.max-duration-ms=5000",
+                "api.warmup.requests-per-round=5"})
+@DisplayName("WarmupRunner Tests")
+class WarmupRunnerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Autowired
+    private EngagementTracker engagementTracker;
+
+    @Autowired
+    private TrendingTracker trendingTracker;
+
+    @Test
+    @DisplayName("routes should cover read endpoints with real ids and no write endpoints")
+    void routes_WithLoadedData_FillsIdsAndSkipsWrites() {
+        // When
+        List<String> paths = warmupRunner.routes("http://localhost:" + port).stream()
+                .map(URI::getPath).collect(Collectors.toList());
+
+        // Then
+        assertTrue(paths.contains("/api/health"));
+        assertTrue(paths.contains("/api/profile/projects"));
+        assertTrue(paths.stream().anyMatch(path -> path.matches("/api/profile/projects/\\d+")));
+        assertTrue(paths.stream().noneMatch(path -> path.contains("{")));
+        assertTrue(paths.stream().noneMatch(path -> path.startsWith("/api/admin")));
+    }
+
+    @Test
+    @DisplayName("Startup warmup should send requests without recording engagement or trends")
+    void run_AtStartup_SendsRequestsWithoutTracking() {
+        // Then
+        assertTrue(warmupRunner.stats().get("rounds") >= 1);
+        assertTrue(warmupRunner.stats().get("requests") > 0);
+        assertEquals(0L, warmupRunner.stats().get("failures"));
+        assertTrue(engagementTracker.top(ProfileResource.PROJECTS, 10).isEmpty());
+        assertTrue(trendingTracker.topSearchTerms(10, trendingTracker.windowMinutes()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Every warmed route should answer with a 2xx status")
+    void request_EveryRoute_ReturnsSuccess() throws Exception {
+        // Given
+        HttpClient client = HttpClient.newHttpClient();
+
+        // When & Then
+        for (URI route : warmupRunner.routes("http://localhost:" + port)) {
+            int status = warmupRunner.request(client, route);
+            assertEquals(2, status / 100, route + " returned " + status);
+        }
+    }
+}
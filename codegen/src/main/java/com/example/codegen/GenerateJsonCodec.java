@@ -0,0 +1,19 @@
+package com.example.codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate a reflection-free Jackson serializer and deserializer for a model class.
+ *
+ * <p>The class needs a {@code @JsonCreator} constructor whose parameters are all named with
+ * {@code @JsonProperty}, and a {@code get}/{@code is} getter per parameter. For each annotated
+ * class {@link JsonCodecProcessor} writes {@code <Name>JsonCodec} next to it, plus one
+ * {@code JsonCodecModule} per package registering the codecs with an ObjectMapper.</p>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateJsonCodec {
+}
@@ -0,0 +1,521 @@
+package com.example.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Writes a Jackson codec for every class annotated with {@link GenerateJsonCodec}.
+ *
+ * <p>The generated serializer writes each property with a pre-encoded field name straight to the
+ * {@code JsonGenerator}, in the order Jackson itself uses for creator-based classes (constructor
+ * order). The generated deserializer reads properties into locals and calls the constructor.
+ * Strings, primitives, lists of strings and other annotated types are handled inline; any other
+ * property type is delegated to Jackson's standard (non-bean) deserializers.</p>
+ */
+@SupportedAnnotationTypes("com.example.codegen.GenerateJsonCodec")
+public class JsonCodecProcessor extends AbstractProcessor {
+
+    private static final String JSON_CREATOR = "com.fasterxml.jackson.annotation.JsonCreator";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        List<TypeElement> types = new ArrayList<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateJsonCodec.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@GenerateJsonCodec applies to classes only");
+            } else {
+                types.add((TypeElement) element);
+            }
+        }
+        if (types.isEmpty()) {
+            return false;
+        }
+        Map<String, String> codecs = new LinkedHashMap<>();
+        for (TypeElement type : types) {
+            codecs.put(type.getQualifiedName().toString(), codecName(type));
+        }
+        Map<String, List<TypeElement>> byPackage = new TreeMap<>();
+        for (TypeElement type : types) {
+            List<Property> properties = properties(type);
+            if (properties == null) {
+                continue;
+            }
+            writeCodec(type, properties, codecs);
+            byPackage.computeIfAbsent(packageOf(type), key -> new ArrayList<>()).add(type);
+        }
+        for (Map.Entry<String, List<TypeElement>> entry : byPackage.entrySet()) {
+            writeModule(entry.getKey(), entry.getValue());
+        }
+        return true;
+    }
+
+    private List<Property> properties(TypeElement type) {
+        ExecutableElement creator = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (annotation(constructor, JSON_CREATOR) != null) {
+                creator = constructor;
+            }
+        }
+        if (creator == null || !creator.getModifiers().contains(Modifier.PUBLIC)) {
+            error(type, "@GenerateJsonCodec needs a public @JsonCreator constructor");
+            return null;
+        }
+        List<Property> properties = new ArrayList<>();
+        for (VariableElement parameter : creator.getParameters()) {
+            AnnotationMirror jsonProperty = annotation(parameter, JSON_PROPERTY);
+            String name = jsonProperty == null ? null : stringValue(jsonProperty);
+            if (name == null || name.isEmpty()) {
+                error(parameter, "@GenerateJsonCodec needs every creator parameter named with @JsonProperty");
+                return null;
+            }
+            ExecutableElement getter = getter(type, name);
+            if (getter == null) {
+                error(parameter, "No getter for property " + name);
+                return null;
+            }
+            properties.add(new Property(name, parameter.asType(), getter));
+        }
+        return properties;
+    }
+
+    private void writeCodec(TypeElement type, List<Property> properties, Map<String, String> codecs) {
+        String packageName = packageOf(type);
+        String codec = codecName(type);
+        String target = type.getQualifiedName().toString();
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(qualify(packageName, codec), type).openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("import com.fasterxml.jackson.core.JsonGenerator;");
+            out.println("import com.fasterxml.jackson.core.JsonParser;");
+            out.println("import com.fasterxml.jackson.core.JsonToken;");
+            out.println("import com.fasterxml.jackson.core.io.SerializedString;");
+            out.println("import com.fasterxml.jackson.core.type.TypeReference;");
+            out.println("import com.fasterxml.jackson.databind.DeserializationContext;");
+            out.println("import com.fasterxml.jackson.databind.SerializerProvider;");
+            out.println("import com.fasterxml.jackson.databind.deser.std.StdDeserializer;");
+            out.println("import com.fasterxml.jackson.databind.ser.std.StdSerializer;");
+            out.println();
+            out.println("import javax.annotation.processing.Generated;");
+            out.println("import java.io.IOException;");
+            out.println("import java.util.ArrayList;");
+            out.println("import java.util.List;");
+            out.println();
+            out.println("/**");
+            out.println(" * Reflection-free JSON codec for {@link " + target + "}.");
+            out.println(" */");
+            out.println("@Generated(\"" + JsonCodecProcessor.class.getName() + "\")");
+            out.println("public final class " + codec + " {");
+            out.println();
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                out.println("    private static final SerializedString " + fieldName(property)
+                        + " = new SerializedString(\"" + property.name + "\");");
+                if (kind(property.type, codecs) == Kind.OTHER) {
+                    out.println("    private static final TypeReference<" + property.type + "> " + typeName(property)
+                            + " = new TypeReference<>() {");
+                    out.println("    };");
+                }
+            }
+            out.println();
+            out.println("    private " + codec + "() {");
+            out.println("    }");
+            out.println();
+            writeWrite(out, target, properties, codecs);
+            out.println();
+            writeRead(out, target, properties, codecs);
+            out.println();
+            out.println("    public static final class Serializer extends StdSerializer<" + target + "> {");
+            out.println("        public Serializer() {");
+            out.println("            super(" + target + ".class);");
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.println("        public void serialize(" + target + " value, JsonGenerator gen, SerializerProvider provider)");
+            out.println("                throws IOException {");
+            out.println("            write(value, gen, provider);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("    public static final class Deserializer extends StdDeserializer<" + target + "> {");
+            out.println("        public Deserializer() {");
+            out.println("            super(" + target + ".class);");
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.println("        public " + target + " deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {");
+            out.println("            return read(p, ctxt);");
+            out.println("        }");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeWrite(PrintWriter out, String target, List<Property> properties, Map<String, String> codecs) {
+        out.println("    public static void write(" + target + " value, JsonGenerator gen, SerializerProvider provider)");
+        out.println("            throws IOException {");
+        out.println("        gen.writeStartObject(value);");
+        for (Property property : properties) {
+            String getter = "value." + property.getter.getSimpleName() + "()";
+            out.println("        gen.writeFieldName(" + fieldName(property) + ");");
+            switch (kind(property.type, codecs)) {
+                case INT:
+                case LONG:
+                case DOUBLE:
+                    out.println("        gen.writeNumber(" + getter + ");");
+                    break;
+                case BOOLEAN:
+                    out.println("        gen.writeBoolean(" + getter + ");");
+                    break;
+                case STRING:
+                    // writeString(null) writes a null token
+                    out.println("        gen.writeString(" + getter + ");");
+                    break;
+                case STRING_LIST:
+                case CODEC_LIST:
+                    String list = local(property);
+                    String element = element(property.type).toString();
+                    out.println("        List<" + element + "> " + list + " = " + getter + ";");
+                    out.println("        if (" + list + " == null) {");
+                    out.println("            gen.writeNull();");
+                    out.println("        } else {");
+                    out.println("            gen.writeStartArray(" + list + ", " + list + ".size());");
+                    out.println("            for (" + element + " item : " + list + ") {");
+                    if (kind(property.type, codecs) == Kind.STRING_LIST) {
+                        out.println("                gen.writeString(item);");
+                    } else {
+                        writeNullable(out, "                ", "item",
+                                codecs.get(element) + ".write(item, gen, provider);");
+                    }
+                    out.println("            }");
+                    out.println("            gen.writeEndArray();");
+                    out.println("        }");
+                    break;
+                case CODEC:
+                    String nested = local(property);
+                    out.println("        " + property.type + " " + nested + " = " + getter + ";");
+                    writeNullable(out, "        ", nested,
+                            codecs.get(property.type.toString()) + ".write(" + nested + ", gen, provider);");
+                    break;
+                default:
+                    out.println("        provider.defaultSerializeValue(" + getter + ", gen);");
+            }
+        }
+        out.println("        gen.writeEndObject();");
+        out.println("    }");
+    }
+
+    private void writeRead(PrintWriter out, String target, List<Property> properties, Map<String, String> codecs) {
+        out.println("    public static " + target + " read(JsonParser p, DeserializationContext ctxt) throws IOException {");
+        for (Property property : properties) {
+            out.println("        " + property.type + " " + local(property) + " = " + defaultValue(property.type) + ";");
+        }
+        out.println("        JsonToken token = p.currentToken();");
+        out.println("        if (token == JsonToken.START_OBJECT) {");
+        out.println("            token = p.nextToken();");
+        out.println("        }");
+        out.println("        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {");
+        out.println("            String name = p.currentName();");
+        out.println("            JsonToken value = p.nextToken();");
+        out.println("            switch (name) {");
+        for (Property property : properties) {
+            String local = local(property);
+            out.println("                case \"" + property.name + "\":");
+            switch (kind(property.type, codecs)) {
+                case INT:
+                    out.println("                    " + local + " = value == JsonToken.VALUE_NUMBER_INT ? p.getIntValue()");
+                    out.println("                            : ctxt.readValue(p, Integer.TYPE);");
+                    break;
+                case LONG:
+                    out.println("                    " + local + " = value == JsonToken.VALUE_NUMBER_INT ? p.getLongValue()");
+                    out.println("                            : ctxt.readValue(p, Long.TYPE);");
+                    break;
+                case DOUBLE:
+                    out.println("                    " + local + " = ctxt.readValue(p, Double.TYPE);");
+                    break;
+                case BOOLEAN:
+                    out.println("                    " + local + " = value == JsonToken.VALUE_TRUE || value == JsonToken.VALUE_FALSE");
+                    out.println("                            ? p.getBooleanValue() : ctxt.readValue(p, Boolean.TYPE);");
+                    break;
+                case STRING:
+                    out.println("                    " + local + " = readString(p, ctxt, value);");
+                    break;
+                case STRING_LIST:
+                case CODEC_LIST:
+                    String element = element(property.type).toString();
+                    boolean strings = kind(property.type, codecs) == Kind.STRING_LIST;
+                    out.println("                    if (value == JsonToken.START_ARRAY) {");
+                    out.println("                        " + local + " = new ArrayList<>();");
+                    out.println("                        for (JsonToken item = p.nextToken(); item != JsonToken.END_ARRAY; item = p.nextToken()) {");
+                    out.println("                            " + local + ".add(" + (strings ? "readString(p, ctxt, item)"
+                            : "item == JsonToken.VALUE_NULL ? null : " + codecs.get(element) + ".read(p, ctxt)") + ");");
+                    out.println("                        }");
+                    out.println("                    } else if (value != JsonToken.VALUE_NULL) {");
+                    out.println("                        " + local + " = ctxt.readValue(p, ctxt.getTypeFactory()");
+                    out.println("                                .constructCollectionType(List.class, " + element + ".class));");
+                    out.println("                    }");
+                    break;
+                case CODEC:
+                    out.println("                    " + local + " = value == JsonToken.VALUE_NULL ? null : "
+                            + codecs.get(property.type.toString()) + ".read(p, ctxt);");
+                    break;
+                default:
+                    out.println("                    " + local + " = value == JsonToken.VALUE_NULL ? null");
+                    out.println("                            : ctxt.readValue(p, ctxt.getTypeFactory().constructType("
+                            + typeName(property) + "));");
+            }
+            out.println("                    break;");
+        }
+        out.println("                default:");
+        out.println("                    ctxt.handleUnknownProperty(p, null, " + target + ".class, name);");
+        out.println("            }");
+        out.println("        }");
+        StringBuilder arguments = new StringBuilder();
+        for (Property property : properties) {
+            if (arguments.length() > 0) {
+                arguments.append(", ");
+            }
+            arguments.append(local(property));
+        }
+        out.println("        return new " + target + "(" + arguments + ");");
+        out.println("    }");
+        out.println();
+        out.println("    private static String readString(JsonParser p, DeserializationContext ctxt, JsonToken token)");
+        out.println("            throws IOException {");
+        out.println("        if (token == JsonToken.VALUE_STRING) {");
+        out.println("            return p.getText();");
+        out.println("        }");
+        out.println("        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, String.class);");
+        out.println("    }");
+    }
+
+    private void writeModule(String packageName, List<TypeElement> types) {
+        Element[] origins = types.toArray(new Element[0]);
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(qualify(packageName, "JsonCodecModule"), origins).openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("import com.fasterxml.jackson.databind.module.SimpleModule;");
+            out.println();
+            out.println("import javax.annotation.processing.Generated;");
+            out.println();
+            out.println("/**");
+            out.println(" * Registers the generated JSON codecs of this package.");
+            out.println(" */");
+            out.println("@Generated(\"" + JsonCodecProcessor.class.getName() + "\")");
+            out.println("public final class JsonCodecModule extends SimpleModule {");
+            out.println();
+            out.println("    public JsonCodecModule() {");
+            out.println("        super(\"" + qualify(packageName, "JsonCodecModule") + "\");");
+            for (TypeElement type : types) {
+                String target = type.getQualifiedName().toString();
+                String codec = codecName(type);
+                out.println("        addSerializer(" + target + ".class, new " + codec + ".Serializer());");
+                out.println("        addDeserializer(" + target + ".class, new " + codec + ".Deserializer());");
+            }
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullable(PrintWriter out, String indent, String variable, String statement) {
+        out.println(indent + "if (" + variable + " == null) {");
+        out.println(indent + "    gen.writeNull();");
+        out.println(indent + "} else {");
+        out.println(indent + "    " + statement);
+        out.println(indent + "}");
+    }
+
+    private Kind kind(TypeMirror type, Map<String, String> codecs) {
+        switch (type.getKind()) {
+            case INT:
+            case SHORT:
+            case BYTE:
+                return Kind.INT;
+            case LONG:
+                return Kind.LONG;
+            case DOUBLE:
+            case FLOAT:
+                return Kind.DOUBLE;
+            case BOOLEAN:
+                return Kind.BOOLEAN;
+            case DECLARED:
+                break;
+            default:
+                return Kind.OTHER;
+        }
+        String name = erasure(type);
+        if (name.equals("java.lang.String")) {
+            return Kind.STRING;
+        }
+        if (codecs.containsKey(name)) {
+            return Kind.CODEC;
+        }
+        if (name.equals("java.util.List") && ((DeclaredType) type).getTypeArguments().size() == 1) {
+            TypeMirror element = element(type);
+            if (element.getKind() == TypeKind.DECLARED) {
+                String elementName = erasure(element);
+                if (elementName.equals("java.lang.String")) {
+                    return Kind.STRING_LIST;
+                }
+                if (codecs.containsKey(elementName)) {
+                    return Kind.CODEC_LIST;
+                }
+            }
+        }
+        return Kind.OTHER;
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private static TypeMirror element(TypeMirror listType) {
+        return ((DeclaredType) listType).getTypeArguments().get(0);
+    }
+
+    private static String defaultValue(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "false";
+            case INT:
+            case SHORT:
+            case BYTE:
+            case LONG:
+            case DOUBLE:
+            case FLOAT:
+                return "0";
+            default:
+                return "null";
+        }
+    }
+
+    private static ExecutableElement getter(TypeElement type, String property) {
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String name = method.getSimpleName().toString();
+            if (method.getParameters().isEmpty() && method.getModifiers().contains(Modifier.PUBLIC)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && (name.equals("get" + suffix)
+                    || name.equals("is" + suffix) && method.getReturnType().getKind() == TypeKind.BOOLEAN)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static AnnotationMirror annotation(Element element, String type) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().toString().equals(type)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String stringValue(AnnotationMirror mirror) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return entry.getValue().getValue().toString();
+            }
+        }
+        return null;
+    }
+
+    private static String packageOf(TypeElement type) {
+        Element element = type;
+        while (!(element instanceof PackageElement)) {
+            element = element.getEnclosingElement();
+        }
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+
+    /**
+     * Name of the codec class: nested classes are flattened, e.g. {@code PersonalInfo_ContactJsonCodec}.
+     */
+    private static String codecName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element outer = type.getEnclosingElement(); outer instanceof TypeElement;
+             outer = outer.getEnclosingElement()) {
+            name.insert(0, outer.getSimpleName() + "_");
+        }
+        return name.append("JsonCodec").toString();
+    }
+
+    private static String qualify(String packageName, String simpleName) {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    private static String fieldName(Property property) {
+        return "FIELD_" + constantCase(property.name);
+    }
+
+    private static String typeName(Property property) {
+        return "TYPE_" + constantCase(property.name);
+    }
+
+    private static String local(Property property) {
+        return "_" + property.name;
+    }
+
+    private static String constantCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private enum Kind {
+        INT, LONG, DOUBLE, BOOLEAN, STRING, STRING_LIST, CODEC, CODEC_LIST, OTHER
+    }
+
+    private static final class Property {
+        private final String name;
+        private final TypeMirror type;
+        private final ExecutableElement getter;
+
+        private Property(String name, TypeMirror type, ExecutableElement getter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+        }
+    }
+}